@@ -0,0 +1,124 @@
+// Package declaration → groups related classes together.
+package com.springboot.address_service.configuration;
+
+import io.micrometer.tracing.exporter.FinishedSpan; // One recorded span (ids, name, timing, tags).
+import io.micrometer.tracing.exporter.SpanReporter; // Receives every finished, sampled span.
+import tools.jackson.databind.json.JsonMapper;      // Spring Boot's configured JSON mapper.
+
+import java.io.BufferedOutputStream;          // Buffers the small writes of one line.
+import java.io.IOException;                   // File errors.
+import java.io.OutputStream;                  // The open span file.
+import java.io.UncheckedIOException;          // IOException without a throws clause.
+import java.nio.file.Files;                   // Opens, sizes and rotates the file.
+import java.nio.file.Path;                    // Target file.
+import java.nio.file.StandardCopyOption;      // Rotation replaces the oldest file.
+import java.nio.file.StandardOpenOption;      // Create + append.
+import java.time.Instant;                     // Span start / end.
+import java.time.temporal.ChronoUnit;         // Microsecond precision.
+import java.util.Map;                         // Span tags.
+
+// Same span file as in the Employee Service (the services share no code): one JSON line per recorded
+// span, written by the batch span processor thread, rotated at maxSize (maxHistory files kept).
+// parentId of the server spans points at the employee-service client span (same trace id).
+public class FileSpanReporter implements SpanReporter {
+
+    private final Path path;
+    private final long maxSize;
+    private final int maxHistory;
+    private final JsonMapper jsonMapper;
+    private OutputStream out;
+    private long size;
+
+    public FileSpanReporter(Path path, long maxSize, int maxHistory, JsonMapper jsonMapper) {
+        if (maxSize < 1 || maxHistory < 0) {
+            throw new IllegalArgumentException("Span file needs max-size >= 1 and max-history >= 0, was "
+                    + maxSize + " / " + maxHistory);
+        }
+        this.path = path;
+        this.maxSize = maxSize;
+        this.maxHistory = maxHistory;
+        this.jsonMapper = jsonMapper;
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            open();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open span file " + path, e);
+        }
+    }
+
+    // One line per span; flushed at once so a crash loses at most the spans still queued in the processor.
+    @Override
+    public synchronized void report(FinishedSpan span) {
+        try {
+            byte[] line = jsonMapper.writeValueAsBytes(SpanLine.of(span));
+            if (size > 0 && size + line.length + 1 > maxSize) {
+                rotate();
+            }
+            out.write(line);
+            out.write('\n');
+            out.flush();
+            size += line.length + 1;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write span " + span.getSpanId(), e);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        out.close();
+    }
+
+    private void open() throws IOException {
+        out = new BufferedOutputStream(Files.newOutputStream(path, StandardOpenOption.CREATE, StandardOpenOption.APPEND));
+        size = Files.size(path);
+    }
+
+    // <path>.(n-1) → <path>.n, ..., <path> → <path>.1; maxHistory = 0 → the full file is just dropped.
+    private void rotate() throws IOException {
+        out.close();
+        if (maxHistory == 0) {
+            Files.delete(path);
+        } else {
+            for (int i = maxHistory - 1; i >= 1; i--) {
+                Path older = rotated(i);
+                if (Files.exists(older)) {
+                    Files.move(older, rotated(i + 1), StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+            Files.move(path, rotated(1), StandardCopyOption.REPLACE_EXISTING);
+        }
+        open();
+    }
+
+    private Path rotated(int index) {
+        return path.resolveSibling(path.getFileName() + "." + index);
+    }
+
+    // ================================
+    // Line format
+    // ================================
+    // Times in microseconds since the epoch → easy to sort and subtract in jq / pandas.
+    record SpanLine(String traceId, String spanId, String parentId, String name, String kind,
+                    String localService, String remoteService, long startMicros, long durationMicros,
+                    String error, Map<String, String> tags) {
+
+        static SpanLine of(FinishedSpan span) {
+            Instant start = span.getStartTimestamp();
+            return new SpanLine(
+                    span.getTraceId(),
+                    span.getSpanId(),
+                    span.getParentId(),
+                    span.getName(),
+                    span.getKind() != null ? span.getKind().name() : null,
+                    span.getLocalServiceName(),
+                    span.getRemoteServiceName(),
+                    ChronoUnit.MICROS.between(Instant.EPOCH, start),
+                    ChronoUnit.MICROS.between(start, span.getEndTimestamp()),
+                    span.getError() != null ? span.getError().toString() : null,
+                    span.getTags());
+        }
+    }
+}
@@ -0,0 +1,77 @@
+// Package declaration → groups related classes together.
+package com.springboot.address_service.configuration;
+
+import jakarta.persistence.EntityManagerFactory;                    // Hibernate's schema must exist first.
+import lombok.extern.slf4j.Slf4j;                                   // Lombok → generates a "log" field.
+import org.springframework.boot.ApplicationArguments;               // Arguments of ApplicationRunner.run (unused).
+import org.springframework.boot.ApplicationRunner;                  // Runs once after startup.
+import org.springframework.dao.DuplicateKeyException;               // Another instance inserted the row first.
+import org.springframework.jdbc.core.JdbcTemplate;                  // Plain SQL.
+import org.springframework.stereotype.Component;                    // Marks this class as a Spring-managed bean.
+import org.springframework.transaction.PlatformTransactionManager;  // JPA transaction manager.
+import org.springframework.transaction.support.TransactionTemplate; // One committed transaction per write.
+
+import java.util.function.IntSupplier; // One write (rows changed).
+
+// @Component → Same id generator alignment as in the Employee Service (the services share no code):
+// at startup next_val of the "address" segment is moved up to MAX(address.id) (never down), each write
+// in its own committed transaction.
+@Slf4j
+@Component
+public class IdGeneratorAlignment implements ApplicationRunner {
+
+    private static final String SEGMENT = "address"; // pkColumnValue of @TableGenerator on Address.id.
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transaction;
+
+    public IdGeneratorAlignment(EntityManagerFactory entityManagerFactory, JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        // Deferred JPA bootstrap (faststart profile) → blocks until Hibernate created / checked the tables.
+        entityManagerFactory.getMetamodel();
+
+        // Step 1: Highest id in use.
+        Integer maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM address", Integer.class);
+
+        // Step 2: Move the generator up to it (no-op when it is already there or beyond).
+        int moved = inTransaction(() -> moveUp(maxId));
+        if (moved == 0 && maxId > 0 && !segmentExists()) {
+            // Step 3: No generator row yet (Hibernate creates it on the first insert) → create it at MAX(id).
+            try {
+                moved = inTransaction(() -> jdbcTemplate.update(
+                        "INSERT INTO id_generator (sequence_name, next_val) VALUES (?, ?)", SEGMENT, maxId));
+            } catch (DuplicateKeyException e) {
+                // Another instance (or Hibernate) was faster → move that row instead.
+                moved = inTransaction(() -> moveUp(maxId));
+            }
+        }
+        // Logged only once the move is committed.
+        if (moved > 0) {
+            log.info("Address id generator moved to {} (highest existing id)", maxId);
+        }
+    }
+
+    private int moveUp(int maxId) {
+        return jdbcTemplate.update("UPDATE id_generator SET next_val = ? WHERE sequence_name = ? AND next_val < ?",
+                maxId, SEGMENT, maxId);
+    }
+
+    // Commits on return, rolls back if "write" throws.
+    private int inTransaction(IntSupplier write) {
+        Integer rows = transaction.execute(status -> write.getAsInt());
+        return rows != null ? rows : 0;
+    }
+
+    private boolean segmentExists() {
+        Integer rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM id_generator WHERE sequence_name = ?", Integer.class, SEGMENT);
+        return rows != null && rows > 0;
+    }
+}
@@ -0,0 +1,67 @@
+// Package declaration → groups related classes together.
+package com.springboot.address_service.configuration;
+
+import io.micrometer.tracing.Span;                                                       // One timed unit of work in a trace.
+import io.micrometer.tracing.Tracer;                                                     // Creates spans.
+import org.aopalliance.intercept.MethodInterceptor;                                      // Wraps every repository method call.
+import org.aopalliance.intercept.MethodInvocation;                                       // The intercepted call.
+import org.springframework.beans.factory.ObjectProvider;                                 // Looks up the Tracer lazily.
+import org.springframework.beans.factory.config.BeanPostProcessor;                       // Adjusts beans while they are created.
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;    // Creates the repository proxies.
+import org.springframework.util.function.SingletonSupplier;                              // Resolves the Tracer once, on first use.
+
+// Same post-processor as in the Employee Service (the services share no code): a span around every
+// repository call (e.g. AddressRepository.findAddressResponseByEmployeeId), including its transaction,
+// only inside an existing trace. Registered from TracingConfig (static @Bean).
+public class RepositoryTracingPostProcessor implements BeanPostProcessor {
+
+    private final SingletonSupplier<Tracer> tracer;
+
+    public RepositoryTracingPostProcessor(ObjectProvider<Tracer> tracer) {
+        this.tracer = SingletonSupplier.of(() -> tracer.getIfAvailable(() -> Tracer.NOOP));
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+            factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                    (proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(0,
+                            new RepositorySpanInterceptor(repositoryInformation.getRepositoryInterface().getSimpleName()))));
+        }
+        return bean;
+    }
+
+    // ================================
+    // Interceptor: one span per repository method call
+    // ================================
+    private class RepositorySpanInterceptor implements MethodInterceptor {
+
+        private final String repositoryName;
+
+        RepositorySpanInterceptor(String repositoryName) {
+            this.repositoryName = repositoryName;
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            Tracer currentTracer = tracer.obtain();
+            if (currentTracer.currentSpan() == null) {
+                return invocation.proceed();
+            }
+
+            Span span = currentTracer.nextSpan()
+                    .name(repositoryName + "." + invocation.getMethod().getName())
+                    .tag("repository", repositoryName)
+                    .tag("method", invocation.getMethod().getName())
+                    .start();
+            try (Tracer.SpanInScope scope = currentTracer.withSpan(span)) {
+                return invocation.proceed();
+            } catch (Throwable e) {
+                span.error(e);
+                throw e;
+            } finally {
+                span.end();
+            }
+        }
+    }
+}
@@ -0,0 +1,20 @@
+// Package declaration → groups related classes together.
+package com.springboot.address_service.configuration;
+
+import com.springboot.address_service.controller.AddressController; // Entry point of the request path.
+import org.springframework.boot.LazyInitializationExcludeFilter;    // Keeps selected beans eager under lazy init.
+import org.springframework.context.annotation.Bean;                 // Marks a method as a Spring bean provider.
+import org.springframework.context.annotation.Configuration;        // Marks this class as a Spring configuration class.
+
+// @Configuration → Same selective lazy initialization for the "faststart" profile as in the Employee Service
+// (the services share no code). Eager: AddressController (request path of GET /address/{employeeId})
+// and VirtualThreadPinningMonitor; everything else is created on first use. No effect without lazy init.
+@Configuration
+public class StartupConfig {
+
+    // static → read by a BeanFactoryPostProcessor before regular beans exist.
+    @Bean
+    public static LazyInitializationExcludeFilter eagerRequestPath() {
+        return LazyInitializationExcludeFilter.forBeanTypes(AddressController.class, VirtualThreadPinningMonitor.class);
+    }
+}
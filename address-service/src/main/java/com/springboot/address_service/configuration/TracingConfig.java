@@ -0,0 +1,41 @@
+// Package declaration → groups related classes together.
+package com.springboot.address_service.configuration;
+
+import io.micrometer.tracing.Tracer;                                             // Creates spans (OpenTelemetry underneath).
+import org.springframework.beans.factory.ObjectProvider;                         // Looks up beans lazily.
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;   // Bean only when a property is set.
+import org.springframework.boot.context.properties.EnableConfigurationProperties; // Registers @ConfigurationProperties classes.
+import org.springframework.context.annotation.Bean;                              // Marks a method as a Spring bean provider.
+import org.springframework.context.annotation.Configuration;                     // Marks this class as a Spring configuration class.
+import tools.jackson.databind.json.JsonMapper;                                   // Spring Boot's configured JSON mapper.
+
+// @Configuration → Distributed tracing (W3C trace context) on top of Spring Boot's Micrometer Tracing
+// + OpenTelemetry auto-configuration (management.tracing.* in application.properties).
+//
+// Spring Boot continues the "traceparent" header sent by employee-service (same trace id).
+// Added here, as in the Employee Service: spans around repository calls and the span file export.
+@Configuration
+@EnableConfigurationProperties(SpanFileExportProperties.class)
+public class TracingConfig {
+
+    // ================================
+    // Bean: spans around repository calls
+    // ================================
+    // static → a BeanPostProcessor must exist before the repositories it adjusts are created.
+    @Bean
+    public static RepositoryTracingPostProcessor repositoryTracingPostProcessor(ObjectProvider<Tracer> tracer) {
+        return new RepositoryTracingPostProcessor(tracer);
+    }
+
+    // ================================
+    // Bean: span file export
+    // ================================
+    // Spring Boot hands every SpanReporter bean to the OpenTelemetry batch span processor.
+    // destroyMethod = "close" → the file is closed on shutdown.
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "tracing.file-export", name = "enabled", havingValue = "true")
+    public FileSpanReporter fileSpanReporter(SpanFileExportProperties properties, JsonMapper jsonMapper) {
+        return new FileSpanReporter(properties.getPath(), properties.getMaxSize().toBytes(),
+                properties.getMaxHistory(), jsonMapper);
+    }
+}
@@ -0,0 +1,29 @@
+// Package declaration → groups related classes together.
+package com.springboot.address_service.configuration;
+
+import org.springframework.boot.http.converter.autoconfigure.ServerHttpMessageConvertersCustomizer; // Adjusts Spring MVC's converters.
+import org.springframework.context.annotation.Bean;                                // Marks a method as a Spring bean provider.
+import org.springframework.context.annotation.Configuration;                       // Marks this class as a Spring configuration class.
+import org.springframework.http.converter.cbor.JacksonCborHttpMessageConverter;   // Reads/writes application/cbor.
+import tools.jackson.dataformat.cbor.CBORMapper;                                  // Spring Boot's configured CBOR mapper.
+
+// @Configuration → Content negotiation between JSON and CBOR for every endpoint.
+//
+// - Accept: application/cbor → the response body is CBOR (binary encoding of the same data model:
+//   no quotes, length-prefixed strings, numbers as binary) → smaller and cheaper to parse.
+//   Used by employee-service for its internal calls (address-client.wire-format=cbor).
+// - Anything else (browsers, curl, */*) → JSON as before; the JSON converter stays first in the list.
+// - Request bodies are read in either format, according to their Content-Type.
+@Configuration
+public class WireFormatConfig {
+
+    // ================================
+    // Bean: CBOR converter with Spring Boot's CBORMapper
+    // ================================
+    // Replaces the converter Spring would register with a default mapper →
+    // spring.jackson.* settings apply to CBOR the same way they apply to JSON.
+    @Bean
+    public ServerHttpMessageConvertersCustomizer cborHttpMessageConvertersCustomizer(CBORMapper cborMapper) {
+        return converters -> converters.withCborConverter(new JacksonCborHttpMessageConverter(cborMapper));
+    }
+}
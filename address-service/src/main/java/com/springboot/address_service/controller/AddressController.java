@@ -1,17 +1,35 @@
 // Package declaration → groups related classes together.
 package com.springboot.address_service.controller;
 
+import com.springboot.address_service.response.AddressChangesResponse; // One page of changed addresses.
 import com.springboot.address_service.response.AddressResponse; // DTO returned to client (address details).
+import com.springboot.address_service.response.BulkImportResponse; // Counts + rows/sec of a bulk import.
+import com.springboot.address_service.service.AddressBulkService; // Streams NDJSON lines into the table.
 import com.springboot.address_service.service.AddressService;  // Service layer containing business logic.
 import lombok.RequiredArgsConstructor;                        // Lombok → generates constructor for final fields.
+import org.springframework.http.HttpHeaders;                  // Header names (Accept).
 import org.springframework.http.HttpStatus;                   // Represents HTTP status codes.
+import org.springframework.http.MediaType;                    // application/x-ndjson.
 import org.springframework.http.ResponseEntity;               // Represents HTTP response with body + status.
 import org.springframework.web.bind.annotation.GetMapping;    // Maps HTTP GET requests to controller methods.
 import org.springframework.web.bind.annotation.PathVariable;  // Extracts values from URL path.
+import org.springframework.web.bind.annotation.PostMapping;   // Maps HTTP POST requests to controller methods.
+import org.springframework.web.bind.annotation.RequestBody;   // Reads the JSON request body into a Java object.
+import org.springframework.web.bind.annotation.RequestParam;  // Reads query parameters (?since=...).
 import org.springframework.web.bind.annotation.RestController;// Marks this class as a REST controller (returns JSON).
+import org.springframework.web.context.request.WebRequest;    // Access to request headers (If-None-Match).
+
+import java.io.InputStream;               // Request body as a stream (bulk import).
+import java.nio.charset.StandardCharsets; // Encodes text as bytes before hashing.
+import java.security.MessageDigest;       // SHA-256 hash → ETag value.
+import java.security.NoSuchAlgorithmException; // Checked exception of MessageDigest.getInstance(...).
+import java.time.Instant;                 // Point in time → change cursor (ISO-8601, e.g. 2025-01-31T10:15:30.123456Z).
+import java.util.HexFormat;               // Bytes → hex string.
+import java.util.List;                    // Ordered collection → list of employee ids in the request body.
+import java.util.Map;                     // Key → value pairs → employeeId → address in the response body.
 
 // @RestController → Marks this class as a REST API controller.
-// Combines @Controller + @ResponseBody → methods return JSON responses instead of HTML views.
+// Combines @Controller + @ResponseBody → methods return JSON (or CBOR, see WireFormatConfig) instead of HTML views.
 // @RequiredArgsConstructor → Lombok generates constructor for final fields (dependency injection).
 @RestController
 @RequiredArgsConstructor
@@ -23,6 +41,7 @@ public class AddressController {
     // AddressService is injected automatically via constructor (thanks to @RequiredArgsConstructor).
     // This allows the controller to delegate business logic to the service layer.
     private final AddressService addressService;
+    private final AddressBulkService addressBulkService;
 
     // ================================
     // GET Endpoint: Fetch Address by Employee ID
@@ -31,12 +50,113 @@ public class AddressController {
     // @PathVariable("employeeId") → extracts employeeId from the URL.
     // Calls AddressService.findAddressByEmployeeId(employeeId).
     // Returns ResponseEntity<AddressResponse> → structured JSON response with HTTP status.
+    //
+    // Conditional requests (ETag):
+    // - Every response carries a weak ETag computed from the address content (id, city, state).
+    //   Weak → it names the address, not the bytes: the JSON and the CBOR body of the same address
+    //   are equivalent representations and share it (Vary: Accept keeps them apart in HTTP caches).
+    // - If the client sends "If-None-Match: <same ETag>", the address has not changed →
+    //   HTTP 304 Not Modified with an EMPTY body (no JSON serialization, fewer bytes on the wire).
     @GetMapping("/address/{employeeId}")
-    public ResponseEntity<AddressResponse> getAddressByEmployeeId(@PathVariable("employeeId") int employeeId) {
+    public ResponseEntity<AddressResponse> getAddressByEmployeeId(@PathVariable("employeeId") int employeeId,
+                                                                  WebRequest request) {
         // Step 1: Call service layer to fetch address details by employeeId.
         AddressResponse addressResponse = addressService.findAddressByEmployeeId(employeeId);
 
-        // Step 2: Wrap response in ResponseEntity with HTTP 200 OK status.
-        return ResponseEntity.status(HttpStatus.OK).body(addressResponse);
+        // Step 2: Compare the ETag with the client's If-None-Match header.
+        // checkNotModified(...) → sets the ETag header and, on a match, the 304 status.
+        // The 304 carries Vary as well → a cache revalidating one format keeps it apart from the other.
+        String eTag = eTagOf(addressResponse);
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).varyBy(HttpHeaders.ACCEPT).build();
+        }
+
+        // Step 3: Wrap response in ResponseEntity with HTTP 200 OK status.
+        // Vary: Accept → the body is JSON or CBOR depending on the Accept header (see WireFormatConfig),
+        // so HTTP caches must not hand one format to a client that asked for the other.
+        return ResponseEntity.status(HttpStatus.OK).eTag(eTag).varyBy(HttpHeaders.ACCEPT).body(addressResponse);
+    }
+
+    // ================================
+    // POST Endpoint: Fetch Addresses for Many Employees
+    // ================================
+    // URL: POST /address/batch
+    // Request body: [1, 2, 3]  → JSON array of employee ids.
+    // Response body: {"1": {...}, "3": {...}} → addresses keyed by employeeId
+    // (employees without an address are left out).
+    //
+    // Lets the Employee Service fetch a whole page of addresses in ONE HTTP call
+    // instead of calling GET /address/{employeeId} once per employee.
+    // POST is used because a long id list does not fit comfortably in a URL.
+    @PostMapping("/address/batch")
+    public ResponseEntity<Map<Integer, AddressResponse>> getAddressesByEmployeeIds(@RequestBody List<Integer> employeeIds) {
+        // Step 1: Call service layer → one DB query per chunk of ids.
+        Map<Integer, AddressResponse> addresses = addressService.findAddressesByEmployeeIds(employeeIds);
+
+        // Step 2: Wrap response in ResponseEntity with HTTP 200 OK status (JSON or CBOR, see Vary on GET /address/{id}).
+        return ResponseEntity.status(HttpStatus.OK).varyBy(HttpHeaders.ACCEPT).body(addresses);
+    }
+
+    // ================================
+    // GET Endpoint: Changed Addresses (incremental replication)
+    // ================================
+    // URL: GET /address/changes?since=2025-01-31T10:15:30.123456Z&afterId=42&limit=1000
+    // Response body: {"asOf": "...", "changes": [{"employeeId": 1, "id": 1, "city": ..., "updatedAt": ...}], "hasMore": false}
+    //
+    // Lets the Employee Service keep a local copy of all addresses and poll only what changed:
+    // - Without "since" → full snapshot in id order; next page: afterId = id of the last row.
+    // - With "since" → rows changed after (since, afterId); next page: since = updatedAt and
+    //   afterId = id of the last row.
+    // Each row is the CURRENT state of the address, so reading a row twice is harmless.
+    // Deleted addresses are not reported (rows are gone).
+    @GetMapping("/address/changes")
+    public ResponseEntity<AddressChangesResponse> getAddressChanges(@RequestParam(name = "since", required = false) Instant since,
+                                                                    @RequestParam(name = "afterId", defaultValue = "0") int afterId,
+                                                                    @RequestParam(name = "limit", defaultValue = "1000") int limit) {
+        // Step 1: Call service layer → one keyset query.
+        AddressChangesResponse changes = addressService.findChanges(since, afterId, limit);
+
+        // Step 2: Wrap response in ResponseEntity with HTTP 200 OK status (JSON or CBOR, see Vary on GET /address/{id}).
+        return ResponseEntity.status(HttpStatus.OK).varyBy(HttpHeaders.ACCEPT).body(changes);
+    }
+
+    // ================================
+    // POST Endpoint: Bulk Create / Replace Addresses
+    // ================================
+    // URL: POST /address/bulk   (Content-Type: application/x-ndjson)
+    // Request body: one address per line →
+    //   {"employeeId": 1, "city": "Ludhiana", "state": "Punjab"}
+    //   {"employeeId": 2, "city": "Amritsar", "state": "Punjab"}
+    // Response body: {"rows": 2, "created": 1, "updated": 1, "unchanged": 0, "millis": 12, "rowsPerSecond": 166, "error": null}
+    // Malformed line / employeeId < 1 → 400 Bad Request, same body: "error" names the line, the counts
+    // are the rows committed before it (chunks of address.bulk.chunk-size lines).
+    //
+    // The body is read as a stream (InputStream, not @RequestBody) → millions of lines are imported
+    // without holding them in memory. Each line creates or replaces the address of its employee
+    // (see AddressBulkService: chunked transactions, JDBC batching).
+    // Example: curl -H "Content-Type: application/x-ndjson" --data-binary @addresses.ndjson .../address-service/address/bulk
+    @PostMapping(value = "/address/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<BulkImportResponse> importAddresses(InputStream body) {
+        // Step 1: Stream the lines into the table.
+        BulkImportResponse result = addressBulkService.importAddresses(body);
+
+        // Step 2: Wrap the counts in ResponseEntity with HTTP 200 OK status (400 when a line was rejected).
+        return ResponseEntity.status(result.getError() == null ? HttpStatus.OK : HttpStatus.BAD_REQUEST).body(result);
+    }
+
+    // ================================
+    // Helper: Weak ETag for an address
+    // ================================
+    // Same content → same ETag (in every wire format), any change in id/city/state → different ETag.
+    // Uses the first 16 bytes of a SHA-256 hash → practically no collisions.
+    private static String eTagOf(AddressResponse address) {
+        String content = address.getId() + "|" + address.getCity() + "|" + address.getState();
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+            return "W/\"" + HexFormat.of().formatHex(hash, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java runtime must support SHA-256, so this cannot happen.
+            throw new IllegalStateException(e);
+        }
     }
-}
\ No newline at end of file
+}
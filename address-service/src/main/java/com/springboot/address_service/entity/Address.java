@@ -5,27 +5,56 @@ import jakarta.persistence.*;          // JPA annotations for entity mapping.
 import lombok.AllArgsConstructor;     // Lombok → generates constructor with all fields.
 import lombok.Data;                   // Lombok → generates getters, setters, toString, equals, hashCode.
 import lombok.NoArgsConstructor;      // Lombok → generates default no-argument constructor.
+import org.hibernate.annotations.Cache;                   // Hibernate second-level cache settings.
+import org.hibernate.annotations.CacheConcurrencyStrategy; // How cached entries stay consistent with writes.
+import org.hibernate.annotations.UpdateTimestamp;          // Sets a timestamp on every insert and update.
+
+import java.time.Instant; // Point in time (UTC) → last change of the row.
 
 // @Entity → Marks this class as a JPA entity (mapped to a database table).
 // @Table(name = "address") → Specifies the table name in the database.
+// @Index(unique = true) on employee_id → every lookup is "WHERE employee_id = ?" (or IN (...)),
+// so the index turns a full table scan into a single index seek, and "unique" guarantees
+// one address per employee.
+// Note: with ddl-auto=update the unique index is only created if existing data has no duplicates.
+// @Index on (updated_at, id) → GET /address/changes reads "everything changed after X" as an index
+// range scan in (updated_at, id) order (see AddressRepository.findChangesSince).
 // @Data → Lombok generates boilerplate code (getters/setters, equals, hashCode, toString).
 // @AllArgsConstructor → Constructor with all fields.
 // @NoArgsConstructor → Default constructor.
+// @Cacheable + @Cache → Addresses are kept in the Hibernate second-level cache (region "address",
+// size/TTL in l2-cache.regions.address.*). READ_WRITE → a write through Hibernate locks the cached
+// entry until the transaction commits, so readers never see uncommitted data.
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "address")
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name = "address")
+@Table(name = "address",
+        indexes = {
+                @Index(name = "ux_address_employee_id", columnList = "employee_id", unique = true),
+                @Index(name = "ix_address_updated_at", columnList = "updated_at, id")
+        })
 public class Address {
 
     // ================================
     // Primary Key (id)
     // ================================
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "address_id")
+    @TableGenerator(name = "address_id", table = "id_generator", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "address", initialValue = 1, allocationSize = 50)
     @Column(name = "id")
     // @Id → Marks this field as the primary key.
-    // @GeneratedValue(strategy = GenerationType.IDENTITY) → Auto-increment ID in the database.
+    // @GeneratedValue(strategy = GenerationType.TABLE) → ids come from the row "address" of the table
+    // "id_generator", reserved in blocks of 50 (pooled-lo optimizer, see application.properties):
+    // one UPDATE of id_generator per 50 new rows, and Hibernate knows the id BEFORE the INSERT.
+    // Why not IDENTITY (auto-increment): the id is only known after each INSERT, so Hibernate has to
+    // run every INSERT on its own → hibernate.jdbc.batch_size would have no effect (bulk import).
+    // A table instead of a sequence → same behaviour on MySQL (no sequences) and H2; the Employee Service
+    // uses the same table (row "employee") when both share one database.
+    // Existing rows (created with auto-increment) → IdGeneratorAlignment moves next_val up to MAX(id) at startup.
     // @Column(name = "id") → Maps this field to the "id" column in the address table.
     private int id;
 
@@ -52,4 +81,16 @@ public class Address {
     // Note: Here it's just an integer field, but in advanced setups you could use @ManyToOne
     // to establish a proper JPA relationship with Employee entity.
     private int employeeId;
+
+    // ================================
+    // Updated At (change tracking)
+    // ================================
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    // @UpdateTimestamp → Hibernate sets it to "now" on every insert and every update,
+    // so consumers can poll for rows changed since their last poll (Employee Service read model).
+    // Writes that bypass Hibernate (plain SQL) must set updated_at themselves.
+    // Rows written before this column existed have NULL here → they are only picked up
+    // by the full snapshot (GET /address/changes without "since").
+    private Instant updatedAt;
 }
\ No newline at end of file
@@ -0,0 +1,32 @@
+// Package declaration → groups related classes together.
+package com.springboot.address_service.mapper;
+
+import com.springboot.address_service.entity.Address;            // Address entity mapped to DB table.
+import com.springboot.address_service.repository.EmployeeAddress; // Read-only projection of the batch query.
+import com.springboot.address_service.response.AddressResponse; // DTO returned to client/microservice.
+import org.mapstruct.Mapper;                                     // Marks this interface as a MapStruct mapper.
+import org.mapstruct.ReportingPolicy;                            // Unmapped target fields → compile error.
+
+// @Mapper(componentModel = "spring") → MapStruct generates AddressMapperImpl at COMPILE time
+// and registers it as a Spring bean, so it can be injected like any other dependency.
+//
+// Why not ModelMapper?
+// ModelMapper discovers matching fields with reflection on every call.
+// The generated class is plain Java: new AddressResponse() + one setter per field.
+// No reflection, no intermediate objects, and a missing/renamed field fails the build
+// (unmappedTargetPolicy = ERROR below) instead of silently leaving a field null.
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.ERROR)
+public interface AddressMapper {
+
+    // ================================
+    // Address entity → AddressResponse DTO
+    // ================================
+    // Copies id, city, state (employeeId is not part of the response).
+    AddressResponse toAddressResponse(Address address);
+
+    // ================================
+    // EmployeeAddress projection → AddressResponse DTO
+    // ================================
+    // Copies id, city, state (employeeId is used as the map key by AddressService).
+    AddressResponse toAddressResponse(EmployeeAddress employeeAddress);
+}
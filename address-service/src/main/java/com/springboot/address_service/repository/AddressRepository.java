@@ -2,12 +2,21 @@
 package com.springboot.address_service.repository;
 
 import com.springboot.address_service.entity.Address;       // Import the Address entity.
+import com.springboot.address_service.response.AddressChangeResponse; // Row of GET /address/changes.
+import com.springboot.address_service.response.AddressResponse; // DTO filled directly by the projection query.
+import jakarta.persistence.QueryHint;                         // Passes a hint (e.g. read-only) to Hibernate.
+import org.hibernate.jpa.HibernateHints;                      // Names of Hibernate-specific query hints.
+import org.springframework.data.domain.Limit;                  // Maximum number of rows returned.
 import org.springframework.data.jpa.repository.JpaRepository; // Provides CRUD operations and query methods for JPA entities.
 import org.springframework.data.jpa.repository.Query;         // Allows defining custom SQL queries.
+import org.springframework.data.jpa.repository.QueryHints;    // Attaches query hints to a repository method.
 import org.springframework.data.repository.query.Param;       // Used to bind method parameters to query parameters.
 import org.springframework.stereotype.Repository;             // Marks this interface as a Spring-managed repository bean.
 
-import java.util.Optional; // Represents a container that may or may not hold a non-null value.
+import java.time.Instant;    // Point in time → change cursor.
+import java.util.Collection; // Any group of values (List, Set...) → used for the IN (...) list.
+import java.util.List;       // Ordered collection of results.
+import java.util.Optional;   // Represents a container that may or may not hold a non-null value.
 
 // @Repository → Marks this interface as a Spring Data repository.
 // Spring will automatically detect it and create a proxy implementation at runtime.
@@ -28,10 +37,77 @@ public interface AddressRepository extends JpaRepository<Address, Integer> {
     // Optional<Address> → Return type ensures safe handling:
     // - If address exists → returns Address object.
     // - If not found → returns Optional.empty().
+    //
+    // HINT_READ_ONLY → Hibernate does not keep a dirty-checking snapshot of the loaded entity.
+    // Read paths should prefer findAddressResponseByEmployeeId (below), which loads no entity at all.
     @Query(nativeQuery = true,
             value = "SELECT * FROM address WHERE employee_id = :employeeId")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     Optional<Address> findAddressByEmployeeId(@Param("employeeId") int employeeId);
 
+    // ================================
+    // Projection Query: Address Response by Employee ID
+    // ================================
+    // "SELECT new ...AddressResponse(a.id, a.city, a.state)" → JPQL constructor expression.
+    // - Only the three needed columns are selected (not SELECT *).
+    // - Hibernate builds the AddressResponse DTO directly → no managed entity,
+    //   no persistence-context entry, no dirty-checking snapshot, no mapping step.
+    // - The WHERE clause uses the unique index on employee_id.
+    //
+    // HINT_CACHEABLE → the result is kept in the query cache (region "address-by-employee"),
+    // so repeated lookups of the same employee do not reach the database at all.
+    // Any write to the address table through Hibernate invalidates these cached results.
+    @Query("SELECT new com.springboot.address_service.response.AddressResponse(a.id, a.city, a.state) "
+            + "FROM Address a WHERE a.employeeId = :employeeId")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "address-by-employee")
+    })
+    Optional<AddressResponse> findAddressResponseByEmployeeId(@Param("employeeId") int employeeId);
+
+    // ================================
+    // Custom Query: Find Addresses for Many Employee IDs
+    // ================================
+    // "... WHERE a.employeeId IN (:employeeIds)"
+    // → Fetches the addresses of many employees in ONE round trip to the database,
+    //   instead of running findAddressByEmployeeId once per employee.
+    //
+    // Spring expands the collection into (?, ?, ?...) → keep the collection reasonably small
+    // (AddressService splits large lists into chunks before calling this method).
+    //
+    // Returns the read-only EmployeeAddress projection (employeeId, id, city, state)
+    // instead of managed Address entities.
+    @Query("SELECT new com.springboot.address_service.repository.EmployeeAddress(a.employeeId, a.id, a.city, a.state) "
+            + "FROM Address a WHERE a.employeeId IN (:employeeIds)")
+    List<EmployeeAddress> findAddressesByEmployeeIds(@Param("employeeIds") Collection<Integer> employeeIds);
+
+    // ================================
+    // Derived Query: Managed Addresses for Many Employee IDs (bulk import)
+    // ================================
+    // Spring Data builds "... WHERE a.employeeId IN (:employeeIds)" from the method name.
+    // Unlike findAddressesByEmployeeIds this returns MANAGED entities: AddressBulkService changes
+    // city / state on them and Hibernate writes the dirty ones as batched UPDATEs at flush.
+    List<Address> findByEmployeeIdIn(Collection<Integer> employeeIds);
+
+    // ================================
+    // Keyset Queries: Snapshot and Changes (GET /address/changes)
+    // ================================
+    // Both read one page after a cursor instead of OFFSET → every page costs the same,
+    // no matter how far the consumer already is.
+    //
+    // findSnapshotPage → all addresses in id order (primary key range scan), cursor = last id.
+    @Query("SELECT new com.springboot.address_service.response.AddressChangeResponse(a.employeeId, a.id, a.city, a.state, a.updatedAt) "
+            + "FROM Address a WHERE a.id > :afterId ORDER BY a.id")
+    List<AddressChangeResponse> findSnapshotPage(@Param("afterId") int afterId, Limit limit);
+
+    // findChangesSince → addresses changed after the cursor (since, afterId), in (updatedAt, id) order.
+    // The id tie-breaker keeps paging exact when many rows share one timestamp.
+    // Uses the (updated_at, id) index.
+    @Query("SELECT new com.springboot.address_service.response.AddressChangeResponse(a.employeeId, a.id, a.city, a.state, a.updatedAt) "
+            + "FROM Address a WHERE a.updatedAt > :since OR (a.updatedAt = :since AND a.id > :afterId) "
+            + "ORDER BY a.updatedAt, a.id")
+    List<AddressChangeResponse> findChangesSince(@Param("since") Instant since, @Param("afterId") int afterId, Limit limit);
+
     // ================================
     // Example Usage in Service Layer
     // ================================
@@ -0,0 +1,9 @@
+// Package declaration → groups related classes together.
+package com.springboot.address_service.repository;
+
+// EmployeeAddress → read-only projection used by the batch query.
+// Hibernate fills it directly from the selected columns (no managed Address entity,
+// no dirty-checking snapshot). employeeId is included so callers can tell which
+// employee each address belongs to.
+public record EmployeeAddress(int employeeId, int id, String city, String state) {
+}
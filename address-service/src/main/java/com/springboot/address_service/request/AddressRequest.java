@@ -0,0 +1,21 @@
+// Package declaration → groups related classes together.
+package com.springboot.address_service.request;
+
+import lombok.AllArgsConstructor; // Lombok → generates constructor with all fields.
+import lombok.Data;               // Lombok → generates getters, setters, toString, equals, hashCode.
+import lombok.NoArgsConstructor;  // Lombok → generates default no-argument constructor.
+
+// @Data → Lombok generates boilerplate code (getters/setters, equals, hashCode, toString).
+// @AllArgsConstructor → Constructor with all fields.
+// @NoArgsConstructor → Default constructor (needed by Jackson).
+// One line of POST /address/bulk: {"employeeId": 7, "city": "Ludhiana", "state": "Punjab"}.
+// employeeId is the key → the address of that employee is created or replaced.
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class AddressRequest {
+
+    private int employeeId;
+    private String city;
+    private String state;
+}
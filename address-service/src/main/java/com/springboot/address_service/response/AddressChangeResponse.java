@@ -0,0 +1,30 @@
+// Package declaration → groups related classes together.
+package com.springboot.address_service.response;
+
+import lombok.AllArgsConstructor; // Lombok → generates constructor with all fields.
+import lombok.Data;               // Lombok → generates getters, setters, toString, equals, hashCode.
+import lombok.NoArgsConstructor;  // Lombok → generates default no-argument constructor.
+
+import java.time.Instant; // Point in time (UTC).
+
+// @Data → Lombok generates boilerplate code (getters/setters, equals, hashCode, toString).
+// @AllArgsConstructor → Constructor with all fields (used by the JPQL constructor expression).
+// @NoArgsConstructor → Default constructor.
+// One row of GET /address/changes: the CURRENT state of an address that changed,
+// keyed by employeeId so consumers can store it by employee.
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class AddressChangeResponse {
+
+    // Employee the address belongs to.
+    private int employeeId;
+
+    // Address id, city, state → same values as AddressResponse.
+    private int id;
+    private String city;
+    private String state;
+
+    // Last change of the row (null for rows written before change tracking existed).
+    private Instant updatedAt;
+}
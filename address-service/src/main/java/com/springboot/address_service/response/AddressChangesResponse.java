@@ -0,0 +1,29 @@
+// Package declaration → groups related classes together.
+package com.springboot.address_service.response;
+
+import lombok.AllArgsConstructor; // Lombok → generates constructor with all fields.
+import lombok.Data;               // Lombok → generates getters, setters, toString, equals, hashCode.
+import lombok.NoArgsConstructor;  // Lombok → generates default no-argument constructor.
+
+import java.time.Instant; // Point in time (UTC).
+import java.util.List;    // Ordered collection → rows in cursor order.
+
+// @Data → Lombok generates boilerplate code (getters/setters, equals, hashCode, toString).
+// @AllArgsConstructor → Constructor with all fields.
+// @NoArgsConstructor → Default constructor.
+// One page of GET /address/changes.
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class AddressChangesResponse {
+
+    // Address Service time when this page was read → a consumer that starts with a full snapshot
+    // continues with "since = asOf of its first snapshot page", so no change made meanwhile is lost.
+    private Instant asOf;
+
+    // Changed rows in cursor order (snapshot: by id; changes: by updatedAt, then id).
+    private List<AddressChangeResponse> changes;
+
+    // true → more rows after the last one; ask again with the last row as cursor.
+    private boolean hasMore;
+}
@@ -0,0 +1,31 @@
+// Package declaration → groups related classes together.
+package com.springboot.address_service.response;
+
+import lombok.AllArgsConstructor; // Lombok → generates constructor with all fields.
+import lombok.Data;               // Lombok → generates getters, setters, toString, equals, hashCode.
+import lombok.NoArgsConstructor;  // Lombok → generates default no-argument constructor.
+
+// @Data → Lombok generates boilerplate code (getters/setters, equals, hashCode, toString).
+// @AllArgsConstructor → Constructor with all fields.
+// @NoArgsConstructor → Default constructor.
+// Result of POST /address/bulk (also of a failed one: counts = what was committed before the error).
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkImportResponse {
+
+    // Lines read from the request body.
+    private long rows;
+
+    // New addresses / changed addresses / lines equal to the stored address (not written).
+    private long created;
+    private long updated;
+    private long unchanged;
+
+    // Wall-clock time of the whole import and the resulting throughput (rows / second).
+    private long millis;
+    private long rowsPerSecond;
+
+    // null → every line was imported; otherwise the line that stopped the import and why.
+    private String error;
+}
@@ -0,0 +1,158 @@
+// Package declaration → groups related classes together.
+package com.springboot.address_service.service;
+
+import com.springboot.address_service.entity.Address;               // Address entity mapped to DB table.
+import com.springboot.address_service.repository.AddressRepository; // Repository for Address CRUD operations.
+import com.springboot.address_service.request.AddressRequest;       // One NDJSON line.
+import com.springboot.address_service.response.BulkImportResponse;  // Counts + rows/sec of one import.
+import jakarta.persistence.EntityManager;                          // persist / flush / clear.
+import jakarta.persistence.PersistenceContext;                     // Injects the transaction-bound EntityManager.
+import lombok.extern.slf4j.Slf4j;                                  // Lombok → generates a "log" field.
+import org.hibernate.CacheMode;                                    // Keeps imported rows out of the second-level cache.
+import org.hibernate.Session;                                      // Hibernate API behind the EntityManager.
+import org.springframework.beans.factory.annotation.Autowired;     // Enables dependency injection.
+import org.springframework.beans.factory.annotation.Value;         // Injects values from application.properties.
+import org.springframework.stereotype.Service;                     // Marks this class as a Spring-managed service bean.
+import org.springframework.transaction.PlatformTransactionManager; // JPA transaction manager.
+import org.springframework.transaction.support.TransactionTemplate; // One transaction per chunk.
+import tools.jackson.core.JacksonException;                        // Malformed NDJSON line.
+import tools.jackson.databind.MappingIterator;                     // Reads one JSON value after the other.
+import tools.jackson.databind.json.JsonMapper;                     // Spring Boot's configured JSON mapper.
+
+import java.io.InputStream;     // Request body, read while it arrives.
+import java.util.ArrayList;     // Current chunk.
+import java.util.HashMap;       // employeeId → stored address.
+import java.util.List;          // Ordered collection.
+import java.util.Map;           // Key → value pairs.
+import java.util.Objects;       // Null-safe equals (city / state may be null).
+
+// @Service → Bulk create / replace of addresses from an NDJSON stream (POST /address/bulk).
+//
+//   body ─► read "chunkSize" lines ─► 1 SELECT ... IN (...) ─► persist / update ─► flush (JDBC batches) ─► commit, clear
+//          └────────────────────────── repeated until the end of the body ──────────────────────────┘
+//
+// - Streaming: lines are parsed while the body arrives, and at most one chunk is held in memory →
+//   memory stays flat for any number of rows.
+// - Batching: ids come from the table generator (see Address.id), so Hibernate sends the INSERTs / UPDATEs
+//   of a flush in JDBC batches of hibernate.jdbc.batch_size (ordered by statement, see application.properties).
+// - One transaction per chunk → locks and undo data stay small; a bad line stops the import, the chunks
+//   committed before it stay (the response says how many rows that were). Importing the same
+//   body again is harmless: every line replaces the address of its employee.
+// - CacheMode.IGNORE → imported rows are not put into the second-level cache (they would evict the
+//   hot entries); updated rows are still invalidated there.
+@Slf4j
+@Service
+public class AddressBulkService {
+
+    // ================================
+    // Dependencies (Injected by Spring)
+    // ================================
+    @Autowired
+    private AddressRepository addressRepository; // Loads the stored addresses of a chunk.
+
+    @PersistenceContext
+    private EntityManager entityManager;         // Bound to the chunk's transaction.
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JsonMapper jsonMapper;               // Reads the NDJSON lines.
+
+    // Lines per transaction (flush + clear after each chunk).
+    @Value("${address.bulk.chunk-size:1000}")
+    private int chunkSize;
+
+    // ================================
+    // Method: importAddresses
+    // ================================
+    // Reads {"employeeId":..,"city":..,"state":..} lines until the end of the stream and creates or
+    // replaces the address of each employee. Malformed line / employeeId < 1 → import stops, result.error says where.
+    public BulkImportResponse importAddresses(InputStream ndjson) {
+        long started = System.nanoTime();
+        BulkImportResponse result = new BulkImportResponse();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        // Step 1: Read line by line, hand over full chunks. A bad line stops the import (result.error).
+        List<AddressRequest> chunk = new ArrayList<>(chunkSize);
+        try (MappingIterator<AddressRequest> lines = jsonMapper.readerFor(AddressRequest.class).readValues(ndjson)) {
+            while (result.getError() == null && lines.hasNextValue()) {
+                AddressRequest line = lines.nextValue();
+                if (line.getEmployeeId() < 1) {
+                    rejectLine(result, chunk, "employeeId must be positive");
+                    break;
+                }
+                chunk.add(line);
+                if (chunk.size() == chunkSize) {
+                    transaction.executeWithoutResult(status -> upsert(chunk, result));
+                    chunk.clear();
+                }
+            }
+        } catch (JacksonException e) {
+            rejectLine(result, chunk, e.getOriginalMessage());
+        }
+
+        // Step 2: Last, partly filled chunk.
+        if (result.getError() == null && !chunk.isEmpty()) {
+            transaction.executeWithoutResult(status -> upsert(chunk, result));
+        }
+
+        // Step 3: Throughput of the whole import.
+        result.setMillis(Math.max(1, (System.nanoTime() - started) / 1_000_000));
+        result.setRowsPerSecond(result.getRows() * 1000 / result.getMillis());
+        log.info("Bulk import: {} addresses ({} created, {} updated, {} unchanged) in {} ms → {} rows/s",
+                result.getRows(), result.getCreated(), result.getUpdated(), result.getUnchanged(),
+                result.getMillis(), result.getRowsPerSecond());
+        if (result.getError() != null) {
+            log.warn("Bulk import stopped: {}", result.getError());
+        }
+        return result;
+    }
+
+    // ================================
+    // One chunk = one transaction
+    // ================================
+    private void upsert(List<AddressRequest> chunk, BulkImportResponse result) {
+        entityManager.unwrap(Session.class).setCacheMode(CacheMode.IGNORE);
+
+        // Step 1: Stored addresses of the chunk → ONE query (unique index on employee_id).
+        Map<Integer, Address> stored = new HashMap<>();
+        addressRepository.findByEmployeeIdIn(chunk.stream().map(AddressRequest::getEmployeeId).toList())
+                .forEach(address -> stored.put(address.getEmployeeId(), address));
+
+        // Step 2: New → persist; changed → set the fields (dirty checking writes it); equal → nothing to write.
+        // Same employee twice in one chunk → the second line finds the first one's entity (last line wins).
+        long created = 0, updated = 0, unchanged = 0;
+        for (AddressRequest line : chunk) {
+            Address address = stored.get(line.getEmployeeId());
+            if (address == null) {
+                address = new Address(0, line.getCity(), line.getState(), line.getEmployeeId(), null);
+                entityManager.persist(address);
+                stored.put(line.getEmployeeId(), address);
+                created++;
+            } else if (Objects.equals(line.getCity(), address.getCity()) && Objects.equals(line.getState(), address.getState())) {
+                unchanged++;
+            } else {
+                address.setCity(line.getCity());
+                address.setState(line.getState());
+                updated++;
+            }
+        }
+
+        // Step 3: Write everything as JDBC batches, then drop the entities → nothing piles up.
+        entityManager.flush();
+        entityManager.clear();
+
+        result.setRows(result.getRows() + chunk.size());
+        result.setCreated(result.getCreated() + created);
+        result.setUpdated(result.getUpdated() + updated);
+        result.setUnchanged(result.getUnchanged() + unchanged);
+    }
+
+    // The lines of the current chunk are dropped (not committed); the counts stay at the committed chunks.
+    private static void rejectLine(BulkImportResponse result, List<AddressRequest> chunk, String problem) {
+        long lineNumber = result.getRows() + chunk.size() + 1;
+        result.setError("Line " + lineNumber + ": " + problem + " (" + result.getRows() + " rows before it were imported)");
+        chunk.clear();
+    }
+}
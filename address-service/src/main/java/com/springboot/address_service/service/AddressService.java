@@ -1,12 +1,30 @@
 // Package declaration → groups related classes together.
 package com.springboot.address_service.service;
 
-import com.springboot.address_service.entity.Address;              // Address entity mapped to DB table.
+import com.springboot.address_service.mapper.AddressMapper;         // Generated Entity → DTO mapper (MapStruct).
 import com.springboot.address_service.repository.AddressRepository; // Repository for Address CRUD operations.
+import com.springboot.address_service.repository.EmployeeAddress;   // Read-only projection of the batch query.
+import com.springboot.address_service.response.AddressChangeResponse; // Row of GET /address/changes.
+import com.springboot.address_service.response.AddressChangesResponse; // Page of GET /address/changes.
 import com.springboot.address_service.response.AddressResponse;   // DTO for sending address data to client/microservice.
-import org.modelmapper.ModelMapper;                              // Library for mapping between Entity ↔ DTO.
+import io.micrometer.observation.Observation;                    // Times one service call.
+import io.micrometer.observation.ObservationRegistry;            // Where observations are recorded.
+import jakarta.annotation.PostConstruct;                         // Checks the settings once the bean is ready.
 import org.springframework.beans.factory.annotation.Autowired;   // Enables dependency injection.
+import org.springframework.beans.factory.annotation.Value;       // Injects values from application.properties.
+import org.springframework.data.domain.Limit;                    // Maximum number of rows of one query.
+import org.springframework.http.HttpStatus;                      // Represents HTTP status codes.
 import org.springframework.stereotype.Service;                   // Marks this class as a Spring-managed service bean.
+import org.springframework.transaction.annotation.Transactional; // Wraps a method in a DB transaction.
+import org.springframework.web.server.ResponseStatusException;   // RuntimeException that carries an HTTP status.
+
+import java.time.Instant;        // Point in time → change cursor.
+import java.util.ArrayList;     // Resizable list → used to build each chunk of ids.
+import java.util.Collection;    // Any group of values (List, Set...).
+import java.util.LinkedHashMap; // Map that keeps insertion order.
+import java.util.LinkedHashSet; // Set that removes duplicates but keeps order.
+import java.util.List;          // Ordered collection.
+import java.util.Map;           // Key → value pairs (employeeId → address).
 
 // @Service → Marks this class as a service component.
 // Service classes contain business logic and are managed by Spring’s IoC container.
@@ -20,26 +38,119 @@ public class AddressService {
     private AddressRepository addressRepository; // Handles DB operations for Address entity.
 
     @Autowired
-    private ModelMapper mapper;                  // Maps Address entity → AddressResponse DTO.
+    private AddressMapper mapper;                // Maps address rows → AddressResponse DTO.
+
+    @Autowired
+    private ObservationRegistry observationRegistry; // Times each call as "address.service" (tag operation).
+
+    // Maximum number of ids placed in one "IN (...)" query.
+    // Larger lists are split into several queries of this size.
+    @Value("${address.batch.chunk-size:500}")
+    private int batchChunkSize;
+
+    // Upper bound for the "limit" of one GET /address/changes page.
+    @Value("${address.changes.max-page-size:5000}")
+    private int changesMaxPageSize;
+
+    // A chunk size below 1 would never advance through the id list → refuse to start instead.
+    @PostConstruct
+    void checkSettings() {
+        if (batchChunkSize < 1) {
+            throw new IllegalStateException("address.batch.chunk-size must be at least 1, was " + batchChunkSize);
+        }
+    }
 
     // ================================
     // Method: findAddressByEmployeeId
     // ================================
     // Purpose:
     // - Fetch address details from DB using employeeId.
-    // - Convert Address entity → AddressResponse DTO using ModelMapper.
+    // - The projection query builds the AddressResponse DTO directly (no entity, no mapping step).
     // - Return structured response to controller.
+    //
+    // @Transactional(readOnly = true) → Hibernate skips flushing/dirty checking,
+    // and the JDBC connection is flagged read-only.
+    @Transactional(readOnly = true)
     public AddressResponse findAddressByEmployeeId(int employeeId) {
-        // Step 1: Fetch address by employeeId from DB.
-        // Repository returns Optional<Address> → safe handling if no record exists.
-        Address addressByEmployeeId = addressRepository.findAddressByEmployeeId(employeeId)
-                .orElseThrow(() -> new RuntimeException("Address not found"));
+        // Step 1: Fetch address by employeeId from DB (id, city, state only).
+        // Repository returns Optional<AddressResponse> → safe handling if no record exists.
+        // If not found → 404 Not Found (callers such as the Employee Service can tell
+        // "no address" apart from a real server error and cache the negative result).
+        return observe("single", () -> addressRepository.findAddressResponseByEmployeeId(employeeId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Address not found")));
+    }
+
+    // ================================
+    // Method: findAddressesByEmployeeIds
+    // ================================
+    // Purpose:
+    // - Fetch the addresses of many employees with as few DB queries as possible.
+    // - Duplicate ids are removed, then ids are split into chunks of "batchChunkSize"
+    //   so a single query never carries a huge IN (...) list.
+    // - Returns a map keyed by employeeId → callers can match addresses to employees.
+    //   Employees without an address are simply missing from the map.
+    @Transactional(readOnly = true)
+    public Map<Integer, AddressResponse> findAddressesByEmployeeIds(Collection<Integer> employeeIds) {
+        return observe("batch", () -> findInChunks(employeeIds));
+    }
+
+    private Map<Integer, AddressResponse> findInChunks(Collection<Integer> employeeIds) {
+        Map<Integer, AddressResponse> addressesByEmployeeId = new LinkedHashMap<>();
 
-        // Step 2: Map Address entity → AddressResponse DTO.
-        // ModelMapper automatically copies matching fields (id, city, state).
-        AddressResponse addressResponse = mapper.map(addressByEmployeeId, AddressResponse.class);
+        // Step 1: Remove duplicate ids (keeps the original order).
+        List<Integer> uniqueIds = new ArrayList<>(new LinkedHashSet<>(employeeIds));
 
-        // Step 3: Return DTO response.
-        return addressResponse;
+        // Step 2: Run one IN (...) query per chunk.
+        for (int from = 0; from < uniqueIds.size(); from += batchChunkSize) {
+            List<Integer> chunk = uniqueIds.subList(from, Math.min(from + batchChunkSize, uniqueIds.size()));
+
+            // Step 3: Map each read-only EmployeeAddress row → AddressResponse DTO, keyed by employeeId.
+            for (EmployeeAddress address : addressRepository.findAddressesByEmployeeIds(chunk)) {
+                addressesByEmployeeId.put(address.employeeId(), mapper.toAddressResponse(address));
+            }
+        }
+
+        // Step 4: Return the combined result of all chunks.
+        return addressesByEmployeeId;
+    }
+
+    // ================================
+    // Method: findChanges
+    // ================================
+    // Purpose:
+    // - One page of address rows for consumers that keep a local copy (Employee Service read model).
+    // - since == null → full snapshot, rows with id > afterId in id order.
+    // - since != null → rows changed after (since, afterId) in (updatedAt, id) order.
+    // - asOf is taken BEFORE the query → a change committed during the query is newer than asOf
+    //   and is returned again by the next poll.
+    // - One row more than asked is read to tell whether another page follows (hasMore).
+    @Transactional(readOnly = true)
+    public AddressChangesResponse findChanges(Instant since, int afterId, int limit) {
+        return observe("changes", () -> {
+            // Step 1: Remember "now" and cap the page size.
+            Instant asOf = Instant.now();
+            int pageSize = Math.max(1, Math.min(limit, changesMaxPageSize));
+
+            // Step 2: Keyset query (snapshot or changes), one extra row as look-ahead.
+            List<AddressChangeResponse> rows = since == null
+                    ? addressRepository.findSnapshotPage(afterId, Limit.of(pageSize + 1))
+                    : addressRepository.findChangesSince(since, afterId, Limit.of(pageSize + 1));
+
+            // Step 3: Drop the look-ahead row and return the page.
+            boolean hasMore = rows.size() > pageSize;
+            return new AddressChangesResponse(asOf, hasMore ? rows.subList(0, pageSize) : rows, hasMore);
+        });
+    }
+
+    // ================================
+    // Service timer: "address.service"
+    // ================================
+    // Sits between http.server.requests (controller) and spring.data.repository.invocations (DB),
+    // so the time spent in this layer (mapping, chunking) can be told apart from the query time.
+    // Tag operation=single|batch|changes; a failed call (e.g. 404) additionally carries its exception name.
+    private <T> T observe(String operation, Observation.CheckedCallable<T, RuntimeException> call) {
+        return Observation.createNotStarted("address.service", observationRegistry)
+                .lowCardinalityKeyValue("operation", operation)
+                .observeChecked(call);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,13 @@
+-- ================================
+-- Address change tracking (GET /address/changes)
+-- ================================
+
+-- Adds the column and index mapped by Address.updatedAt / ix_address_updated_at.
+-- Profiles with ddl-auto=validate (prod) never change the schema themselves → run this once against the
+-- existing MySQL database BEFORE deploying this version, otherwise startup fails schema validation.
+-- (The default profile runs ddl-auto=update and creates both on its own.)
+--
+-- Existing rows keep updated_at = NULL → they are only picked up by the full snapshot
+-- (GET /address/changes without "since").
+ALTER TABLE address ADD COLUMN updated_at DATETIME(6) NULL;
+CREATE INDEX ix_address_updated_at ON address (updated_at, id);
@@ -0,0 +1,15 @@
+package com.springboot.address_service;
+
+import org.springframework.boot.SpringApplication;
+
+// The Address Service on H2 (profile "h2") → runs without the remote MySQL, e.g. as the downstream
+// of the Employee Service load test: mvn spring-boot:test-run
+public class TestAddressServiceApplication {
+
+	public static void main(String[] args) {
+		SpringApplication.from(AddressServiceApplication::main)
+				.withAdditionalProfiles("h2")
+				.run(args);
+	}
+
+}
@@ -0,0 +1,96 @@
+package com.springboot.address_service.benchmark;
+
+import com.springboot.address_service.mapper.AddressMapper;
+import com.springboot.address_service.repository.AddressRepository;
+import com.springboot.address_service.response.AddressResponse;
+import com.springboot.address_service.service.AddressService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Address lookup by employee id against a large H2 table (profile "h2", MySQL mode).
+// - entity → SELECT * into a managed Address entity + AddressMapper (the previous read path).
+// - projection → AddressService.findAddressByEmployeeId (SELECT id, city, state straight into AddressResponse).
+// Each runs with and without the unique index on employee_id.
+// The second-level / query cache is switched off → every call reaches the database.
+//
+// Run: mvn -Pbenchmark test -Dbenchmark=AddressQueryBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AddressQueryBenchmark {
+
+    @Param({"1000000"})
+    public int rows;
+
+    @Param({"true", "false"})
+    public boolean indexed;
+
+    private ConfigurableApplicationContext context;
+    private AddressService addressService;
+    private AddressRepository addressRepository;
+    private AddressMapper addressMapper;
+    private TransactionTemplate readOnlyTransaction;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = BenchmarkApp.start(
+                "--spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+                "--spring.jpa.properties.hibernate.cache.use_query_cache=false");
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        // SYSTEM_RANGE's column is an upper-case X → quoted, because the URL uses DATABASE_TO_LOWER.
+        jdbcTemplate.update("INSERT INTO address (id, city, state, employee_id) "
+                + "SELECT \"X\", CONCAT('City', MOD(\"X\", 500)), CONCAT('State', MOD(\"X\", 30)), \"X\" "
+                + "FROM SYSTEM_RANGE(1, ?)", rows);
+        if (!indexed) {
+            // Depending on the dialect Hibernate creates a unique constraint or a unique index.
+            jdbcTemplate.execute("ALTER TABLE address DROP CONSTRAINT IF EXISTS ux_address_employee_id");
+            jdbcTemplate.execute("DROP INDEX IF EXISTS ux_address_employee_id");
+        }
+
+        addressService = context.getBean(AddressService.class);
+        addressRepository = context.getBean(AddressRepository.class);
+        addressMapper = context.getBean(AddressMapper.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public AddressResponse entity() {
+        int employeeId = ThreadLocalRandom.current().nextInt(1, rows + 1);
+        return readOnlyTransaction.execute(status ->
+                addressMapper.toAddressResponse(addressRepository.findAddressByEmployeeId(employeeId).orElseThrow()));
+    }
+
+    @Benchmark
+    public AddressResponse projection() {
+        int employeeId = ThreadLocalRandom.current().nextInt(1, rows + 1);
+        return addressService.findAddressByEmployeeId(employeeId);
+    }
+}
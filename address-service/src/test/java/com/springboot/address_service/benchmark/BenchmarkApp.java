@@ -0,0 +1,38 @@
+package com.springboot.address_service.benchmark;
+
+import com.springboot.address_service.AddressServiceApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Same helper as in the Employee Service (the services share no code): profile "h2", random port,
+// WARN logging, no devtools restart; a default is only added when the benchmark does not pass its key.
+public final class BenchmarkApp {
+
+    private static final List<String> DEFAULTS = List.of("--server.port=0", "--logging.level.root=WARN");
+
+    private BenchmarkApp() {
+    }
+
+    public static ConfigurableApplicationContext start(String... args) {
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        List<String> appArgs = new ArrayList<>(List.of(args));
+        for (String arg : DEFAULTS) {
+            String key = arg.substring(0, arg.indexOf('=') + 1);
+            if (appArgs.stream().noneMatch(given -> given.startsWith(key))) {
+                appArgs.add(arg);
+            }
+        }
+        return new SpringApplicationBuilder(AddressServiceApplication.class)
+                .profiles("h2")
+                .run(appArgs.toArray(String[]::new));
+    }
+
+    // http://localhost:<port>/address-service
+    public static String baseUrl(ApplicationContext context) {
+        return "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/address-service";
+    }
+}
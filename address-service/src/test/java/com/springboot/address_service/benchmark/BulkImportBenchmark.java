@@ -0,0 +1,105 @@
+package com.springboot.address_service.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+// POST /address/bulk with a large NDJSON body against H2 (profile "h2", MySQL mode):
+// - operation=create → empty table, every line is a new address (batched INSERTs).
+// - operation=update → all addresses exist with another city, every line changes one (1 SELECT per chunk,
+//   batched UPDATEs).
+// Prints the service's rows/s after each run. Like the Employee Service's BulkImportBenchmark it measures
+// the service's own cost per row; the JDBC round trips batching saves against MySQL do not show on H2.
+//
+// Run: mvn -Pbenchmark test -Dbenchmark=BulkImportBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class BulkImportBenchmark {
+
+    @Param({"1000000"})
+    public int rows;
+
+    @Param({"create", "update"})
+    public String operation;
+
+    private ConfigurableApplicationContext context;
+    private JdbcTemplate jdbcTemplate;
+    private HttpClient httpClient;
+    private URI bulkUri;
+    private byte[] body;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = BenchmarkApp.start();
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        bulkUri = URI.create(BenchmarkApp.baseUrl(context) + "/address/bulk");
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+        // {"employeeId":1,"city":"City1","state":"State1"} ... one line per employee.
+        ByteArrayOutputStream out = new ByteArrayOutputStream(rows * 56);
+        for (int employeeId = 1; employeeId <= rows; employeeId++) {
+            out.writeBytes(("{\"employeeId\":" + employeeId + ",\"city\":\"City" + employeeId % 500
+                    + "\",\"state\":\"State" + employeeId % 30 + "\"}\n").getBytes(StandardCharsets.UTF_8));
+        }
+        body = out.toByteArray();
+    }
+
+    // Same starting point for every run: empty table (create) or every address with an outdated city (update).
+    @Setup(Level.Iteration)
+    public void resetTable() {
+        jdbcTemplate.execute("TRUNCATE TABLE address");
+        if (operation.equals("update")) {
+            // SYSTEM_RANGE's column is an upper-case X → quoted, because the URL uses DATABASE_TO_LOWER.
+            jdbcTemplate.update("INSERT INTO address (id, city, state, employee_id) "
+                    + "SELECT \"X\", 'Old', CONCAT('State', MOD(\"X\", 30)), \"X\" FROM SYSTEM_RANGE(1, ?)", rows);
+            jdbcTemplate.update("UPDATE id_generator SET next_val = ? WHERE sequence_name = 'address'", rows + 1);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        httpClient.close();
+        context.close();
+    }
+
+    @Benchmark
+    public long bulkImport() throws Exception {
+        HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder(bulkUri)
+                .header("Content-Type", "application/x-ndjson")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("HTTP " + response.statusCode() + ": " + response.body());
+        }
+        JsonNode result = JsonMapper.shared().readTree(response.body());
+        System.out.printf("%n%s: %,d rows/s%n", operation, result.get("rowsPerSecond").asLong());
+        return result.get("rowsPerSecond").asLong();
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.springboot.address_service.benchmark;
+
+import com.springboot.address_service.entity.Address;
+import com.springboot.address_service.mapper.AddressMapper;
+import com.springboot.address_service.response.AddressResponse;
+import org.mapstruct.factory.Mappers;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// Address → AddressResponse: reflection-based ModelMapper vs. the generated AddressMapper.
+// The ModelMapper is configured exactly like the former AddressConfig.modelMapper() (new ModelMapper()).
+//
+// Run: mvn -Pbenchmark test -Dbenchmark=MapperBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    private ModelMapper modelMapper;
+    private AddressMapper addressMapper;
+    private Address address;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapper();
+        addressMapper = Mappers.getMapper(AddressMapper.class);
+        address = new Address(101, "Ludhiana", "Punjab", 1, null);
+    }
+
+    @Benchmark
+    public AddressResponse modelMapper() {
+        return modelMapper.map(address, AddressResponse.class);
+    }
+
+    @Benchmark
+    public AddressResponse generatedMapper() {
+        return addressMapper.toAddressResponse(address);
+    }
+}
@@ -0,0 +1,75 @@
+package com.springboot.address_service.benchmark;
+
+import com.springboot.address_service.configuration.SecondLevelCacheEndpoint;
+import com.springboot.address_service.response.AddressResponse;
+import com.springboot.address_service.service.AddressService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// AddressService.findAddressByEmployeeId with and without the Hibernate second-level / query cache,
+// on H2 (profile "h2", MySQL mode). The lookups hit a hot set of "hotIds" employees out of "rows",
+// which fits in the "address-by-employee" region → after warm-up almost every lookup is a cache hit.
+// The hit ratio per region (from /actuator/l2cache) is printed at the end.
+//
+// Run: mvn -Pbenchmark test -Dbenchmark=SecondLevelCacheBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SecondLevelCacheBenchmark {
+
+    @Param({"100000"})
+    public int rows;
+
+    @Param({"1000"})
+    public int hotIds;
+
+    @Param({"false", "true"})
+    public boolean l2Cache;
+
+    private ConfigurableApplicationContext context;
+    private AddressService addressService;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = BenchmarkApp.start(
+                "--spring.jpa.properties.hibernate.cache.use_second_level_cache=" + l2Cache,
+                "--spring.jpa.properties.hibernate.cache.use_query_cache=" + l2Cache);
+
+        // SYSTEM_RANGE's column is an upper-case X → quoted, because the URL uses DATABASE_TO_LOWER.
+        context.getBean(JdbcTemplate.class).update("INSERT INTO address (id, city, state, employee_id) "
+                + "SELECT \"X\", CONCAT('City', MOD(\"X\", 500)), CONCAT('State', MOD(\"X\", 30)), \"X\" "
+                + "FROM SYSTEM_RANGE(1, ?)", rows);
+        addressService = context.getBean(AddressService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.getBean(SecondLevelCacheEndpoint.class).regions()
+                .forEach((region, stats) -> System.out.println(region + " → " + stats));
+        context.close();
+    }
+
+    @Benchmark
+    public AddressResponse lookup() {
+        return addressService.findAddressByEmployeeId(ThreadLocalRandom.current().nextInt(1, hotIds + 1));
+    }
+}
@@ -0,0 +1,190 @@
+package com.springboot.address_service.benchmark;
+
+import com.springboot.address_service.AddressServiceApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+// Same cold-start benchmark as in the Employee Service (the services share no code): time from launching
+// a NEW JVM until the first GET /address/changes answers 200, for default / faststart / faststart-cds /
+// faststart-cds-aot, each run from target/faststart against a pre-created H2 file database.
+//
+// Prepare: mvn -Pfaststart package -DskipTests -Dfaststart.training.skip=true
+// Run:     mvn -Pbenchmark test -Dbenchmark=StartupTimeBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@Fork(1)
+public class StartupTimeBenchmark {
+
+    private static final Duration STARTUP_LIMIT = Duration.ofMinutes(2);
+
+    @Param({"default", "faststart", "faststart-cds", "faststart-cds-aot"})
+    public String mode;
+
+    private Path application;
+    private String h2Driver;
+    private Path workDir;
+    private Path archive;
+    private HttpClient httpClient;
+    private Process process;
+
+    @Setup(Level.Trial)
+    public void prepare() throws Exception {
+        workDir = Files.createTempDirectory("startup");
+        archive = workDir.resolve(Runtime.version().feature() >= 25 ? "app.aot" : "app.jsa");
+        httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+        try (var jars = Files.list(Path.of("target", "faststart"))) {
+            application = jars.filter(path -> path.toString().endsWith(".jar")).findFirst().orElseThrow();
+        } catch (IOException | NoSuchElementException e) {
+            throw new IllegalStateException("No packaged service in target/faststart: run mvn -Pfaststart package first", e);
+        }
+        h2Driver = Stream.of(System.getProperty("java.class.path").split(File.pathSeparator))
+                .filter(entry -> Path.of(entry).getFileName().toString().startsWith("h2-"))
+                .findFirst().orElseThrow();
+
+        // Step 1: Create the schema once (no profile, ddl-auto=create), stop right after the context refresh.
+        run(command(List.of("-Dspring.context.exit=onRefresh"), 0, "default", "create"));
+
+        // Step 2: Training run → serve one request, then stop; the class archive is written at exit.
+        if (mode.contains("-cds")) {
+            String record = Runtime.version().feature() >= 25
+                    ? "-XX:AOTCacheOutput=" + archive
+                    : "-XX:ArchiveClassesAtExit=" + archive;
+            firstRequest(List.of(record));
+            stopService();
+            if (!Files.exists(archive)) {
+                throw new IllegalStateException("Training run wrote no archive, see " + workDir.resolve("service.log"));
+            }
+        }
+    }
+
+    @TearDown(Level.Invocation)
+    public void stopService() throws Exception {
+        if (process != null) {
+            process.destroy();
+            process.waitFor(30, TimeUnit.SECONDS);
+            process = null;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void cleanUp() throws IOException {
+        httpClient.close();
+        try (var files = Files.walk(workDir)) {
+            files.sorted((a, b) -> b.compareTo(a)).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public int firstRequest() throws Exception {
+        List<String> jvmOptions = new ArrayList<>();
+        if (mode.contains("-cds")) {
+            jvmOptions.add(Runtime.version().feature() >= 25 ? "-XX:AOTCache=" + archive : "-XX:SharedArchiveFile=" + archive);
+        }
+        return firstRequest(jvmOptions);
+    }
+
+    // Starts the service and polls until the first request succeeds.
+    private int firstRequest(List<String> jvmOptions) throws Exception {
+        int port = freePort();
+        boolean fastStart = mode.startsWith("faststart");
+        process = new ProcessBuilder(command(jvmOptions, port, fastStart ? "faststart" : "default", fastStart ? null : "update"))
+                .redirectErrorStream(true)
+                .redirectOutput(workDir.resolve("service.log").toFile())
+                .start();
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create(
+                "http://localhost:" + port + "/address-service/address/changes")).build();
+        long deadline = System.nanoTime() + STARTUP_LIMIT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Service exited, see " + workDir.resolve("service.log"));
+            }
+            try {
+                HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() == 200) {
+                    return response.statusCode();
+                }
+            } catch (ConnectException e) {
+                // Port not open yet.
+            }
+            Thread.sleep(5);
+        }
+        throw new IllegalStateException("No successful request within " + STARTUP_LIMIT);
+    }
+
+    // java <options> -cp <service jar>:<h2 jar> AddressServiceApplication --spring.profiles.active=<profiles> ...
+    // ddlAuto null → whatever the profiles set (validate in faststart).
+    private List<String> command(List<String> jvmOptions, int port, String profiles, String ddlAuto) {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmOptions);
+        if (profiles.contains("faststart") && mode.endsWith("-aot")) {
+            command.add("-Dspring.aot.enabled=true");
+        }
+        command.add("-cp");
+        command.add(application + File.pathSeparator + h2Driver);
+        command.add(AddressServiceApplication.class.getName());
+        command.add("--server.port=" + port);
+        command.add("--spring.profiles.active=" + profiles);
+        // Same database settings as the h2 profile (src/test/resources), but a file database.
+        command.add("--spring.datasource.url=jdbc:h2:file:" + workDir.resolve("address")
+                + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE");
+        command.add("--spring.datasource.username=sa");
+        command.add("--spring.datasource.password=");
+        command.add("--spring.datasource.driver-class-name=org.h2.Driver");
+        command.add("--spring.jpa.show_sql=false");
+        if (ddlAuto != null) {
+            command.add("--spring.jpa.hibernate.ddl-auto=" + ddlAuto);
+        }
+        return command;
+    }
+
+    private void run(List<String> command) throws Exception {
+        Process setup = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(workDir.resolve("setup.log").toFile())
+                .start();
+        if (!setup.waitFor(STARTUP_LIMIT.toSeconds(), TimeUnit.SECONDS) || setup.exitValue() != 0) {
+            setup.destroyForcibly();
+            throw new IllegalStateException("Setup run failed, see " + workDir.resolve("setup.log"));
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.springboot.address_service.benchmark;
+
+import com.springboot.address_service.response.AddressResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// JSON vs. CBOR for the Address Service response bodies:
+// - addresses=1 → GET /address/{employeeId} (one AddressResponse).
+// - addresses=20 / 500 → POST /address/batch for one page / one full batch (Map<employeeId, AddressResponse>).
+//
+// - serialize → what address-service pays per response.
+// - deserialize → what employee-service pays per response.
+// The payload size of every combination is printed at setup ("payload: ...").
+//
+// Run: mvn -Pbenchmark test -Dbenchmark=WireFormatBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WireFormatBenchmark {
+
+    private static final TypeReference<Map<Integer, AddressResponse>> ADDRESS_MAP_TYPE = new TypeReference<>() {
+    };
+
+    @Param({"json", "cbor"})
+    public String format;
+
+    @Param({"1", "20", "500"})
+    public int addresses;
+
+    private ObjectMapper mapper;
+    private Object body;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() {
+        mapper = format.equals("cbor") ? CBORMapper.builder().build() : JsonMapper.builder().build();
+
+        if (addresses == 1) {
+            body = new AddressResponse(101, "Ludhiana", "Punjab");
+        } else {
+            Map<Integer, AddressResponse> batch = new LinkedHashMap<>();
+            for (int employeeId = 1; employeeId <= addresses; employeeId++) {
+                batch.put(employeeId, new AddressResponse(employeeId, "City" + employeeId % 500, "State" + employeeId % 30));
+            }
+            body = batch;
+        }
+        payload = mapper.writeValueAsBytes(body);
+        System.out.printf("payload: format=%s addresses=%d → %d bytes%n", format, addresses, payload.length);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return mapper.writeValueAsBytes(body);
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return addresses == 1
+                ? mapper.readValue(payload, AddressResponse.class)
+                : mapper.readValue(payload, ADDRESS_MAP_TYPE);
+    }
+}
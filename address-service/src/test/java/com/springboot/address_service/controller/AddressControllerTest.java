@@ -0,0 +1,103 @@
+package com.springboot.address_service.controller;
+
+import com.springboot.address_service.configuration.WireFormatConfig;
+import com.springboot.address_service.response.AddressResponse;
+import com.springboot.address_service.service.AddressBulkService;
+import com.springboot.address_service.service.AddressService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// ETag / 304 negotiation of GET /address/{employeeId} and Vary: Accept on the JSON-or-CBOR endpoints.
+@WebMvcTest(AddressController.class)
+@Import(WireFormatConfig.class)
+class AddressControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private AddressService addressService;
+
+    @MockitoBean
+    private AddressBulkService addressBulkService;
+
+    private String eTagOf(MediaType accept) throws Exception {
+        return mockMvc.perform(get("/address/1").accept(accept))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+
+    @Test
+    void okCarriesWeakETagAndVary() throws Exception {
+        when(addressService.findAddressByEmployeeId(1)).thenReturn(new AddressResponse(7, "Ludhiana", "Punjab"));
+
+        mockMvc.perform(get("/address/1").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, startsWith("W/\"")))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void matchingIfNoneMatchGives304WithoutBody() throws Exception {
+        when(addressService.findAddressByEmployeeId(1)).thenReturn(new AddressResponse(7, "Ludhiana", "Punjab"));
+        String eTag = eTagOf(MediaType.APPLICATION_JSON);
+
+        var response = mockMvc.perform(get("/address/1").accept(MediaType.APPLICATION_JSON).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+                .andReturn().getResponse();
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void jsonAndCborShareTheWeakETag() throws Exception {
+        when(addressService.findAddressByEmployeeId(1)).thenReturn(new AddressResponse(7, "Ludhiana", "Punjab"));
+
+        mockMvc.perform(get("/address/1").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR));
+        assertThat(eTagOf(MediaType.APPLICATION_CBOR)).isEqualTo(eTagOf(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void changedAddressGetsNewETag() throws Exception {
+        when(addressService.findAddressByEmployeeId(1)).thenReturn(new AddressResponse(7, "Ludhiana", "Punjab"));
+        String before = eTagOf(MediaType.APPLICATION_JSON);
+        when(addressService.findAddressByEmployeeId(1)).thenReturn(new AddressResponse(7, "Amritsar", "Punjab"));
+
+        mockMvc.perform(get("/address/1").accept(MediaType.APPLICATION_JSON).header(HttpHeaders.IF_NONE_MATCH, before))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(before)));
+    }
+
+    @Test
+    void batchVariesByAccept() throws Exception {
+        when(addressService.findAddressesByEmployeeIds(anyList())).thenReturn(Map.of(1, new AddressResponse(7, "Ludhiana", "Punjab")));
+
+        mockMvc.perform(post("/address/batch").contentType(MediaType.APPLICATION_JSON).content("[1, 2]")
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR));
+    }
+}
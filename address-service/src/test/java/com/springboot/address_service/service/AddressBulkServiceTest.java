@@ -0,0 +1,130 @@
+package com.springboot.address_service.service;
+
+import com.springboot.address_service.entity.Address;
+import com.springboot.address_service.repository.AddressRepository;
+import com.springboot.address_service.response.BulkImportResponse;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// NDJSON bulk import: one flush + commit per chunk of 2 lines, a bad line stops the import and keeps the committed chunks.
+@DataJpaTest(properties = "address.bulk.chunk-size=2")
+@Import({AddressBulkService.class, AddressBulkServiceTest.Json.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // The service commits its own chunk transactions.
+class AddressBulkServiceTest {
+
+    @Autowired
+    private AddressBulkService addressBulkService;
+
+    @Autowired
+    private AddressRepository addressRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @TestConfiguration
+    static class Json {
+
+        @Bean
+        JsonMapper jsonMapper() {
+            return JsonMapper.builder().build();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        addressRepository.deleteAllInBatch();
+    }
+
+    private BulkImportResponse importLines(String... lines) {
+        String body = String.join("\n", lines) + "\n";
+        return addressBulkService.importAddresses(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String line(int employeeId, String city) {
+        return "{\"employeeId\":" + employeeId + ",\"city\":\"" + city + "\",\"state\":\"Punjab\"}";
+    }
+
+    @Test
+    void newEmployeesAreCreatedOneChunkAtATime() {
+        BulkImportResponse result = importLines(line(1, "Ludhiana"), line(2, "Amritsar"), line(3, "Jalandhar"),
+                line(4, "Patiala"), line(5, "Mohali"));
+
+        assertThat(result.getError()).isNull();
+        assertThat(result.getRows()).isEqualTo(5);
+        assertThat(result.getCreated()).isEqualTo(5);
+        assertThat(addressRepository.count()).isEqualTo(5);
+        // 2 + 2 + 1 lines → 3 chunks, each flushed and committed on its own.
+        assertThat(statistics.getFlushCount()).isEqualTo(3);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(5);
+    }
+
+    @Test
+    void existingEmployeesAreUpdatedOnlyWhenChanged() {
+        importLines(line(1, "Ludhiana"), line(2, "Amritsar"));
+        statistics.clear();
+
+        BulkImportResponse result = importLines(line(1, "Bathinda"), line(2, "Amritsar"), line(3, "Mohali"));
+
+        assertThat(result.getError()).isNull();
+        assertThat(result.getUpdated()).isEqualTo(1);
+        assertThat(result.getUnchanged()).isEqualTo(1);
+        assertThat(result.getCreated()).isEqualTo(1);
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+        assertThat(addressRepository.findByEmployeeIdIn(List.of(1))).extracting(Address::getCity).containsExactly("Bathinda");
+    }
+
+    @Test
+    void sameEmployeeTwiceInOneChunkKeepsTheLastLine() {
+        BulkImportResponse result = importLines(line(1, "Ludhiana"), line(1, "Mohali"));
+
+        assertThat(result.getCreated()).isEqualTo(1);
+        assertThat(result.getUpdated()).isEqualTo(1);
+        assertThat(addressRepository.findByEmployeeIdIn(List.of(1))).extracting(Address::getCity).containsExactly("Mohali");
+    }
+
+    @Test
+    void malformedLineStopsTheImportAndKeepsCommittedChunks() {
+        BulkImportResponse result = importLines(line(1, "Ludhiana"), line(2, "Amritsar"), line(3, "Mohali"), "{\"employeeId\":");
+
+        // Chunk 1 (lines 1-2) is committed, line 3 shared its chunk with the bad line 4 → dropped.
+        assertThat(result.getError()).startsWith("Line 4: ").contains("2 rows before it were imported");
+        assertThat(result.getRows()).isEqualTo(2);
+        assertThat(addressRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void nonPositiveEmployeeIdIsRejected() {
+        BulkImportResponse result = importLines(line(0, "Nowhere"));
+
+        assertThat(result.getError()).startsWith("Line 1: employeeId must be positive");
+        assertThat(result.getRows()).isZero();
+        assertThat(addressRepository.count()).isZero();
+    }
+}
@@ -0,0 +1,73 @@
+package com.springboot.address_service.service;
+
+import com.springboot.address_service.mapper.AddressMapper;
+import com.springboot.address_service.repository.AddressRepository;
+import com.springboot.address_service.repository.EmployeeAddress;
+import com.springboot.address_service.response.AddressResponse;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// Batch lookup: duplicate ids removed, one IN (...) query per chunk, results merged by employeeId.
+class AddressServiceTest {
+
+    private final AddressRepository repository = mock(AddressRepository.class);
+    private final AddressService service = new AddressService();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "addressRepository", repository);
+        ReflectionTestUtils.setField(service, "mapper", Mappers.getMapper(AddressMapper.class));
+        ReflectionTestUtils.setField(service, "observationRegistry", ObservationRegistry.NOOP);
+        ReflectionTestUtils.setField(service, "batchChunkSize", 2);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void splitsUniqueIdsIntoChunksAndMergesTheResults() {
+        when(repository.findAddressesByEmployeeIds(anyCollection())).thenAnswer(invocation ->
+                ((Collection<Integer>) invocation.getArgument(0)).stream()
+                        .filter(employeeId -> employeeId != 4) // Employee 4 has no address.
+                        .map(employeeId -> new EmployeeAddress(employeeId, employeeId * 10, "City" + employeeId, "State"))
+                        .toList());
+
+        Map<Integer, AddressResponse> addresses = service.findAddressesByEmployeeIds(List.of(1, 2, 2, 3, 4, 1, 5));
+
+        ArgumentCaptor<Collection<Integer>> chunks = ArgumentCaptor.forClass(Collection.class);
+        verify(repository, times(3)).findAddressesByEmployeeIds(chunks.capture());
+        assertThat(chunks.getAllValues()).extracting(List::copyOf)
+                .containsExactly(List.of(1, 2), List.of(3, 4), List.of(5));
+        assertThat(addresses).containsOnlyKeys(1, 2, 3, 5);
+        assertThat(addresses.get(3).getId()).isEqualTo(30);
+        assertThat(addresses.get(3).getCity()).isEqualTo("City3");
+    }
+
+    @Test
+    void emptyIdListRunsNoQuery() {
+        assertThat(service.findAddressesByEmployeeIds(List.of())).isEmpty();
+        verify(repository, times(0)).findAddressesByEmployeeIds(anyCollection());
+    }
+
+    @Test
+    void chunkSizeBelowOneIsRejectedAtStartup() {
+        ReflectionTestUtils.setField(service, "batchChunkSize", 0);
+
+        assertThatIllegalStateException().isThrownBy(service::checkSettings)
+                .withMessageContaining("address.batch.chunk-size");
+    }
+}
@@ -0,0 +1,161 @@
+// Package declaration → groups related classes together.
+package com.springboot.employee_service.client;
+
+import com.springboot.employee_service.configuration.AddressClientProperties; // Window / max ids settings.
+import com.springboot.employee_service.response.AddressResponse;             // DTO for address data (from Address Service).
+import io.micrometer.core.instrument.DistributionSummary;                     // Records how many ids each batch carried.
+import io.micrometer.core.instrument.MeterRegistry;                          // Registry where metrics are published.
+import org.springframework.beans.factory.DisposableBean;                     // Stops the timer thread on shutdown.
+import org.springframework.core.task.SimpleAsyncTaskExecutor;                // One new (virtual) thread per batch call.
+import org.springframework.stereotype.Component;                             // Marks this class as a Spring-managed bean.
+
+import java.util.LinkedHashMap;                         // Pending ids in arrival order.
+import java.util.Map;                                   // employeeId → waiting callers / found addresses.
+import java.util.concurrent.CompletableFuture;          // Result handed to each waiting caller.
+import java.util.concurrent.Executors;                  // Creates the timer thread.
+import java.util.concurrent.ScheduledExecutorService;   // Fires the flush at the end of the window.
+import java.util.concurrent.ScheduledFuture;            // Handle to cancel a pending flush.
+import java.util.concurrent.TimeUnit;                   // Nanosecond delay.
+
+// @Component → Micro-batching of single-address lookups (request coalescing).
+//
+// Under load many GET /employees/{id} requests miss the cache at about the same moment, and each
+// one would send its own GET /address/{id}. Instead, lookups are collected and sent together as
+// ONE POST /address/batch (one round trip, one IN (...) query on the Address Service):
+//
+//   t=0.0ms  id 7  → opens a batch, flush scheduled at t=window
+//   t=0.4ms  id 12 → joins
+//   t=1.1ms  id 7  → joins (same id → same future, sent once)
+//   t=2.0ms  flush → POST /address/batch [7, 12] → every caller gets its own address
+//
+// - Latency ceiling: a lookup waits at most "window" before its batch is sent; the batch is sent
+//   earlier as soon as it holds "maxIds" distinct ids.
+// - Low traffic: a lone lookup still waits up to "window" (a 1-element batch); keep the window
+//   small compared with the Address Service round trip.
+// - The batch call runs through AddressClient.getAddresses → same resilience (bulkhead, circuit
+//   breaker, time limit) as every other call; a failure fails every caller of that batch, and
+//   AddressCache turns it into its usual fallback.
+// - The batch endpoint sends no ETags → addresses come back without one (see AddressCache.AddressLoader).
+// - Batch sizes are recorded as address.client.coalesced.batch.size.
+//
+// Used by AddressCache for first-time loads when address-client.coalescing.enabled=true.
+@Component
+public class AddressBatcher implements DisposableBean {
+
+    private final AddressClient addressClient;
+    private final boolean enabled;
+    private final long windowNanos;
+    private final int maxIds;
+    private final DistributionSummary batchSizes;
+
+    // One platform thread that only fires flushes; the HTTP call itself runs on a virtual thread.
+    // No trace context is propagated: a batch serves many requests, so its call is a trace of its own.
+    private final ScheduledExecutorService timer;
+    private final SimpleAsyncTaskExecutor dispatcher;
+
+    // Guarded by "this".
+    private Map<Integer, CompletableFuture<VersionedAddress>> pending = new LinkedHashMap<>();
+    private ScheduledFuture<?> scheduledFlush;
+
+    public AddressBatcher(AddressClient addressClient, AddressClientProperties properties, MeterRegistry meterRegistry) {
+        this.addressClient = addressClient;
+        AddressClientProperties.Coalescing settings = properties.getCoalescing();
+        this.enabled = settings.isEnabled();
+        this.windowNanos = settings.getWindow().toNanos();
+        // Never more ids than one POST /address/batch may carry.
+        this.maxIds = Math.max(1, Math.min(settings.getMaxIds(), properties.getBatchSize()));
+        this.batchSizes = DistributionSummary.builder("address.client.coalesced.batch.size")
+                .description("Number of address lookups sent together in one coalesced batch call")
+                .baseUnit("ids")
+                .register(meterRegistry);
+        this.timer = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                .name("address-batcher")
+                .daemon(true)
+                .factory());
+        this.dispatcher = new SimpleAsyncTaskExecutor("address-batch-");
+        this.dispatcher.setVirtualThreads(true);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // ================================
+    // Method: getAddress
+    // ================================
+    // Adds one id to the current batch and returns a future that completes when the batch answer
+    // arrives: the address + no ETag, or VersionedAddress.NOT_FOUND if the id is missing from the answer.
+    public CompletableFuture<VersionedAddress> getAddress(int employeeId) {
+        CompletableFuture<VersionedAddress> result;
+        Map<Integer, CompletableFuture<VersionedAddress>> full = null;
+
+        synchronized (this) {
+            result = pending.computeIfAbsent(employeeId, id -> new CompletableFuture<>());
+            if (pending.size() >= maxIds) {
+                // Step 1a: Batch is full → send it now, do not wait for the window.
+                full = takePending();
+            } else if (pending.size() == 1 && scheduledFlush == null) {
+                // Step 1b: First id of a new batch → the window starts now.
+                scheduledFlush = timer.schedule(this::flushWindow, windowNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        // Step 2: The HTTP call is started outside the lock.
+        if (full != null) {
+            dispatch(full);
+        }
+        return result;
+    }
+
+    // ================================
+    // Flush: end of the collection window
+    // ================================
+    private void flushWindow() {
+        Map<Integer, CompletableFuture<VersionedAddress>> batch;
+        synchronized (this) {
+            scheduledFlush = null;
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = takePending();
+        }
+        dispatch(batch);
+    }
+
+    // Hands the current batch over and starts an empty one (caller holds the lock).
+    private Map<Integer, CompletableFuture<VersionedAddress>> takePending() {
+        Map<Integer, CompletableFuture<VersionedAddress>> batch = pending;
+        pending = new LinkedHashMap<>();
+        if (scheduledFlush != null) {
+            // A timer that already started only finds an empty (or a newer, younger) batch → harmless.
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        return batch;
+    }
+
+    // ================================
+    // Dispatch: one batch call, answers fanned out to the waiting callers
+    // ================================
+    private void dispatch(Map<Integer, CompletableFuture<VersionedAddress>> batch) {
+        batchSizes.record(batch.size());
+        dispatcher.execute(() -> {
+            try {
+                Map<Integer, AddressResponse> found = addressClient.getAddresses(batch.keySet());
+                batch.forEach((employeeId, caller) -> {
+                    AddressResponse address = found.get(employeeId);
+                    caller.complete(address != null ? new VersionedAddress(address, null) : VersionedAddress.NOT_FOUND);
+                });
+            } catch (Throwable e) {
+                batch.values().forEach(caller -> caller.completeExceptionally(e));
+            }
+        });
+    }
+
+    // Shutdown → the lookups still waiting are sent right away instead of being dropped.
+    @Override
+    public void destroy() {
+        flushWindow();
+        timer.shutdownNow();
+    }
+}
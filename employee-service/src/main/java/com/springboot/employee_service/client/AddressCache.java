@@ -0,0 +1,343 @@
+// Package declaration → groups related classes together.
+package com.springboot.employee_service.client;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;                 // Cache whose values are futures (non-blocking reads).
+import com.github.benmanes.caffeine.cache.CacheLoader;                       // Tells the cache how to load one or many values.
+import com.github.benmanes.caffeine.cache.Caffeine;                          // Builder for Caffeine caches.
+import com.github.benmanes.caffeine.cache.Expiry;                            // Per-entry expiry (found vs. not found).
+import com.github.benmanes.caffeine.cache.LoadingCache;                      // Blocking view of the async cache.
+import com.springboot.employee_service.configuration.AddressClientProperties; // Cache size / TTL settings.
+import com.springboot.employee_service.response.AddressResponse;             // DTO for address data (from Address Service).
+import io.micrometer.core.instrument.Counter;                                // Counts degraded (fallback) responses.
+import io.micrometer.core.instrument.MeterRegistry;                          // Registry where metrics are published.
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;      // Hit/miss/eviction metrics for Caffeine.
+import lombok.extern.slf4j.Slf4j;                                            // Lombok → generates a "log" field.
+import org.springframework.beans.factory.annotation.Qualifier;               // Picks a specific bean when several match.
+import org.springframework.core.task.AsyncTaskExecutor;                      // Runs loads/refreshes in the background.
+import org.springframework.stereotype.Component;                             // Marks this class as a Spring-managed bean.
+
+import java.time.Duration;  // Time-to-live values.
+import java.util.ArrayList;  // Ids that must be fetched remotely.
+import java.util.Collection; // Any group of values (List, Set...).
+import java.util.HashMap;   // Map implementation for results.
+import java.util.List;      // Ordered collection.
+import java.util.Map;       // Key → value pairs (employeeId → address).
+import java.util.Set;       // Ids requested in one bulk load.
+import java.util.concurrent.CompletableFuture;   // Non-blocking result (getAddressAsync).
+import java.util.concurrent.CompletionException; // Wrapper around failures of async stages.
+import java.util.concurrent.ExecutionException;  // Wrapper around failures of Future.get().
+import java.util.concurrent.Executor;            // Executor handed to the loader by Caffeine.
+
+// @Component → Spring creates one instance of this class and injects it where needed.
+//
+// AddressCache keeps recently fetched addresses in memory, in front of AddressClient:
+// - Size-bounded (Caffeine's W-TinyLFU eviction keeps the most frequently used ids).
+// - TTL → a found address is served from memory for at most "ttl".
+// - Refresh-ahead → after "refreshAfter" the next read returns the cached value immediately
+//   and reloads it in the background, so hot ids never wait for the Address Service.
+// - Single-flight → concurrent misses for the same id share ONE remote call.
+// - Negative caching → "address not found" is remembered for the shorter "negativeTtl".
+// - Conditional refresh → the background reload sends the cached ETag (If-None-Match);
+//   a 304 Not Modified keeps the cached address without downloading it again.
+// - Stats → cache.gets{result=hit|miss}, cache.evictions, cache.size... tagged cache=address.
+//
+// - Fallback → if the Address Service fails (error, timeout, open circuit, full bulkhead),
+//   the employee is returned without an address instead of failing the request.
+//   While an entry is between "refreshAfter" and "ttl", a failed background refresh keeps
+//   serving the cached (stale) address. Counted as address.client.fallbacks{reason=...}.
+//
+// - Non-blocking reads → getAddressAsync shares the same entries; a miss is loaded with
+//   AsyncAddressClient, so no thread waits for the Address Service.
+//
+// - Coalescing → with address-client.coalescing.enabled=true, single-id misses (blocking and
+//   non-blocking) are handed to AddressBatcher: misses of different ids arriving within a few ms
+//   share ONE POST /address/batch instead of one GET each. Refreshes stay conditional GETs (ETag).
+//
+// - Local read model → with address-client.replica.enabled=true, AddressReplica is asked FIRST;
+//   only ids it cannot answer (too stale, not replicated yet) go through the cache / remote path.
+//
+// When address-client.cache.enabled=false every call goes straight to AddressClient / AsyncAddressClient.
+@Slf4j
+@Component
+public class AddressCache {
+
+    private final AddressClient addressClient;
+    private final AsyncAddressClient asyncAddressClient;
+    private final AddressBatcher addressBatcher;
+    private final AddressReplica addressReplica;
+    private final boolean enabled;
+    private final boolean fallbackEnabled;
+    private final MeterRegistry meterRegistry;
+
+    // VersionedAddress → address + ETag; address == null means "Address Service said 404".
+    // Both fields are views of the SAME cache (blocking and non-blocking).
+    private final AsyncLoadingCache<Integer, VersionedAddress> asyncCache;
+    private final LoadingCache<Integer, VersionedAddress> cache;
+
+    public AddressCache(AddressClient addressClient,
+                        AsyncAddressClient asyncAddressClient,
+                        AddressBatcher addressBatcher,
+                        AddressReplica addressReplica,
+                        AddressClientProperties properties,
+                        @Qualifier("applicationTaskExecutor") AsyncTaskExecutor taskExecutor,
+                        MeterRegistry meterRegistry) {
+        this.addressClient = addressClient;
+        this.asyncAddressClient = asyncAddressClient;
+        this.addressBatcher = addressBatcher;
+        this.addressReplica = addressReplica;
+        AddressClientProperties.Cache settings = properties.getCache();
+        this.enabled = settings.isEnabled();
+        this.fallbackEnabled = properties.getResilience().isFallbackEnabled();
+        this.meterRegistry = meterRegistry;
+
+        // Build an async cache → the remote call runs outside Caffeine's internal map lock,
+        // then use its blocking view for simple get/getAll calls.
+        this.asyncCache = Caffeine.newBuilder()
+                .maximumSize(settings.getMaximumSize())
+                .expireAfter(new AddressExpiry(settings.getTtl(), settings.getNegativeTtl()))
+                .refreshAfterWrite(settings.getRefreshAfter())
+                .executor(taskExecutor)
+                .recordStats()
+                .buildAsync(new AddressLoader());
+        this.cache = asyncCache.synchronous();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "address");
+    }
+
+    // ================================
+    // Method: getAddress
+    // ================================
+    // Returns the address of one employee, or null if the employee has no address.
+    public AddressResponse getAddress(int employeeId) {
+        AddressResponse local = addressReplica.getAddress(employeeId);
+        if (local != null) {
+            return local;
+        }
+        try {
+            if (!enabled) {
+                return addressBatcher.isEnabled()
+                        ? addressBatcher.getAddress(employeeId).join().address()
+                        : addressClient.getAddress(employeeId);
+            }
+            return cache.get(employeeId).address();
+        } catch (RuntimeException e) {
+            return fallback(e, null);
+        }
+    }
+
+    // ================================
+    // Method: getAddressAsync
+    // ================================
+    // Non-blocking getAddress: returns a future at once.
+    // - Hit → an already completed future.
+    // - Miss → AsyncAddressClient (or AddressBatcher) starts the call; concurrent callers for the same id share it.
+    // - Failure → the future completes with the fallback (null) instead of failing.
+    public CompletableFuture<AddressResponse> getAddressAsync(int employeeId) {
+        AddressResponse local = addressReplica.getAddress(employeeId);
+        if (local != null) {
+            return CompletableFuture.completedFuture(local);
+        }
+        CompletableFuture<VersionedAddress> versioned = enabled
+                ? asyncCache.get(employeeId, (id, executor) -> loadAsync(id))
+                : loadAsync(employeeId);
+
+        return versioned
+                .thenApply(VersionedAddress::address)
+                .exceptionally(failure -> fallback(failure, null));
+    }
+
+    // ================================
+    // Method: getAddresses
+    // ================================
+    // Returns addresses keyed by employeeId. Replicated and cached ids are answered from memory,
+    // all missing ids are fetched together with ONE batch call (see AddressLoader.loadAll).
+    public Map<Integer, AddressResponse> getAddresses(Collection<Integer> employeeIds) {
+        // Step 1: Ids the local read model can answer.
+        Map<Integer, AddressResponse> addresses = new HashMap<>();
+        List<Integer> remoteIds = new ArrayList<>();
+        for (Integer employeeId : employeeIds) {
+            AddressResponse local = addressReplica.getAddress(employeeId);
+            if (local != null) {
+                addresses.put(employeeId, local);
+            } else {
+                remoteIds.add(employeeId);
+            }
+        }
+        if (remoteIds.isEmpty()) {
+            return addresses;
+        }
+
+        // Step 2: The rest → cache / one batch call.
+        try {
+            if (!enabled) {
+                addresses.putAll(addressClient.getAddresses(remoteIds));
+                return addresses;
+            }
+            cache.getAll(remoteIds).forEach((id, versioned) -> {
+                if (versioned.address() != null) {
+                    addresses.put(id, versioned.address());
+                }
+            });
+            return addresses;
+        } catch (RuntimeException e) {
+            // Degraded → still answer the ids that are replicated or cached, the others get no address.
+            if (enabled) {
+                addresses.putAll(cachedAddresses(remoteIds));
+            }
+            return fallback(e, addresses);
+        }
+    }
+
+    // ================================
+    // Method: getAddressesUncached
+    // ================================
+    // Like getAddresses, for reads that visit every employee once (GET /employees/export):
+    // - The cache is neither read nor filled → a full scan does not evict the addresses of the hot set.
+    // - The local read model is still used (it holds every address anyway).
+    // - No fallback: an Address Service failure is thrown, so no employee is exported without its
+    //   address by mistake.
+    public Map<Integer, AddressResponse> getAddressesUncached(Collection<Integer> employeeIds) {
+        // Step 1: Ids the local read model can answer.
+        Map<Integer, AddressResponse> addresses = new HashMap<>();
+        List<Integer> remoteIds = new ArrayList<>();
+        for (Integer employeeId : employeeIds) {
+            AddressResponse local = addressReplica.getAddress(employeeId);
+            if (local != null) {
+                addresses.put(employeeId, local);
+            } else {
+                remoteIds.add(employeeId);
+            }
+        }
+
+        // Step 2: The rest → batch call(s), straight to the Address Service.
+        if (!remoteIds.isEmpty()) {
+            addresses.putAll(addressClient.getAddresses(remoteIds));
+        }
+        return addresses;
+    }
+
+    // ================================
+    // Method: isLocal
+    // ================================
+    // true → getAddress(employeeId) is answered from memory (local read model or cache entry) without
+    // waiting for a remote call. Does not count as a cache hit or miss.
+    public boolean isLocal(int employeeId) {
+        return addressReplica.contains(employeeId)
+                || enabled && cache.policy().getIfPresentQuietly(employeeId) != null;
+    }
+
+    // ================================
+    // Method: invalidate
+    // ================================
+    // Drops one employee's address (e.g. after it is known to have changed).
+    public void invalidate(int employeeId) {
+        cache.invalidate(employeeId);
+    }
+
+    // ================================
+    // Fallback: degraded answer when the Address Service call failed
+    // ================================
+    // Re-throws when fallbacks are disabled (address-client.resilience.fallback-enabled=false).
+    // Failures of cache loads arrive wrapped (CompletionException) → the tag names the actual cause.
+    private <T> T fallback(Throwable failure, T degraded) {
+        Throwable cause = unwrap(failure);
+        if (!fallbackEnabled) {
+            throw cause instanceof RuntimeException runtime ? runtime : new IllegalStateException(cause);
+        }
+        Counter.builder("address.client.fallbacks")
+                .description("Responses served without a fresh address because the Address Service call failed")
+                .tag("reason", cause.getClass().getSimpleName())
+                .register(meterRegistry)
+                .increment();
+        log.warn("Address Service unavailable, serving degraded response: {}", cause.toString());
+        return degraded;
+    }
+
+    // Non-blocking single-id load: coalesced into a batch, or one GET /address/{id}.
+    private CompletableFuture<VersionedAddress> loadAsync(int employeeId) {
+        return addressBatcher.isEnabled()
+                ? addressBatcher.getAddress(employeeId)
+                : asyncAddressClient.getAddress(employeeId);
+    }
+
+    // CompletionException / ExecutionException (possibly nested) → the exception that actually failed the call.
+    private static Throwable unwrap(Throwable failure) {
+        Throwable cause = failure;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    // Addresses currently in the cache (no remote call).
+    private Map<Integer, AddressResponse> cachedAddresses(Collection<Integer> employeeIds) {
+        Map<Integer, AddressResponse> addresses = new HashMap<>();
+        cache.getAllPresent(employeeIds).forEach((id, versioned) -> {
+            if (versioned.address() != null) {
+                addresses.put(id, versioned.address());
+            }
+        });
+        return addresses;
+    }
+
+    // ================================
+    // Loader: how the cache fetches missing addresses
+    // ================================
+    private class AddressLoader implements CacheLoader<Integer, VersionedAddress> {
+
+        // One id → GET /address/{id}.
+        @Override
+        public VersionedAddress load(Integer employeeId) {
+            return addressClient.getAddress(employeeId, null);
+        }
+
+        // One id, coalescing on → joins the current AddressBatcher batch; the caller of the blocking
+        // view waits on the returned future, no executor thread is used.
+        @Override
+        public CompletableFuture<? extends VersionedAddress> asyncLoad(Integer employeeId, Executor executor) throws Exception {
+            return addressBatcher.isEnabled()
+                    ? addressBatcher.getAddress(employeeId)
+                    : CacheLoader.super.asyncLoad(employeeId, executor);
+        }
+
+        // Refresh-ahead → conditional GET with the cached ETag (304 keeps the old value).
+        @Override
+        public VersionedAddress reload(Integer employeeId, VersionedAddress oldValue) {
+            return addressClient.getAddress(employeeId, oldValue);
+        }
+
+        // Many ids → one POST /address/batch. Ids missing from the answer become negative entries.
+        // The batch endpoint sends no ETags → the first refresh of these entries is a normal GET.
+        @Override
+        public Map<Integer, VersionedAddress> loadAll(Set<? extends Integer> employeeIds) {
+            Map<Integer, AddressResponse> found = addressClient.getAddresses(employeeIds.stream().map(Integer::valueOf).toList());
+            Map<Integer, VersionedAddress> result = new HashMap<>();
+            for (Integer employeeId : employeeIds) {
+                AddressResponse address = found.get(employeeId);
+                result.put(employeeId, address != null ? new VersionedAddress(address, null) : VersionedAddress.NOT_FOUND);
+            }
+            return result;
+        }
+    }
+
+    // ================================
+    // Expiry: found addresses live for "ttl", not-found results for "negativeTtl"
+    // ================================
+    private record AddressExpiry(Duration ttl, Duration negativeTtl) implements Expiry<Integer, VersionedAddress> {
+
+        @Override
+        public long expireAfterCreate(Integer key, VersionedAddress value, long currentTime) {
+            return (value.address() != null ? ttl : negativeTtl).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(Integer key, VersionedAddress value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Integer key, VersionedAddress value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
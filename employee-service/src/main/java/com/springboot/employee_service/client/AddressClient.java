@@ -0,0 +1,154 @@
+// Package declaration → groups related classes together.
+package com.springboot.employee_service.client;
+
+import com.springboot.employee_service.configuration.AddressClientProperties; // Base URL, batch size, pool settings.
+import com.springboot.employee_service.response.AddressChangesResponse;      // One page of the change feed.
+import com.springboot.employee_service.response.AddressResponse;             // DTO for address data (from Address Service).
+import lombok.RequiredArgsConstructor;                                       // Lombok → generates constructor for final fields.
+import org.springframework.core.ParameterizedTypeReference;                  // Keeps generic type info (Map<Integer, AddressResponse>).
+import org.springframework.http.HttpEntity;                                  // Wraps the request body.
+import org.springframework.http.HttpHeaders;                                 // Request headers (Accept, If-None-Match).
+import org.springframework.http.HttpMethod;                                  // HTTP verbs (GET, POST...).
+import org.springframework.http.HttpStatus;                                  // Represents HTTP status codes.
+import org.springframework.http.ResponseEntity;                              // Response status + headers + body.
+import org.springframework.stereotype.Component;                             // Marks this class as a Spring-managed bean.
+import org.springframework.web.client.HttpClientErrorException;              // Thrown for 4xx responses.
+import org.springframework.web.client.RestTemplate;                          // Utility for making REST API calls to other services.
+
+import java.time.Instant;        // Point in time → change cursor.
+import java.util.ArrayList;     // Resizable list → used to build each chunk of ids.
+import java.util.Collection;    // Any group of values (List, Set...).
+import java.util.HashMap;       // Map implementation for the combined result.
+import java.util.LinkedHashSet; // Set that removes duplicates but keeps order.
+import java.util.List;          // Ordered collection.
+import java.util.Map;           // Key → value pairs (employeeId → address).
+
+// @Component → Spring creates one instance of this class and injects it where needed.
+// @RequiredArgsConstructor → Lombok generates constructor for final fields (dependency injection).
+//
+// AddressClient is the single place in Employee Service that talks to the Address Service.
+// EmployeeService asks it for addresses and does not need to know URLs or HTTP details.
+@Component
+@RequiredArgsConstructor
+public class AddressClient {
+
+    // Type information for the batch response body → {"1": {...}, "2": {...}}.
+    private static final ParameterizedTypeReference<Map<Integer, AddressResponse>> ADDRESS_MAP_TYPE =
+            new ParameterizedTypeReference<>() {
+            };
+
+    // ================================
+    // Dependencies (Injected by Spring)
+    // ================================
+    private final RestTemplate restTemplate;           // Pooled HTTP client (see EmployeeConfig).
+    private final AddressClientProperties properties;  // Base URL + batch size from application.properties.
+    private final AddressResilience resilience;        // Circuit breaker + bulkhead + time limit around each call.
+    private final AddressHedging hedging;              // Second attempt for slow calls (when enabled).
+
+    // ================================
+    // Method: getAddress
+    // ================================
+    // Calls GET {baseUrl}/address/{id} and returns the address of one employee.
+    // Returns null when the Address Service answers 404 (employee has no address).
+    public AddressResponse getAddress(int employeeId) {
+        return getAddress(employeeId, null).address();
+    }
+
+    // ================================
+    // Method: getAddress (conditional)
+    // ================================
+    // Calls GET {baseUrl}/address/{id} and keeps the ETag of the response.
+    // The response is CBOR or JSON (address-client.wire-format); RestTemplate picks the
+    // converter from the response Content-Type.
+    // If "previous" has an ETag, it is sent as If-None-Match:
+    // - 304 Not Modified → the address did not change → "previous" is returned (no body was sent).
+    // - 200 OK → the new address and its new ETag are returned.
+    // - 404 Not Found → VersionedAddress.NOT_FOUND.
+    // The call runs through AddressResilience (circuit breaker, bulkhead, time limit), and is hedged
+    // (second attempt when slow, first answer wins) when address-client.hedging.enabled=true.
+    public VersionedAddress getAddress(int employeeId, VersionedAddress previous) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.ACCEPT, properties.getWireFormat().getAccept());
+        if (previous != null && previous.eTag() != null) {
+            headers.setIfNoneMatch(previous.eTag());
+        }
+
+        return hedging.call("single", () -> resilience.call(() -> {
+            try {
+                ResponseEntity<AddressResponse> response = restTemplate.exchange(
+                        properties.getBaseUrl() + "/address/{id}",
+                        HttpMethod.GET,
+                        new HttpEntity<>(headers),
+                        AddressResponse.class,
+                        employeeId
+                );
+                if (response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED) && previous != null) {
+                    return previous;
+                }
+                return new VersionedAddress(response.getBody(), response.getHeaders().getETag());
+            } catch (HttpClientErrorException.NotFound e) {
+                return VersionedAddress.NOT_FOUND;
+            }
+        }));
+    }
+
+    // ================================
+    // Method: getAddresses
+    // ================================
+    // Calls POST {baseUrl}/address/batch and returns addresses keyed by employeeId.
+    // - Duplicate ids are removed.
+    // - Large id lists are split into chunks of "batchSize" → one HTTP call per chunk.
+    // - Every chunk is one protected call (see AddressResilience), hedged when enabled (see AddressHedging).
+    // - Employees without an address are missing from the returned map.
+    public Map<Integer, AddressResponse> getAddresses(Collection<Integer> employeeIds) {
+        Map<Integer, AddressResponse> addressesByEmployeeId = new HashMap<>();
+        List<Integer> uniqueIds = new ArrayList<>(new LinkedHashSet<>(employeeIds));
+        int batchSize = properties.getBatchSize();
+
+        for (int from = 0; from < uniqueIds.size(); from += batchSize) {
+            List<Integer> chunk = uniqueIds.subList(from, Math.min(from + batchSize, uniqueIds.size()));
+
+            // Request body (the id list) stays JSON; only the response is negotiated.
+            HttpHeaders headers = new HttpHeaders();
+            headers.set(HttpHeaders.ACCEPT, properties.getWireFormat().getAccept());
+            HttpEntity<List<Integer>> request = new HttpEntity<>(new ArrayList<>(chunk), headers);
+            // POST, but a read → safe to send twice.
+            Map<Integer, AddressResponse> chunkResult = hedging.call("batch", () -> resilience.call(() -> restTemplate.exchange(
+                    properties.getBaseUrl() + "/address/batch",
+                    HttpMethod.POST,
+                    request,
+                    ADDRESS_MAP_TYPE
+            ).getBody()));
+
+            if (chunkResult != null) {
+                addressesByEmployeeId.putAll(chunkResult);
+            }
+        }
+        return addressesByEmployeeId;
+    }
+
+    // ================================
+    // Method: getAddressChanges
+    // ================================
+    // Calls GET {baseUrl}/address/changes and returns one page of changed addresses
+    // (used by AddressReplica to keep the local read model up to date).
+    // - since == null → full snapshot page (rows with id > afterId).
+    // - since != null → rows changed after (since, afterId).
+    // Not wrapped in AddressResilience: this is background polling, a failure only makes the
+    // read model older (AddressReplica then stops serving it) and must not trip the circuit
+    // breaker that protects request traffic.
+    public AddressChangesResponse getAddressChanges(Instant since, int afterId, int limit) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.ACCEPT, properties.getWireFormat().getAccept());
+        String url = properties.getBaseUrl() + "/address/changes?afterId={afterId}&limit={limit}"
+                + (since != null ? "&since={since}" : "");
+
+        return restTemplate.exchange(
+                url,
+                HttpMethod.GET,
+                new HttpEntity<>(headers),
+                AddressChangesResponse.class,
+                Map.of("afterId", afterId, "limit", limit, "since", String.valueOf(since))
+        ).getBody();
+    }
+}
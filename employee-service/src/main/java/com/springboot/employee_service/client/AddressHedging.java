@@ -0,0 +1,348 @@
+// Package declaration → groups related classes together.
+package com.springboot.employee_service.client;
+
+import com.springboot.employee_service.configuration.AddressClientProperties; // Percentile / delay / budget settings.
+import io.micrometer.context.ContextSnapshot;                                // Trace context of the caller.
+import io.micrometer.context.ContextSnapshotFactory;                         // Captures it for the hedge timer.
+import io.micrometer.core.instrument.Counter;                                // Calls / hedges / wins / denied.
+import io.micrometer.core.instrument.Gauge;                                  // Current hedge delay.
+import io.micrometer.core.instrument.MeterRegistry;                          // Registry where metrics are published.
+import org.springframework.beans.factory.DisposableBean;                     // Stops the timer thread on shutdown.
+import org.springframework.core.task.SimpleAsyncTaskExecutor;                // One new (virtual) thread per blocking attempt.
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator; // Carries the trace context into the attempt.
+import org.springframework.stereotype.Component;                             // Marks this class as a Spring-managed bean.
+import org.springframework.web.client.ResourceAccessException;               // Same exception type as an interrupted RestTemplate call.
+
+import java.util.Arrays;                                 // Sorts the latency window.
+import java.util.Map;                                    // Call type → latency tracker.
+import java.util.concurrent.CancellationException;       // Loser attempts are cancelled.
+import java.util.concurrent.CompletableFuture;           // Result of one attempt / of the whole call.
+import java.util.concurrent.CompletionException;         // Wrapper around failures of async stages.
+import java.util.concurrent.ConcurrentHashMap;           // Trackers created on first use.
+import java.util.concurrent.ExecutionException;          // Failure of the blocking call.
+import java.util.concurrent.Executors;                   // Creates the timer thread.
+import java.util.concurrent.FutureTask;                  // Blocking attempt that can be interrupted.
+import java.util.concurrent.ScheduledExecutorService;    // Fires the hedge after the delay.
+import java.util.concurrent.ScheduledFuture;             // Handle to cancel a pending hedge.
+import java.util.concurrent.TimeUnit;                    // Nanosecond delays.
+import java.util.concurrent.atomic.AtomicLong;           // Samples written so far.
+import java.util.concurrent.atomic.AtomicLongArray;      // Latency window (ring buffer).
+import java.util.function.Supplier;                      // Starts one attempt.
+
+// @Component → Hedged requests for idempotent Address Service reads (cuts tail latency).
+//
+//   t=0      attempt 1 →→→→→→→→→→→→→→→→→→→→ (stalls: GC pause, slow DB connection...)
+//   t=delay  attempt 2 →→→→→ answer            ← first answer wins, attempt 1 is cancelled
+//
+// - delay = "percentile" (e.g. p95) of the recent answer times of the same call type,
+//   kept within [minDelay, maxDelay]; maxDelay is used until 20 calls were seen. Recomputed every second
+//   from the last 1000 calls. So only about 5% of calls (the slowest) get a second attempt.
+// - Budget → one token bucket for ALL call types: every call adds budgetPercent/100 of a token (at most
+//   10 tokens saved up), every hedge takes one. Hedges therefore add at most ~budgetPercent extra load,
+//   also when the Address Service is slow across the board (then every call would pass the delay).
+// - First answer wins: the other attempt is cancelled. Async and blocking over HTTP/2 (JDK client) → the
+//   HTTP exchange is aborted. Blocking over HTTP/1.1 (Apache classic client) → its virtual thread is
+//   interrupted, but a socket read ignores interrupts: the lost call runs on until it answers or hits
+//   the read timeout, then its result is dropped. A FAILED attempt does not end the call while the other
+//   one is still running; a failure before the hedge was sent ends it (hedging is not a retry).
+// - Latency sample (only for answers): the winner's time from its OWN start → first attempt: since the
+//   call started, hedge: since the hedge was sent.
+// - Each attempt is a separate call through AddressResilience and AddressLoadBalancer (its own bulkhead
+//   slot, usually another instance). Cancelled attempts are ignored by the circuit breaker.
+// - Metrics, tag call=single|batch: address.client.hedge.calls, .sent (hedges sent → hedge rate = sent / calls),
+//   .wins (hedge answered first), .denied (budget empty), .delay (current delay in seconds).
+//
+// Used for GET /address/{id} (AddressClient, AsyncAddressClient) and POST /address/batch (AddressClient)
+// when address-client.hedging.enabled=true; otherwise every call is a single attempt.
+@Component
+public class AddressHedging implements DisposableBean {
+
+    private static final int WINDOW = 1000;       // Latency samples kept per call type.
+    private static final int MIN_SAMPLES = 20;    // Fewer → maxDelay.
+    private static final double MAX_TOKENS = 10;  // Budget burst.
+
+    private final boolean enabled;
+    private final double percentile;
+    private final long minDelayNanos;
+    private final long maxDelayNanos;
+    private final double tokensPerCall;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Tracker> trackers = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService timer;
+    private final SimpleAsyncTaskExecutor attemptExecutor;
+    private final ContextSnapshotFactory snapshotFactory = ContextSnapshotFactory.builder().build();
+
+    // Guarded by "this".
+    private double tokens = MAX_TOKENS;
+
+    public AddressHedging(AddressClientProperties properties, MeterRegistry meterRegistry) {
+        AddressClientProperties.Hedging settings = properties.getHedging();
+        this.enabled = settings.isEnabled();
+        this.percentile = settings.getPercentile();
+        this.minDelayNanos = settings.getMinDelay().toNanos();
+        this.maxDelayNanos = Math.max(minDelayNanos, settings.getMaxDelay().toNanos());
+        this.tokensPerCall = settings.getBudgetPercent() / 100;
+        this.meterRegistry = meterRegistry;
+
+        this.timer = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                .name("address-hedging")
+                .daemon(true)
+                .factory());
+        if (enabled) {
+            timer.scheduleWithFixedDelay(() -> trackers.values().forEach(Tracker::updateDelay), 1, 1, TimeUnit.SECONDS);
+        }
+        this.attemptExecutor = new SimpleAsyncTaskExecutor("address-hedge-");
+        this.attemptExecutor.setVirtualThreads(true);
+        this.attemptExecutor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+    }
+
+    // ================================
+    // Method: call (blocking)
+    // ================================
+    // Runs "attempt" (and possibly a second one) and returns the first answer.
+    // Attempts run on their own virtual threads, so the loser can be interrupted.
+    // Disabled → "attempt" runs once on the calling thread.
+    public <T> T call(String callType, Supplier<T> attempt) {
+        if (!enabled) {
+            return attempt.get();
+        }
+        CompletableFuture<T> hedged = callAsync(callType, () -> startBlocking(attempt));
+        try {
+            return hedged.get();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException runtime ? runtime : new IllegalStateException("Address Service call failed", e.getCause());
+        } catch (InterruptedException e) {
+            // Caller gave up (e.g. a cancelled parallel lookup) → stop both attempts.
+            hedged.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ResourceAccessException("Address Service call interrupted");
+        }
+    }
+
+    // ================================
+    // Method: callAsync
+    // ================================
+    // Non-blocking variant: "attempt" starts one call and returns its future; cancelling that
+    // future must abort the call.
+    public <T> CompletableFuture<T> callAsync(String callType, Supplier<CompletableFuture<T>> attempt) {
+        if (!enabled) {
+            return attempt.get();
+        }
+        Tracker tracker = trackers.computeIfAbsent(callType, Tracker::new);
+        tracker.calls.increment();
+        deposit();
+        return new HedgedCall<>(tracker, attempt).start();
+    }
+
+    // Runs a blocking attempt on a virtual thread; cancel(true) on the returned future interrupts it.
+    private <T> CompletableFuture<T> startBlocking(Supplier<T> attempt) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        FutureTask<Void> task = new FutureTask<>(() -> {
+            try {
+                result.complete(attempt.get());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        }, null);
+        result.whenComplete((value, failure) -> {
+            if (failure instanceof CancellationException) {
+                task.cancel(true);
+            }
+        });
+        attemptExecutor.execute(task);
+        return result;
+    }
+
+    // ================================
+    // Budget (token bucket shared by all call types)
+    // ================================
+    private synchronized void deposit() {
+        tokens = Math.min(MAX_TOKENS, tokens + tokensPerCall);
+    }
+
+    private synchronized boolean withdraw() {
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+
+    @Override
+    public void destroy() {
+        timer.shutdownNow();
+    }
+
+    // ================================
+    // One call: first attempt, maybe a hedge, first answer wins
+    // ================================
+    private final class HedgedCall<T> {
+
+        private final Tracker tracker;
+        private final Supplier<CompletableFuture<T>> attempt;
+        private final long started = System.nanoTime();
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+
+        // Guarded by "this".
+        private CompletableFuture<T> first;
+        private CompletableFuture<T> hedge;
+        private long hedgeStarted;
+        private int running;
+
+        private HedgedCall(Tracker tracker, Supplier<CompletableFuture<T>> attempt) {
+            this.tracker = tracker;
+            this.attempt = attempt;
+        }
+
+        private CompletableFuture<T> start() {
+            CompletableFuture<T> attempt1 = begin();
+            synchronized (this) {
+                first = attempt1;
+                running = 1;
+            }
+            attempt1.whenComplete((value, failure) -> done(attempt1, value, failure));
+
+            // The hedge is started by the timer thread → it gets the caller's trace context.
+            ContextSnapshot snapshot = snapshotFactory.captureAll();
+            ScheduledFuture<?> pending = timer.schedule(snapshot.wrap(this::hedge), tracker.delayNanos, TimeUnit.NANOSECONDS);
+            result.whenComplete((value, failure) -> {
+                pending.cancel(false);
+                if (result.isCancelled()) {
+                    cancelAttempts();
+                }
+            });
+            return result;
+        }
+
+        // The caller cancelled the whole call.
+        private void cancelAttempts() {
+            CompletableFuture<T> attempt1;
+            CompletableFuture<T> attempt2;
+            synchronized (this) {
+                attempt1 = first;
+                attempt2 = hedge;
+            }
+            attempt1.cancel(true);
+            if (attempt2 != null) {
+                attempt2.cancel(true);
+            }
+        }
+
+        private void hedge() {
+            synchronized (this) {
+                if (result.isDone()) {
+                    return;
+                }
+            }
+            if (!withdraw()) {
+                tracker.denied.increment();
+                return;
+            }
+            tracker.sent.increment();
+            long attempt2Started = System.nanoTime();
+            CompletableFuture<T> attempt2 = begin();
+            synchronized (this) {
+                if (result.isDone()) {
+                    attempt2.cancel(true); // The first attempt answered in the meantime.
+                    return;
+                }
+                hedge = attempt2;
+                hedgeStarted = attempt2Started;
+                running++;
+            }
+            attempt2.whenComplete((value, failure) -> done(attempt2, value, failure));
+        }
+
+        private void done(CompletableFuture<T> attempt, T value, Throwable failure) {
+            CompletableFuture<T> loser;
+            synchronized (this) {
+                if (result.isDone()) {
+                    // Lost (or started after the call ended) → make sure it stops.
+                    attempt.cancel(true);
+                    return;
+                }
+                running--;
+                if (failure != null && running > 0) {
+                    return; // The other attempt may still answer.
+                }
+                loser = attempt == first ? hedge : first;
+                // Metrics first → a caller woken by the result already sees this call counted.
+                if (failure == null) {
+                    tracker.record(System.nanoTime() - (attempt == hedge ? hedgeStarted : started));
+                    if (attempt == hedge) {
+                        tracker.wins.increment();
+                    }
+                    result.complete(value);
+                } else {
+                    result.completeExceptionally(failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure);
+                }
+            }
+            if (loser != null) {
+                loser.cancel(true);
+            }
+        }
+
+        // A failure while starting counts as a failed attempt.
+        private CompletableFuture<T> begin() {
+            try {
+                return attempt.get();
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+    }
+
+    // ================================
+    // Latency window + metrics of one call type
+    // ================================
+    private final class Tracker {
+
+        private final AtomicLongArray samples = new AtomicLongArray(WINDOW);
+        private final AtomicLong count = new AtomicLong();
+        private volatile long delayNanos = maxDelayNanos;
+
+        private final Counter calls;
+        private final Counter sent;
+        private final Counter wins;
+        private final Counter denied;
+
+        private Tracker(String callType) {
+            this.calls = counter("address.client.hedge.calls", "Address Service calls that may be hedged", callType);
+            this.sent = counter("address.client.hedge.sent", "Second attempts sent because the first one was slow", callType);
+            this.wins = counter("address.client.hedge.wins", "Calls answered by the second attempt", callType);
+            this.denied = counter("address.client.hedge.denied", "Hedges not sent because the hedge budget was used up", callType);
+            Gauge.builder("address.client.hedge.delay", this, tracker -> tracker.delayNanos / 1e9)
+                    .description("Current delay before a second attempt is sent")
+                    .tag("call", callType)
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+        }
+
+        private void record(long nanos) {
+            samples.set((int) (count.getAndIncrement() % WINDOW), nanos);
+        }
+
+        // Timer thread, once per second.
+        private void updateDelay() {
+            int size = (int) Math.min(count.get(), WINDOW);
+            if (size < MIN_SAMPLES) {
+                return;
+            }
+            long[] sorted = new long[size];
+            for (int i = 0; i < size; i++) {
+                sorted[i] = samples.get(i);
+            }
+            Arrays.sort(sorted);
+            long value = sorted[Math.max(0, (int) Math.ceil(percentile * size) - 1)];
+            delayNanos = Math.clamp(value, minDelayNanos, maxDelayNanos);
+        }
+
+        private Counter counter(String name, String description, String callType) {
+            return Counter.builder(name)
+                    .description(description)
+                    .tag("call", callType)
+                    .register(meterRegistry);
+        }
+    }
+}
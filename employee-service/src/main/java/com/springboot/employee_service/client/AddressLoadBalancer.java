@@ -0,0 +1,360 @@
+// Package declaration → groups related classes together.
+package com.springboot.employee_service.client;
+
+import com.springboot.employee_service.configuration.AddressClientProperties; // Instance list / ejection settings.
+import io.micrometer.core.instrument.Counter;                                // Counts ejections.
+import io.micrometer.core.instrument.Gauge;                                  // Publishes available / ejected instances.
+import io.micrometer.core.instrument.MeterRegistry;                          // Registry where metrics are published.
+import lombok.extern.slf4j.Slf4j;                                            // Lombok → generates a "log" field.
+import org.springframework.beans.factory.DisposableBean;                     // Stops the file check on shutdown.
+import org.springframework.beans.factory.InitializingBean;                   // Loads the instance list once the bean is ready.
+import org.springframework.http.HttpRequest;                                 // Outgoing RestTemplate request.
+import org.springframework.http.client.ClientHttpRequestExecution;           // Continues the request with the chosen instance.
+import org.springframework.http.client.ClientHttpRequestInterceptor;         // Hook into every RestTemplate call.
+import org.springframework.http.client.ClientHttpResponse;                   // Status code → success / failure.
+import org.springframework.http.client.support.HttpRequestWrapper;           // Same request, different URI.
+import org.springframework.stereotype.Component;                             // Marks this class as a Spring-managed bean.
+
+import java.io.IOException;                            // Connection refused, reset, timed out...
+import java.net.URI;                                   // Request address / instance address.
+import java.nio.file.Files;                            // Reads the instance file.
+import java.nio.file.Path;                             // Instance file location.
+import java.util.List;                                 // Instance list.
+import java.util.Map;                                  // origin → instance (keeps stats across reloads).
+import java.util.concurrent.Executors;                 // Creates the file check thread.
+import java.util.concurrent.ScheduledExecutorService;  // Re-reads the file every "refreshInterval".
+import java.util.concurrent.ThreadLocalRandom;         // Random pair of candidates.
+import java.util.concurrent.TimeUnit;                  // Delay unit.
+import java.util.concurrent.atomic.AtomicInteger;      // Calls in flight per instance.
+import java.util.function.Function;                    // Instance by origin.
+import java.util.stream.Collectors;                    // Builds the origin map.
+
+// @Component → Client-side load balancing over several Address Service instances.
+//
+// Every call to the host of address-client.base-url is sent to one of the configured instances
+// instead (same path and query, other scheme://host:port):
+// - RestTemplate → this class is one of its interceptors (see EmployeeConfig.restTemplate).
+// - AsyncAddressClient → calls choose() itself.
+//
+// Selection: power of two choices over "peak EWMA" latency:
+//   pick 2 random available instances → send to the one with the lower cost
+//   cost = latency average × (calls in flight + 1)
+// - The average jumps up at once when a call is slower than it (a slowing instance loses traffic
+//   immediately) and decays back over "decay" when calls are faster again.
+// - It also decays while an instance gets no answers, so an instance that was slow once is tried
+//   again later instead of being starved forever.
+// - Calls in flight make a busy instance more expensive before its latency shows it.
+// - A failed call counts as a call that took "failurePenalty" (at least) → an instance that answers
+//   errors quickly looks slow, not fast, and loses traffic even before it is ejected.
+// - New instances start at the average of the existing ones.
+//
+// Passive health ejection: "ejectAfterFailures" failed calls in a row (I/O error, timeout, 5xx)
+// → the instance gets no traffic for "ejectionTime"; afterwards one more failure ejects it again,
+// a success puts it back for good. If every instance is ejected, all of them are used anyway
+// (better a call that may fail than no call at all).
+//
+// Instance list: address-client.load-balancer.instances, or a file re-read every "refreshInterval"
+// (instances that stay keep their statistics). A file that cannot be read or lists nothing keeps
+// the previous list.
+//
+// Metrics: address.client.lb.instances{state=available|ejected}, address.client.lb.ejections.
+@Slf4j
+@Component
+public class AddressLoadBalancer implements ClientHttpRequestInterceptor, InitializingBean, DisposableBean {
+
+    private final AddressClientProperties.LoadBalancer settings;
+    private final String baseOrigin;
+    private final long decayNanos;
+    private final long failurePenaltyNanos;
+    private final long ejectionNanos;
+    private final Counter ejections;
+
+    // Replaced as a whole when the list changes → request threads never wait for a reload.
+    private volatile List<Instance> instances = List.of();
+
+    private ScheduledExecutorService reloader;
+    private String lastReloadFailure;   // Reload thread only → the same problem is logged once.
+
+    public AddressLoadBalancer(AddressClientProperties properties, MeterRegistry meterRegistry) {
+        this.settings = properties.getLoadBalancer();
+        this.baseOrigin = origin(URI.create(properties.getBaseUrl()));
+        this.decayNanos = settings.getDecay().toNanos();
+        this.failurePenaltyNanos = settings.getFailurePenalty().toNanos();
+        this.ejectionNanos = settings.getEjectionTime().toNanos();
+
+        Gauge.builder("address.client.lb.instances", this, balancer -> balancer.count(false))
+                .description("Address Service instances that receive traffic")
+                .tag("state", "available")
+                .register(meterRegistry);
+        Gauge.builder("address.client.lb.instances", this, balancer -> balancer.count(true))
+                .description("Address Service instances that receive traffic")
+                .tag("state", "ejected")
+                .register(meterRegistry);
+        this.ejections = Counter.builder("address.client.lb.ejections")
+                .description("Address Service instances taken out of rotation after failed calls")
+                .register(meterRegistry);
+    }
+
+    // ================================
+    // Method: choose
+    // ================================
+    // Picks the instance for one call to "uri". The caller sends the call to selection.uri() and
+    // MUST report the result with selection.done(...) (or selection.cancelled()) exactly once.
+    // Disabled, or another host than the Address Service → "uri" unchanged.
+    public Selection choose(URI uri) {
+        if (!settings.isEnabled() || !baseOrigin.equals(origin(uri))) {
+            return new Selection(null, uri);
+        }
+        Instance instance = pick(System.nanoTime());
+        instance.inFlight.incrementAndGet();
+        return new Selection(instance, URI.create(instance.origin + uri.getRawPath()
+                + (uri.getRawQuery() != null ? "?" + uri.getRawQuery() : "")));
+    }
+
+    // ================================
+    // RestTemplate interceptor
+    // ================================
+    // Latency = time until the response status and headers arrived.
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        Selection selection = choose(request.getURI());
+        if (selection.instance == null) {
+            return execution.execute(request, body);
+        }
+        try {
+            ClientHttpResponse response = execution.execute(new HttpRequestWrapper(request) {
+                @Override
+                public URI getURI() {
+                    return selection.uri();
+                }
+            }, body);
+            selection.done(!response.getStatusCode().is5xxServerError());
+            return response;
+        } catch (IOException | RuntimeException e) {
+            // Interrupted → the call was abandoned (e.g. a hedged attempt that lost), not a failure of the instance.
+            if (Thread.currentThread().isInterrupted()) {
+                selection.cancelled();
+            } else {
+                selection.done(false);
+            }
+            throw e;
+        }
+    }
+
+    // Power of two choices among the available instances.
+    private Instance pick(long now) {
+        List<Instance> all = instances;
+        List<Instance> candidates = all;
+        if (all.stream().anyMatch(instance -> instance.isEjected(now))) {
+            List<Instance> available = all.stream().filter(instance -> !instance.isEjected(now)).toList();
+            candidates = available.isEmpty() ? all : available;
+        }
+        if (candidates.size() == 1) {
+            return candidates.getFirst();
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(candidates.size());
+        int second = random.nextInt(candidates.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+        Instance a = candidates.get(first);
+        Instance b = candidates.get(second);
+        return a.cost(now) <= b.cost(now) ? a : b;
+    }
+
+    private double count(boolean ejected) {
+        long now = System.nanoTime();
+        return instances.stream().filter(instance -> instance.isEjected(now) == ejected).count();
+    }
+
+    // ================================
+    // Instance list lifecycle
+    // ================================
+    // Static list (or only the base URL) → loaded once. File → loaded now (startup fails if it
+    // is unusable) and re-read with a fixed delay.
+    @Override
+    public void afterPropertiesSet() throws IOException {
+        if (!settings.isEnabled()) {
+            return;
+        }
+        Path file = settings.getInstancesFile();
+        if (file == null) {
+            update(settings.getInstances().isEmpty() ? List.of(baseOrigin) : settings.getInstances());
+            return;
+        }
+        update(readInstances(file));
+        reloader = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                .name("address-lb-reload")
+                .daemon(true)
+                .factory());
+        long interval = settings.getRefreshInterval().toMillis();
+        reloader.scheduleWithFixedDelay(this::reload, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        if (reloader != null) {
+            reloader.shutdownNow();
+        }
+    }
+
+    private void reload() {
+        Path file = settings.getInstancesFile();
+        try {
+            update(readInstances(file));
+            lastReloadFailure = null;
+        } catch (IOException | RuntimeException e) {
+            if (!e.toString().equals(lastReloadFailure)) {
+                log.warn("Cannot read Address Service instances from {}, keeping {}: {}",
+                        file, instances.stream().map(instance -> instance.origin).toList(), e.toString());
+            }
+            lastReloadFailure = e.toString();
+        }
+    }
+
+    // One instance per line, "#" starts a comment.
+    private static List<String> readInstances(Path file) throws IOException {
+        List<String> lines = Files.readAllLines(file).stream()
+                .map(line -> line.replaceFirst("#.*", "").strip())
+                .filter(line -> !line.isEmpty())
+                .toList();
+        if (lines.isEmpty()) {
+            throw new IllegalStateException("No Address Service instances in " + file);
+        }
+        return lines;
+    }
+
+    // Only the reload thread (and startup) writes the list.
+    private synchronized void update(List<String> urls) {
+        List<String> origins = urls.stream().map(url -> origin(URI.create(url.strip()))).distinct().toList();
+        List<Instance> current = instances;
+        if (origins.equals(current.stream().map(instance -> instance.origin).toList())) {
+            return;
+        }
+        long now = System.nanoTime();
+        Map<String, Instance> byOrigin = current.stream().collect(Collectors.toMap(instance -> instance.origin, Function.identity()));
+        double initialLatency = current.stream().mapToDouble(instance -> instance.latency(now)).average().orElse(0);
+        instances = origins.stream()
+                .map(origin -> byOrigin.getOrDefault(origin, new Instance(origin, initialLatency, now)))
+                .toList();
+        log.info("Address Service instances: {}", origins);
+    }
+
+    // scheme://host[:port]
+    private static String origin(URI uri) {
+        if (uri.getScheme() == null || uri.getHost() == null) {
+            throw new IllegalArgumentException("Not an instance URL (scheme://host:port): " + uri);
+        }
+        return uri.getScheme() + "://" + uri.getHost() + (uri.getPort() != -1 ? ":" + uri.getPort() : "");
+    }
+
+    // ================================
+    // One chosen instance for one call
+    // ================================
+    public final class Selection {
+
+        private final Instance instance; // null → not balanced
+        private final URI uri;
+        private final long started = System.nanoTime();
+
+        private Selection(Instance instance, URI uri) {
+            this.instance = instance;
+            this.uri = uri;
+        }
+
+        // Where the call has to go.
+        public URI uri() {
+            return uri;
+        }
+
+        // success=false → I/O error, timeout or 5xx.
+        public void done(boolean success) {
+            if (instance != null && instance.done(started, success, System.nanoTime())) {
+                ejections.increment();
+                log.warn("Address Service instance {} ejected for {} after {} failed calls in a row",
+                        instance.origin, settings.getEjectionTime(), settings.getEjectAfterFailures());
+            }
+        }
+
+        // The caller gave up before an answer arrived (e.g. a hedged attempt that lost) → no failure,
+        // but the time waited so far still counts as a (peak) latency.
+        public void cancelled() {
+            if (instance != null) {
+                instance.cancelled(started, System.nanoTime());
+            }
+        }
+    }
+
+    // ================================
+    // Statistics of one instance
+    // ================================
+    private final class Instance {
+
+        private final String origin;
+        private final AtomicInteger inFlight = new AtomicInteger();
+
+        // Guarded by "this".
+        private double latencyNanos;    // Peak EWMA of the response time.
+        private long lastSample;        // System.nanoTime() of the last latency update.
+        private int failuresInARow;
+        private long ejectedUntil;
+        private boolean ejected;
+
+        private Instance(String origin, double latencyNanos, long now) {
+            this.origin = origin;
+            this.latencyNanos = latencyNanos;
+            this.lastSample = now;
+        }
+
+        private double cost(long now) {
+            return latency(now) * (inFlight.get() + 1);
+        }
+
+        // Average decayed by the time since the last answer.
+        private synchronized double latency(long now) {
+            return latencyNanos * Math.exp(-(double) (now - lastSample) / decayNanos);
+        }
+
+        private synchronized boolean isEjected(long now) {
+            return ejected && ejectedUntil - now > 0;
+        }
+
+        // true → this failure ejected the instance.
+        private synchronized boolean done(long started, boolean success, long now) {
+            inFlight.decrementAndGet();
+            if (success) {
+                failuresInARow = 0;
+                double elapsed = now - started;
+                double current = latency(now);
+                double weight = Math.exp(-(double) (now - lastSample) / decayNanos);
+                // Slower than the average → take it over at once (peak); faster → blend in.
+                latencyNanos = elapsed > current ? elapsed : current + elapsed * (1 - weight);
+                lastSample = now;
+                return false;
+            }
+            // Failure → peak of at least the penalty, however fast the error came back.
+            double penalty = Math.max(now - started, failurePenaltyNanos);
+            if (penalty > latency(now)) {
+                latencyNanos = penalty;
+                lastSample = now;
+            }
+            failuresInARow++;
+            if (failuresInARow >= settings.getEjectAfterFailures() && !isEjected(now)) {
+                ejected = true;
+                ejectedUntil = now + ejectionNanos;
+                return true;
+            }
+            return false;
+        }
+
+        private synchronized void cancelled(long started, long now) {
+            inFlight.decrementAndGet();
+            double elapsed = now - started;
+            if (elapsed > latency(now)) {
+                latencyNanos = elapsed;
+                lastSample = now;
+            }
+        }
+    }
+}
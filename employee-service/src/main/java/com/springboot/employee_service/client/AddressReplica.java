@@ -0,0 +1,233 @@
+// Package declaration → groups related classes together.
+package com.springboot.employee_service.client;
+
+import com.springboot.employee_service.configuration.AddressClientProperties; // Poll interval / staleness settings.
+import com.springboot.employee_service.response.AddressChangeResponse;       // One changed address.
+import com.springboot.employee_service.response.AddressChangesResponse;      // One page of the change feed.
+import com.springboot.employee_service.response.AddressResponse;             // DTO for address data (from Address Service).
+import io.micrometer.core.instrument.Counter;                                // Counts local hits / misses.
+import io.micrometer.core.instrument.Gauge;                                  // Publishes size and age of the copy.
+import io.micrometer.core.instrument.MeterRegistry;                          // Registry where metrics are published.
+import lombok.extern.slf4j.Slf4j;                                            // Lombok → generates a "log" field.
+import org.springframework.beans.factory.DisposableBean;                     // Stops polling on shutdown.
+import org.springframework.beans.factory.InitializingBean;                   // Starts polling once the bean is ready.
+import org.springframework.stereotype.Component;                             // Marks this class as a Spring-managed bean.
+
+import java.time.Duration;                             // Staleness bound.
+import java.time.Instant;                              // Change cursor / sync times.
+import java.util.HashSet;                              // Employee ids seen by a snapshot.
+import java.util.Map;                                  // employeeId → address.
+import java.util.Set;                                  // Employee ids seen by a snapshot.
+import java.util.concurrent.ConcurrentHashMap;         // Read by request threads while the poller writes.
+import java.util.concurrent.Executors;                 // Creates the poller thread.
+import java.util.concurrent.ScheduledExecutorService;  // Runs the poll every "pollInterval".
+import java.util.concurrent.TimeUnit;                  // Delay unit.
+
+// @Component → Local, denormalized read model of the Address Service: employeeId → address,
+// kept in memory and refreshed by polling GET /address/changes.
+//
+//   startup:  snapshot   → GET /address/changes?afterId=0..   (all rows, id order)
+//   then:     every "pollInterval" → GET /address/changes?since=<newest updatedAt - overlap>
+//   and:      every "resyncInterval" → snapshot again, employees it no longer returns are removed
+//
+// - Reads (getAddress) never leave the JVM: no HTTP call, no Address Service DB query.
+// - Staleness bound: the copy is only served while its last successful sync STARTED less than
+//   "maxStaleness" ago. During startup, or when polling fails for longer, getAddress answers
+//   "not available" and callers use the remote path (AddressCache → Address Service).
+// - Miss (employee not in the copy, e.g. an address created after the last poll) → remote path too.
+// - Overlap: every poll re-reads the last "overlap" of changes; a row's updated_at is set before
+//   its transaction commits, so a slow commit can become visible after a poll already moved past it.
+//   Re-reading a row is harmless, each row is the current state of the address.
+// - Deletes: the feed only returns existing rows, so a deleted address is only noticed by the next
+//   snapshot (at most "resyncInterval" later), which drops every employee it did not return.
+// - Metrics: address.replica.size, address.replica.staleness (seconds since the last successful sync),
+//   address.replica.lookups{result=hit|miss|stale}.
+//
+// Only active with address-client.replica.enabled=true (otherwise getAddress always returns null).
+@Slf4j
+@Component
+public class AddressReplica implements InitializingBean, DisposableBean {
+
+    private final AddressClient addressClient;
+    private final AddressClientProperties.Replica settings;
+    private final Map<Integer, AddressResponse> addresses = new ConcurrentHashMap<>();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter staleReads;
+
+    // Written by the poller thread only, read by request threads.
+    private volatile Instant syncedAt;     // Start of the last successful sync (null → never synced).
+    private Instant newestChange;          // Change cursor (null → snapshot not done yet); only moved after a complete sync.
+    private Instant snapshotAt;            // Start of the last complete snapshot.
+
+    private ScheduledExecutorService poller;
+
+    public AddressReplica(AddressClient addressClient, AddressClientProperties properties, MeterRegistry meterRegistry) {
+        this.addressClient = addressClient;
+        this.settings = properties.getReplica();
+
+        Gauge.builder("address.replica.size", addresses, Map::size)
+                .description("Addresses held in the local read model")
+                .register(meterRegistry);
+        Gauge.builder("address.replica.staleness", this, AddressReplica::stalenessSeconds)
+                .description("Seconds since the last successful sync of the local read model started")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.hits = lookups(meterRegistry, "hit");
+        this.misses = lookups(meterRegistry, "miss");
+        this.staleReads = lookups(meterRegistry, "stale");
+    }
+
+    // ================================
+    // Method: getAddress
+    // ================================
+    // Returns the locally replicated address of one employee, or null when the caller must ask
+    // the Address Service (disabled, too stale, or not in the copy). The copy only holds
+    // existing addresses, so null never means "employee has no address".
+    public AddressResponse getAddress(int employeeId) {
+        if (!settings.isEnabled()) {
+            return null;
+        }
+        if (!isFresh()) {
+            staleReads.increment();
+            return null;
+        }
+        AddressResponse address = addresses.get(employeeId);
+        if (address == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return address;
+    }
+
+    // true → getAddress(employeeId) would answer locally (no lookup is counted).
+    public boolean contains(int employeeId) {
+        return isFresh() && addresses.containsKey(employeeId);
+    }
+
+    // true → the copy may be served (enabled and synced within maxStaleness).
+    public boolean isFresh() {
+        Instant synced = syncedAt;
+        return settings.isEnabled()
+                && synced != null
+                && Duration.between(synced, Instant.now()).compareTo(settings.getMaxStaleness()) <= 0;
+    }
+
+    // NaN until the first successful sync.
+    private double stalenessSeconds() {
+        Instant synced = syncedAt;
+        return synced == null ? Double.NaN : Duration.between(synced, Instant.now()).toMillis() / 1000.0;
+    }
+
+    // ================================
+    // Polling lifecycle
+    // ================================
+    // First run right away (snapshot), then with a fixed delay → polls never overlap.
+    @Override
+    public void afterPropertiesSet() {
+        if (!settings.isEnabled()) {
+            return;
+        }
+        poller = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                .name("address-replica")
+                .daemon(true)
+                .factory());
+        poller.scheduleWithFixedDelay(this::poll, 0, settings.getPollInterval().toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        if (poller != null) {
+            poller.shutdownNow();
+        }
+    }
+
+    // One sync: snapshot first, changes afterwards. A failure keeps the cursor → retried on the next run.
+    void poll() {
+        Instant started = Instant.now();
+        try {
+            if (newestChange == null || resyncDue(started)) {
+                snapshot();
+                snapshotAt = started;
+            } else {
+                changesSince(newestChange.minus(settings.getOverlap()));
+            }
+            syncedAt = started;
+        } catch (RuntimeException e) {
+            log.warn("Address read model sync failed (last successful sync: {}): {}", syncedAt, e.toString());
+        }
+    }
+
+    // Zero resyncInterval → only the startup snapshot.
+    private boolean resyncDue(Instant now) {
+        Duration interval = settings.getResyncInterval();
+        return !interval.isZero() && Duration.between(snapshotAt, now).compareTo(interval) >= 0;
+    }
+
+    // ================================
+    // Sync: full snapshot (id order)
+    // ================================
+    // Changes made while the snapshot is read are picked up by the first changes poll, which
+    // starts at the asOf of the first snapshot page (not at the newest row seen: a row read early
+    // may have changed again while later pages were read).
+    // Employees the snapshot did not return were deleted → removed only once every page was read
+    // (a failed snapshot removes nothing). The old copy keeps being served while it runs.
+    private void snapshot() {
+        Set<Integer> seen = new HashSet<>();
+        Instant firstAsOf = null;
+        int afterId = 0;
+        AddressChangesResponse page;
+        do {
+            page = addressClient.getAddressChanges(null, afterId, settings.getPageSize());
+            if (firstAsOf == null) {
+                firstAsOf = page.getAsOf();
+            }
+            for (AddressChangeResponse change : page.getChanges()) {
+                apply(change);
+                seen.add(change.getEmployeeId());
+                afterId = change.getId();
+            }
+        } while (page.isHasMore());
+
+        int before = addresses.size();
+        addresses.keySet().retainAll(seen);
+        newestChange = firstAsOf;
+        log.info("Address read model loaded: {} addresses ({} removed)", addresses.size(), before - addresses.size());
+    }
+
+    // ================================
+    // Sync: changes after "since" ((updatedAt, id) order)
+    // ================================
+    private void changesSince(Instant since) {
+        Instant cursor = since;
+        int afterId = 0;
+        AddressChangesResponse page;
+        do {
+            page = addressClient.getAddressChanges(cursor, afterId, settings.getPageSize());
+            for (AddressChangeResponse change : page.getChanges()) {
+                apply(change);
+                cursor = change.getUpdatedAt();
+                afterId = change.getId();
+            }
+        } while (page.isHasMore());
+
+        // Rows come in updatedAt order → the last one is the newest change.
+        if (cursor.isAfter(newestChange)) {
+            newestChange = cursor;
+        }
+    }
+
+    // Stores the current state of one address.
+    private void apply(AddressChangeResponse change) {
+        addresses.put(change.getEmployeeId(), new AddressResponse(change.getId(), change.getCity(), change.getState()));
+    }
+
+    private static Counter lookups(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("address.replica.lookups")
+                .description("Lookups in the local address read model")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
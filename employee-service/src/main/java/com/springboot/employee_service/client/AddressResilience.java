@@ -0,0 +1,108 @@
+// Package declaration → groups related classes together.
+package com.springboot.employee_service.client;
+
+import com.springboot.employee_service.configuration.AddressClientProperties; // Time limit setting.
+import io.github.resilience4j.bulkhead.Bulkhead;                              // Caps concurrent calls.
+import io.github.resilience4j.bulkhead.BulkheadRegistry;                      // Provides the configured bulkhead.
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;                  // Fails fast while the Address Service is unhealthy.
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;          // Provides the configured circuit breaker.
+import io.github.resilience4j.timelimiter.TimeLimiter;                        // Gives up on a single slow call.
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;                // Provides the configured time limiter.
+import org.springframework.core.task.AsyncTaskExecutor;                      // Runs time-limited calls.
+import org.springframework.core.task.SimpleAsyncTaskExecutor;                // One new (virtual) thread per task.
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator; // Carries the trace context into the task.
+import org.springframework.stereotype.Component;                             // Marks this class as a Spring-managed bean.
+import org.springframework.web.client.ResourceAccessException;               // Spring's "I/O problem" exception.
+
+import java.util.concurrent.Callable;        // A call that returns a value and may throw.
+import java.util.concurrent.CompletableFuture; // Result of a non-blocking call.
+import java.util.concurrent.CompletionStage;   // Any async result (CompletableFuture...).
+import java.util.concurrent.Future;            // Time-limited call running on its own thread.
+import java.util.concurrent.TimeoutException; // Thrown by the time limiter.
+import java.util.function.Supplier;            // Starts one non-blocking call.
+
+// @Component → Wraps every Address Service call made by AddressClient (and AsyncAddressClient, see callAsync):
+//
+//   Bulkhead( CircuitBreaker( TimeLimiter( HTTP call ) ) )
+//
+// - Bulkhead full → BulkheadFullException (no slot free, call is not made).
+// - Circuit open → CallNotPermittedException (call is not made).
+// - Time limit exceeded → the call is interrupted and a ResourceAccessException is thrown.
+// Failed and slow calls are recorded by the circuit breaker.
+// What the caller gets instead of an address is decided in AddressCache (fallback).
+@Component
+public class AddressResilience {
+
+    // Name of the circuit breaker / bulkhead / time limiter (tag "name" in the metrics).
+    public static final String NAME = "address-service";
+
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final TimeLimiter timeLimiter; // null → no time limit.
+    private final AsyncTaskExecutor taskExecutor;
+
+    public AddressResilience(CircuitBreakerRegistry circuitBreakerRegistry,
+                             BulkheadRegistry bulkheadRegistry,
+                             TimeLimiterRegistry timeLimiterRegistry,
+                             AddressClientProperties properties) {
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(NAME);
+        this.bulkhead = bulkheadRegistry.bulkhead(NAME);
+        this.timeLimiter = properties.getResilience().getTimeLimit().isZero() ? null : timeLimiterRegistry.timeLimiter(NAME);
+        // Own executor, NOT the shared applicationTaskExecutor: callers (e.g. the parallel lookup in
+        // EmployeeService) already run on that pool, and waiting there for a task queued behind them
+        // can starve a bounded pool. Concurrency is already capped by the bulkhead.
+        // The task decorator keeps the caller's trace context → the RestTemplate span stays in the request's trace.
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("address-call-");
+        executor.setVirtualThreads(true);
+        executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+        this.taskExecutor = executor;
+    }
+
+    // ================================
+    // Method: call
+    // ================================
+    // Runs "call" inside bulkhead → circuit breaker → time limiter.
+    // The time-limited call runs on its own virtual thread, so it can be
+    // interrupted when the limit is reached while the caller stops waiting.
+    public <T> T call(Callable<T> call) {
+        Callable<T> limited = timeLimiter == null
+                ? call
+                : () -> {
+                    Future<T> future = taskExecutor.submit(call);
+                    try {
+                        return timeLimiter.executeFutureSupplier(() -> future);
+                    } finally {
+                        // No-op when finished; stops the call when the caller was interrupted (e.g. a cancelled hedge).
+                        future.cancel(true);
+                    }
+                };
+
+        Callable<T> decorated = Bulkhead.decorateCallable(bulkhead,
+                CircuitBreaker.decorateCallable(circuitBreaker, limited));
+        try {
+            return decorated.call();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (TimeoutException e) {
+            throw new ResourceAccessException("Address Service call timed out: " + e.getMessage());
+        } catch (Exception e) {
+            throw new IllegalStateException("Address Service call failed", e);
+        }
+    }
+
+    // ================================
+    // Method: callAsync
+    // ================================
+    // Non-blocking variant for AsyncAddressClient: runs "call" inside bulkhead → circuit breaker.
+    // - No thread waits: the bulkhead slot is taken when the call starts and released when the
+    //   returned future completes; the circuit breaker records the outcome at the same moment.
+    // - Bulkhead full / circuit open → the returned future fails (the call is not made).
+    // - No time limiter here: the time limit is set on the HTTP request itself
+    //   (HttpRequest.timeout), which also aborts the exchange when it is reached.
+    public <T> CompletableFuture<T> callAsync(Supplier<CompletionStage<T>> call) {
+        return Bulkhead.decorateCompletionStage(bulkhead,
+                        CircuitBreaker.decorateCompletionStage(circuitBreaker, call))
+                .get()
+                .toCompletableFuture();
+    }
+}
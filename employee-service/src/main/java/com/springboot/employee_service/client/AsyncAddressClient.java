@@ -0,0 +1,203 @@
+// Package declaration → groups related classes together.
+package com.springboot.employee_service.client;
+
+import com.springboot.employee_service.configuration.AddressClientProperties; // Base URL and time limits.
+import com.springboot.employee_service.response.AddressResponse;             // DTO for address data (from Address Service).
+import io.micrometer.observation.Observation;                                // Times one call (and later a trace span).
+import io.micrometer.observation.ObservationRegistry;                        // Where observations are recorded.
+import io.micrometer.observation.transport.RequestReplySenderContext;        // Outgoing request → tracing adds "traceparent".
+import lombok.RequiredArgsConstructor;                                       // Lombok → generates constructor for final fields.
+import org.springframework.http.HttpHeaders;                                 // Header names (Accept, ETag).
+import org.springframework.http.HttpStatus;                                  // Represents HTTP status codes.
+import org.springframework.http.HttpStatusCode;                              // Any status code (also non-standard ones).
+import org.springframework.http.MediaType;                                   // application/cbor vs. application/json.
+import org.springframework.stereotype.Component;                             // Marks this class as a Spring-managed bean.
+import org.springframework.web.client.HttpClientErrorException;              // 4xx responses (same type as RestTemplate).
+import org.springframework.web.client.HttpServerErrorException;              // 5xx responses (same type as RestTemplate).
+import org.springframework.web.client.ResourceAccessException;               // I/O problems and timeouts (same type as RestTemplate).
+import tools.jackson.databind.json.JsonMapper;                               // Spring Boot's configured JSON mapper.
+import tools.jackson.dataformat.cbor.CBORMapper;                             // Spring Boot's configured CBOR mapper.
+
+import java.io.IOException;                  // Connection refused, reset, timed out...
+import java.net.URI;                         // Request address.
+import java.net.http.HttpClient;             // JDK HTTP client (see EmployeeConfig.addressAsyncHttpClient).
+import java.net.http.HttpRequest;            // One GET request.
+import java.net.http.HttpResponse;           // Status + headers + body.
+import java.time.Duration;                   // Request time limit.
+import java.util.concurrent.CancellationException; // Hedged attempt that lost.
+import java.util.concurrent.CompletableFuture; // Result that arrives later, without blocking a thread.
+import java.util.concurrent.CompletionException; // Wrapper around failures of async stages.
+import java.util.concurrent.atomic.AtomicReference; // The running HTTP exchange (to abort it).
+
+// @Component → Spring creates one instance of this class and injects it where needed.
+// @RequiredArgsConstructor → Lombok generates constructor for final fields (dependency injection).
+//
+// Non-blocking twin of AddressClient.getAddress, used by GET /employees/{id}/async.
+// AddressClient (RestTemplate) keeps a thread waiting until the Address Service answers;
+// here sendAsync() returns immediately and the result is delivered as a CompletableFuture.
+//
+// Behaves like AddressClient for the caller:
+// - 200 OK → address + ETag, 404 Not Found → VersionedAddress.NOT_FOUND.
+// - Other 4xx / 5xx → HttpClientErrorException / HttpServerErrorException.
+// - Connection problems and timeouts → ResourceAccessException.
+// - Runs through AddressResilience.callAsync (bulkhead + circuit breaker, same instances as AddressClient).
+// - Goes to the instance picked by AddressLoadBalancer (like RestTemplate calls) and reports its outcome.
+// - Hedged through AddressHedging (like AddressClient.getAddress) when enabled.
+// - Timed as "address.client.async.requests" (tags method, uri template, status, outcome, error),
+//   the counterpart of RestTemplate's "http.client.requests"; with tracing on it is also a client span
+//   and sends the W3C "traceparent" header.
+@Component
+@RequiredArgsConstructor
+public class AsyncAddressClient {
+
+    // ================================
+    // Dependencies (Injected by Spring)
+    // ================================
+    private final HttpClient addressAsyncHttpClient;   // Non-blocking JDK client (see EmployeeConfig).
+    private final AddressClientProperties properties;  // Base URL + time limits from application.properties.
+    private final AddressResilience resilience;        // Bulkhead + circuit breaker around each call.
+    private final JsonMapper jsonMapper;               // Reads a JSON body into AddressResponse.
+    private final CBORMapper cborMapper;               // Reads a CBOR body into AddressResponse.
+    private final ObservationRegistry observationRegistry; // Timer per call.
+    private final AddressLoadBalancer loadBalancer;    // Picks the Address Service instance.
+    private final AddressHedging hedging;              // Second request for slow calls (when enabled).
+
+    // ================================
+    // Method: getAddress
+    // ================================
+    // Starts GET {baseUrl}/address/{id} and returns at once.
+    // The future completes with the address (or NOT_FOUND), or fails with the exceptions above.
+    // Hedged (second request when slow, first answer wins) when address-client.hedging.enabled=true.
+    public CompletableFuture<VersionedAddress> getAddress(int employeeId) {
+        return hedging.callAsync("single", () -> send(employeeId));
+    }
+
+    // One request. Cancelling the returned future (a hedged attempt that lost) aborts the HTTP exchange.
+    private CompletableFuture<VersionedAddress> send(int employeeId) {
+        URI uri = URI.create(properties.getBaseUrl() + "/address/" + employeeId);
+        HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(uri)
+                .header(HttpHeaders.ACCEPT, properties.getWireFormat().getAccept())
+                .timeout(timeLimit())
+                .GET();
+
+        // Sender context → when the observation starts, tracing writes the W3C "traceparent" header
+        // into the request builder (same as RestTemplate), so address-service continues this trace.
+        RequestReplySenderContext<HttpRequest.Builder, HttpResponse<byte[]>> context =
+                new RequestReplySenderContext<>((builder, name, value) -> builder.setHeader(name, value));
+        context.setCarrier(requestBuilder);
+        context.setRemoteServiceName("address-service");
+
+        // Started before the bulkhead / circuit breaker → rejected calls are timed too (status NONE).
+        String uriTemplate = uriTemplate();
+        Observation observation = Observation.createNotStarted("address.client.async.requests", () -> context, observationRegistry)
+                .contextualName("http get " + uriTemplate)
+                .lowCardinalityKeyValue("method", "GET")
+                .lowCardinalityKeyValue("uri", uriTemplate)
+                .lowCardinalityKeyValue("status", "NONE")
+                .lowCardinalityKeyValue("outcome", "UNKNOWN")
+                .start();
+
+        // The instance is picked only once the call passed the bulkhead / circuit breaker.
+        // "exchange" = the JDK client's own future: only cancelling THAT one aborts the request.
+        AtomicReference<CompletableFuture<HttpResponse<byte[]>>> exchange = new AtomicReference<>();
+        CompletableFuture<VersionedAddress> call = resilience.<VersionedAddress>callAsync(() -> {
+            AddressLoadBalancer.Selection selection = loadBalancer.choose(uri);
+            HttpRequest request = requestBuilder.uri(selection.uri()).build();
+            exchange.set(addressAsyncHttpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray()));
+            return exchange.get().handle((response, failure) -> {
+                if (failure instanceof CancellationException) {
+                    selection.cancelled();
+                    throw (CancellationException) failure;
+                }
+                if (failure != null) {
+                    selection.done(false);
+                    observation.lowCardinalityKeyValue("status", "IO_ERROR");
+                    throw translate(selection.uri(), failure);
+                }
+                context.setResponse(response);
+                HttpStatusCode status = HttpStatusCode.valueOf(response.statusCode());
+                selection.done(!status.is5xxServerError());
+                observation.lowCardinalityKeyValue("status", String.valueOf(status.value()));
+                observation.lowCardinalityKeyValue("outcome", outcome(status));
+                return toVersionedAddress(response);
+            });
+        });
+
+        call.whenComplete((address, failure) -> {
+            if (failure instanceof CancellationException) {
+                CompletableFuture<HttpResponse<byte[]>> request = exchange.get();
+                if (request != null) {
+                    request.cancel(true); // Completes the bulkhead / circuit breaker stage (ignored as a failure).
+                }
+                observation.lowCardinalityKeyValue("status", "CANCELLED");
+            } else if (failure != null) {
+                observation.error(failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure);
+            }
+            observation.stop();
+        });
+        return call;
+    }
+
+    // ================================
+    // Response → VersionedAddress (or exception)
+    // ================================
+    private VersionedAddress toVersionedAddress(HttpResponse<byte[]> response) {
+        HttpStatusCode status = HttpStatusCode.valueOf(response.statusCode());
+        if (status.isSameCodeAs(HttpStatus.NOT_FOUND)) {
+            return VersionedAddress.NOT_FOUND;
+        }
+        if (status.is4xxClientError()) {
+            throw HttpClientErrorException.create(status, "", null, response.body(), null);
+        }
+        if (status.isError()) {
+            throw HttpServerErrorException.create(status, "", null, response.body(), null);
+        }
+        AddressResponse address = isCbor(response)
+                ? cborMapper.readValue(response.body(), AddressResponse.class)
+                : jsonMapper.readValue(response.body(), AddressResponse.class);
+        return new VersionedAddress(address, response.headers().firstValue(HttpHeaders.ETAG).orElse(null));
+    }
+
+    // The Address Service answers CBOR or JSON (address-client.wire-format) → decode by Content-Type.
+    private static boolean isCbor(HttpResponse<byte[]> response) {
+        return response.headers().firstValue(HttpHeaders.CONTENT_TYPE)
+                .map(contentType -> MediaType.parseMediaType(contentType).isCompatibleWith(MediaType.APPLICATION_CBOR))
+                .orElse(false);
+    }
+
+    // Same values as the "outcome" tag of http.client.requests.
+    private static String outcome(HttpStatusCode status) {
+        if (status.is2xxSuccessful()) {
+            return "SUCCESS";
+        }
+        if (status.is4xxClientError()) {
+            return "CLIENT_ERROR";
+        }
+        return status.is5xxServerError() ? "SERVER_ERROR" : "UNKNOWN";
+    }
+
+    // Same exception types as RestTemplate, so AddressCache's fallback and the circuit breaker see no difference.
+    private static RuntimeException translate(URI uri, Throwable failure) {
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+        if (cause instanceof IOException io) {
+            return new ResourceAccessException("I/O error on GET request for \"" + uri + "\": " + io.getMessage(), io);
+        }
+        if (cause instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        return new IllegalStateException("Address Service call failed", cause);
+    }
+
+    // Same "uri" tag as http.client.requests of AddressClient: the RestTemplate URI template without
+    // scheme and host, e.g. /address-service/address/{id} → both metrics can be compared per uri.
+    private String uriTemplate() {
+        return URI.create(properties.getBaseUrl()).getRawPath() + "/address/{id}";
+    }
+
+    // address-client.resilience.time-limit, or the read timeout when no time limit is set.
+    // HttpTimeoutException (an IOException) is raised and the exchange is aborted when it is reached.
+    private Duration timeLimit() {
+        Duration timeLimit = properties.getResilience().getTimeLimit();
+        return timeLimit.isZero() ? properties.getTimeouts().getRead() : timeLimit;
+    }
+}
@@ -0,0 +1,16 @@
+// Package declaration → groups related classes together.
+package com.springboot.employee_service.client;
+
+import com.springboot.employee_service.response.AddressResponse; // DTO for address data (from Address Service).
+
+// VersionedAddress → an address together with the ETag the Address Service sent for it.
+// - address == null → the Address Service answered 404 (employee has no address).
+// - eTag == null → no ETag known (e.g. loaded through the batch endpoint) → next check is a normal GET.
+//
+// AddressCache stores these, so a cached address can later be re-validated with a
+// conditional GET (If-None-Match) instead of downloading it again.
+public record VersionedAddress(AddressResponse address, String eTag) {
+
+    // Shared instance for "employee has no address".
+    public static final VersionedAddress NOT_FOUND = new VersionedAddress(null, null);
+}
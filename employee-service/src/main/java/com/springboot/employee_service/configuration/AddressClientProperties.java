@@ -0,0 +1,318 @@
+// Package declaration → groups related classes together.
+package com.springboot.employee_service.configuration;
+
+import jakarta.validation.constraints.Min;                                   // Rejects values that would break the client at startup.
+import lombok.Data;                                                         // Lombok → generates getters, setters, toString, equals, hashCode.
+import org.springframework.boot.context.properties.ConfigurationProperties; // Binds "address-client.*" keys from application.properties.
+import org.springframework.validation.annotation.Validated;                 // Checks the constraints below when the values are bound.
+
+import java.net.http.HttpClient; // HTTP_1_1 / HTTP_2.
+import java.nio.file.Path;       // Instance list file.
+import java.time.Duration;       // Spring converts values like "2s", "500ms", "5m" into Duration.
+import java.util.ArrayList;      // Default (empty) instance list.
+import java.util.List;           // Static instance list.
+
+// @ConfigurationProperties(prefix = "address-client") → Every field below is bound
+// from application.properties, e.g. address-client.pool.max-total=200.
+// @Data → Lombok generates getters/setters so Spring can bind the values.
+// @Validated → an invalid value (e.g. address-client.batch-size=0) stops the startup with a clear message.
+//
+// These settings control the HTTP client that EmployeeService uses to call the Address Service.
+@Data
+@Validated
+@ConfigurationProperties(prefix = "address-client")
+public class AddressClientProperties {
+
+    // ================================
+    // Base URL of the Address Service
+    // ================================
+    // Endpoints are appended to it, e.g. {baseUrl}/address/{id} and {baseUrl}/address/batch.
+    private String baseUrl = "http://localhost:8081/address-service";
+
+    // ================================
+    // Batch Size
+    // ================================
+    // Maximum number of employee ids sent in one POST /address/batch call.
+    // Larger id lists are split into several calls automatically (at least 1, or the split never ends).
+    @Min(1)
+    private int batchSize = 500;
+
+    // ================================
+    // Wire Format
+    // ================================
+    // Encoding asked for in the Accept header of every Address Service call.
+    // CBOR → binary encoding of the same JSON data model: smaller payloads, cheaper to parse.
+    // JSON stays acceptable (q=0.9) → an Address Service without CBOR support still answers with JSON.
+    private WireFormat wireFormat = WireFormat.CBOR;
+
+    // ================================
+    // HTTP Version
+    // ================================
+    // HTTP_2 → RestTemplate and AsyncAddressClient share one JDK HttpClient that multiplexes all calls
+    //          as streams over a single connection (h2c: cleartext HTTP/2 via the "Upgrade: h2c" handshake).
+    //          Falls back to HTTP/1.1 by itself if the Address Service does not accept the upgrade.
+    // HTTP_1_1 → RestTemplate uses the pooled Apache HttpClient (one request per connection at a time).
+    //            Only then are the Apache pool beans created → the "pool" settings below apply to HTTP_1_1 only.
+    private HttpClient.Version httpVersion = HttpClient.Version.HTTP_2;
+
+    // ================================
+    // Load Balancing
+    // ================================
+    // Optional: spread calls over several Address Service instances (see AddressLoadBalancer).
+    private LoadBalancer loadBalancer = new LoadBalancer();
+
+    // ================================
+    // Hedged Requests
+    // ================================
+    // Optional second attempt for slow Address Service reads; the first answer wins (see AddressHedging).
+    private Hedging hedging = new Hedging();
+
+    // ================================
+    // Request Coalescing
+    // ================================
+    // Concurrent single-address lookups are collected for a short window and sent as one
+    // batch call (see AddressBatcher).
+    private Coalescing coalescing = new Coalescing();
+
+    // ================================
+    // Local Read Model
+    // ================================
+    // Optional local copy of all addresses, kept up to date by polling the Address Service's
+    // change feed (see AddressReplica).
+    private Replica replica = new Replica();
+
+    // ================================
+    // Address Cache
+    // ================================
+    // Addresses rarely change → keep recently used ones in memory (see AddressCache).
+    private Cache cache = new Cache();
+
+    // ================================
+    // Resilience
+    // ================================
+    // Circuit breaker, bulkhead and time limit around every Address Service call (see AddressResilience).
+    private Resilience resilience = new Resilience();
+
+    // ================================
+    // Connection Pool
+    // ================================
+    // Re-using TCP connections avoids paying for a new handshake on every call.
+    // Apache HttpClient pool → used with httpVersion = HTTP_1_1 only.
+    private Pool pool = new Pool();
+
+    // ================================
+    // Timeouts
+    // ================================
+    // Upper bounds so a slow Address Service cannot block employee-service threads forever.
+    private Timeouts timeouts = new Timeouts();
+
+    @Data
+    public static class Cache {
+
+        // false → every lookup goes straight to the Address Service.
+        private boolean enabled = true;
+
+        // Maximum number of employee ids kept in memory (least valuable entries are evicted first).
+        private long maximumSize = 10_000;
+
+        // How long a found address may be served from memory at most.
+        private Duration ttl = Duration.ofMinutes(10);
+
+        // After this long, the next read still returns the cached address but reloads it in the background.
+        // Must be shorter than ttl to have an effect.
+        private Duration refreshAfter = Duration.ofMinutes(5);
+
+        // How long an "address not found" (404) result is remembered.
+        private Duration negativeTtl = Duration.ofSeconds(30);
+    }
+
+    @Data
+    public static class Replica {
+
+        // false → no local copy; every lookup goes through the cache / the Address Service.
+        private boolean enabled = false;
+
+        // Pause between two polls of GET /address/changes.
+        private Duration pollInterval = Duration.ofSeconds(1);
+
+        // The local copy is only used while its last successful sync started less than this long ago;
+        // older → every lookup falls back to the Address Service until polling succeeds again.
+        private Duration maxStaleness = Duration.ofSeconds(10);
+
+        // Every poll re-reads changes this far behind the newest change seen, to pick up
+        // transactions that committed later than their updated_at timestamp (and small clock skew).
+        private Duration overlap = Duration.ofSeconds(5);
+
+        // Rows per GET /address/changes page.
+        private int pageSize = 1000;
+
+        // A full snapshot is read again this often; employees it no longer returns (deleted addresses,
+        // which the change feed cannot report) are removed from the copy. Zero → startup snapshot only.
+        private Duration resyncInterval = Duration.ofMinutes(5);
+    }
+
+    @Data
+    public static class LoadBalancer {
+
+        // false → every call goes to baseUrl.
+        private boolean enabled = false;
+
+        // Static instance list, e.g. http://localhost:8081,http://localhost:8082 (scheme://host:port;
+        // the context path of baseUrl is kept). Empty → the host of baseUrl is the only instance.
+        private List<String> instances = new ArrayList<>();
+
+        // Optional file with one instance per line ("#" starts a comment). Takes precedence over
+        // "instances" and is re-read whenever it changes, without a restart.
+        private Path instancesFile;
+
+        // How often the instance file is checked for changes.
+        private Duration refreshInterval = Duration.ofSeconds(5);
+
+        // How fast the latency average forgets old samples (smaller → reacts faster, but noisier).
+        private Duration decay = Duration.ofSeconds(10);
+
+        // A failed call counts as a call that took at least this long → an instance that fails fast
+        // looks slow to the latency average instead of fast (default = timeouts.read).
+        private Duration failurePenalty = Duration.ofSeconds(5);
+
+        // An instance is taken out of rotation after this many failed calls in a row
+        // (connection errors, timeouts, 5xx)...
+        private int ejectAfterFailures = 3;
+
+        // ...for this long; afterwards it gets traffic again, and the next failure ejects it right away.
+        private Duration ejectionTime = Duration.ofSeconds(30);
+    }
+
+    @Data
+    public static class Hedging {
+
+        // false → every call is a single attempt.
+        private boolean enabled = false;
+
+        // A second attempt is sent when the first one is slower than this percentile of recent calls...
+        private double percentile = 0.95;
+
+        // ...but never earlier than minDelay (when every call is fast, hedging only adds load)...
+        private Duration minDelay = Duration.ofMillis(10);
+
+        // ...and never later than maxDelay (also the delay until enough calls were seen).
+        private Duration maxDelay = Duration.ofMillis(500);
+
+        // Hedges may add at most this percentage of extra calls (shared by all call types).
+        private double budgetPercent = 10;
+    }
+
+    @Data
+    public static class Coalescing {
+
+        // false → every single-address lookup is its own GET /address/{id}.
+        private boolean enabled = true;
+
+        // Longest time a lookup waits for other lookups to join its batch.
+        private Duration window = Duration.ofMillis(2);
+
+        // A batch is sent at once when it holds this many distinct ids (capped by batchSize).
+        private int maxIds = 50;
+    }
+
+    @Data
+    public static class Resilience {
+
+        // true → when the Address Service cannot be reached, employees are returned without an address
+        // (or with the last cached one) instead of failing the whole request.
+        private boolean fallbackEnabled = true;
+
+        // Upper bound for one Address Service call, including waiting for a pooled connection (0 = no limit).
+        private Duration timeLimit = Duration.ofSeconds(3);
+
+        private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+        private Bulkhead bulkhead = new Bulkhead();
+
+        @Data
+        public static class CircuitBreaker {
+
+            // Number of most recent calls used to compute the failure and slow-call rates.
+            private int slidingWindowSize = 50;
+
+            // Rates are only evaluated once at least this many calls were recorded.
+            private int minimumNumberOfCalls = 20;
+
+            // Open the circuit when this percentage of calls failed...
+            private float failureRateThreshold = 50;
+
+            // ...or when this percentage of calls took longer than slowCallDuration.
+            private float slowCallRateThreshold = 80;
+            private Duration slowCallDuration = Duration.ofSeconds(1);
+
+            // How long the circuit stays open (calls fail fast) before trial calls are allowed again.
+            private Duration waitInOpenState = Duration.ofSeconds(10);
+
+            // Number of trial calls allowed while half-open.
+            private int permittedCallsInHalfOpenState = 5;
+        }
+
+        @Data
+        public static class Bulkhead {
+
+            // Maximum number of Address Service calls in flight at the same time.
+            private int maxConcurrentCalls = 100;
+
+            // How long a call may wait for a free slot before it is rejected (0 = reject immediately).
+            private Duration maxWait = Duration.ZERO;
+        }
+    }
+
+    @Data
+    public static class Pool {
+
+        // Maximum number of open connections across all routes (hosts).
+        private int maxTotal = 200;
+
+        // Maximum number of open connections to a single route (host:port).
+        // Employee Service only talks to the Address Service, so this is usually close to maxTotal.
+        private int maxPerRoute = 100;
+
+        // Idle connections are closed by a background thread after this long.
+        private Duration idleEviction = Duration.ofSeconds(30);
+
+        // How long a connection may be kept alive when the server sends no Keep-Alive header.
+        private Duration keepAlive = Duration.ofMinutes(1);
+
+        // Absolute lifetime of a connection, no matter how busy it is (0 = unlimited).
+        private Duration timeToLive = Duration.ofMinutes(5);
+
+        // Connections idle for longer than this are re-validated before they are handed out.
+        private Duration validateAfterInactivity = Duration.ofSeconds(2);
+    }
+
+    @Data
+    public static class Timeouts {
+
+        // Time allowed to establish the TCP connection.
+        private Duration connect = Duration.ofSeconds(2);
+
+        // Time allowed to wait for response data once the request has been sent.
+        private Duration read = Duration.ofSeconds(5);
+
+        // Time allowed to wait for a free connection from the pool (pool saturation, HTTP_1_1 only;
+        // with HTTP_2 the JDK client's request timeout = "read" also covers the wait for a connection).
+        private Duration poolAcquire = Duration.ofSeconds(1);
+    }
+
+    public enum WireFormat {
+        JSON("application/json"),
+        CBOR("application/cbor, application/json;q=0.9");
+
+        // Value of the Accept header.
+        private final String accept;
+
+        WireFormat(String accept) {
+            this.accept = accept;
+        }
+
+        public String getAccept() {
+            return accept;
+        }
+    }
+}
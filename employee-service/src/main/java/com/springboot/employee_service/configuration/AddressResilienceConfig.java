@@ -0,0 +1,102 @@
+// Package declaration → groups related classes together.
+package com.springboot.employee_service.configuration;
+
+import io.github.resilience4j.bulkhead.BulkheadConfig;                         // Settings of a semaphore bulkhead.
+import io.github.resilience4j.bulkhead.BulkheadRegistry;                       // Holds named bulkheads.
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;             // Settings of a circuit breaker.
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;           // Holds named circuit breakers.
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;         // Bulkhead metrics for Micrometer.
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;   // Circuit breaker metrics for Micrometer.
+import io.github.resilience4j.micrometer.tagged.TaggedTimeLimiterMetrics;      // Time limiter metrics for Micrometer.
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;                   // Settings of a time limiter.
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;                 // Holds named time limiters.
+import io.micrometer.core.instrument.binder.MeterBinder;                       // Publishes custom metrics to Micrometer.
+import org.springframework.context.annotation.Bean;                            // Marks a method as a Spring bean provider.
+import org.springframework.context.annotation.Configuration;                   // Marks this class as a Spring configuration class.
+import org.springframework.web.client.HttpClientErrorException;                // 4xx responses → caller errors, not an outage.
+
+import java.time.Duration;                          // Duration values from application.properties.
+import java.util.concurrent.CancellationException; // Cancelled (losing) hedged attempt.
+
+// @Configuration → Beans that protect Employee Service from a slow or failing Address Service.
+// All values come from "address-client.resilience.*" (see AddressClientProperties.Resilience).
+//
+// - Circuit breaker → after too many failed or slow calls, stop calling for a while (fail fast).
+// - Bulkhead → cap the number of concurrent outbound calls, so request threads are not all stuck on them.
+// - Time limiter → give up on a single call after a fixed time.
+//
+// Metrics (visible at /actuator/metrics):
+// - resilience4j.circuitbreaker.state / .calls / .failure.rate / .slow.call.rate
+// - resilience4j.bulkhead.available.concurrent.calls
+// - resilience4j.timelimiter.calls{kind=successful|failed|timeout}
+@Configuration
+public class AddressResilienceConfig {
+
+    // ================================
+    // Bean: Circuit Breaker Registry
+    // ================================
+    // Count-based sliding window over the last N calls.
+    // 4xx responses are ignored: they mean "bad request", not "Address Service is down".
+    // Calls abandoned by the caller (a hedged attempt that lost, see AddressHedging) are ignored too:
+    // cancelled futures, interrupted waits, and I/O errors raised on an interrupted thread.
+    @Bean
+    public CircuitBreakerRegistry circuitBreakerRegistry(AddressClientProperties properties) {
+        AddressClientProperties.Resilience.CircuitBreaker settings = properties.getResilience().getCircuitBreaker();
+        return CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(settings.getSlidingWindowSize())
+                .minimumNumberOfCalls(settings.getMinimumNumberOfCalls())
+                .failureRateThreshold(settings.getFailureRateThreshold())
+                .slowCallRateThreshold(settings.getSlowCallRateThreshold())
+                .slowCallDurationThreshold(settings.getSlowCallDuration())
+                .waitDurationInOpenState(settings.getWaitInOpenState())
+                .permittedNumberOfCallsInHalfOpenState(settings.getPermittedCallsInHalfOpenState())
+                .ignoreExceptions(HttpClientErrorException.class, CancellationException.class, InterruptedException.class)
+                .ignoreException(failure -> Thread.currentThread().isInterrupted())
+                .build());
+    }
+
+    // ================================
+    // Bean: Bulkhead Registry
+    // ================================
+    // Semaphore bulkhead → the calling thread itself makes the call, no extra thread pool.
+    @Bean
+    public BulkheadRegistry bulkheadRegistry(AddressClientProperties properties) {
+        AddressClientProperties.Resilience.Bulkhead settings = properties.getResilience().getBulkhead();
+        return BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(settings.getMaxConcurrentCalls())
+                .maxWaitDuration(settings.getMaxWait())
+                .build());
+    }
+
+    // ================================
+    // Bean: Time Limiter Registry
+    // ================================
+    // cancelRunningFuture → a call that times out is interrupted, not left running in the background.
+    @Bean
+    public TimeLimiterRegistry timeLimiterRegistry(AddressClientProperties properties) {
+        Duration timeLimit = properties.getResilience().getTimeLimit();
+        return TimeLimiterRegistry.of(TimeLimiterConfig.custom()
+                .timeoutDuration(timeLimit.isZero() ? Duration.ofDays(1) : timeLimit)
+                .cancelRunningFuture(true)
+                .build());
+    }
+
+    // ================================
+    // Beans: Resilience Metrics
+    // ================================
+    @Bean
+    public MeterBinder circuitBreakerMetrics(CircuitBreakerRegistry circuitBreakerRegistry) {
+        return TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry);
+    }
+
+    @Bean
+    public MeterBinder bulkheadMetrics(BulkheadRegistry bulkheadRegistry) {
+        return TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry);
+    }
+
+    @Bean
+    public MeterBinder timeLimiterMetrics(TimeLimiterRegistry timeLimiterRegistry) {
+        return TaggedTimeLimiterMetrics.ofTimeLimiterRegistry(timeLimiterRegistry);
+    }
+}
@@ -0,0 +1,32 @@
+// Package declaration → groups related classes together.
+package com.springboot.employee_service.configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;                             // Registry where metrics are published.
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;   // Bean only when a property is set.
+import org.springframework.boot.context.properties.EnableConfigurationProperties; // Registers @ConfigurationProperties classes.
+import org.springframework.boot.web.servlet.FilterRegistrationBean;             // Registers a servlet filter with an order.
+import org.springframework.context.annotation.Bean;                              // Marks a method as a Spring bean provider.
+import org.springframework.context.annotation.Configuration;                     // Marks this class as a Spring configuration class.
+import org.springframework.core.Ordered;                                         // Filter order constants.
+
+// @Configuration → Load shedding on the inbound path (employee.concurrency-limit.* in application.properties).
+@Configuration
+@EnableConfigurationProperties(ConcurrencyLimitProperties.class)
+public class ConcurrencyLimitConfig {
+
+    // ================================
+    // Bean: adaptive concurrency limit filter
+    // ================================
+    // Order → right after Spring Boot's observation filter (HIGHEST_PRECEDENCE + 1): shed requests still show
+    // up in http.server.requests (status 503), but nothing else runs for them.
+    // Opt-in → only registered with employee.concurrency-limit.enabled=true (set in the "prod" profile).
+    @Bean
+    @ConditionalOnProperty(prefix = "employee.concurrency-limit", name = "enabled", havingValue = "true")
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(ConcurrencyLimitProperties properties,
+                                                                                MeterRegistry meterRegistry) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration =
+                new FilterRegistrationBean<>(new ConcurrencyLimitFilter(properties, meterRegistry));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+        return registration;
+    }
+}
@@ -0,0 +1,214 @@
+// Package declaration → groups related classes together.
+package com.springboot.employee_service.configuration;
+
+import io.micrometer.core.instrument.Counter;              // Requests shed.
+import io.micrometer.core.instrument.Gauge;                // Current limit / requests in flight.
+import io.micrometer.core.instrument.MeterRegistry;        // Registry where metrics are published.
+import jakarta.servlet.AsyncEvent;                         // Completion of an async request.
+import jakarta.servlet.AsyncListener;                      // Called when an async request completes.
+import jakarta.servlet.FilterChain;                        // The rest of the request processing.
+import jakarta.servlet.ServletException;                   // Thrown by the filter chain.
+import jakarta.servlet.http.HttpServletRequest;            // Incoming request.
+import jakarta.servlet.http.HttpServletResponse;           // Outgoing response.
+import lombok.extern.slf4j.Slf4j;                          // Lombok → generates a "log" field.
+import org.springframework.http.HttpHeaders;               // Retry-After.
+import org.springframework.http.HttpStatus;                // 503 Service Unavailable.
+import org.springframework.web.filter.OncePerRequestFilter; // Runs once per request (not again on async dispatch).
+
+import java.io.IOException;                           // Thrown by the filter chain.
+import java.util.concurrent.atomic.AtomicBoolean;     // Release a request exactly once.
+import java.util.concurrent.atomic.AtomicInteger;     // Requests in flight / highest in flight of the window.
+import java.util.concurrent.atomic.LongAdder;         // Latency sum / samples of the window (no contention).
+
+// Adaptive limit on concurrent inbound requests (registered by ConcurrencyLimitConfig).
+//
+// Why?
+// Requests are served on virtual threads, so nothing bounds how many are in progress: under overload they
+// all slow down together (CPU, connection pool, Address Service), and every caller waits longer and
+// longer. A fixed limit is hard to pick (the right value moves with latency and hardware). Instead the
+// limit follows latency (gradient algorithm, as in TCP Vegas):
+//
+//   short RTT = average latency of the last window        long RTT = slow moving average (baseline)
+//   gradient  = clamp(tolerance * long RTT / short RTT, 0.5, 1)   → < 1 when requests start queueing
+//   limit     = limit * gradient + sqrt(limit)                      → sqrt(limit) = room to probe upwards
+//   (smoothed, kept within [minLimit, maxLimit])
+//
+// - Latency stays at the baseline → the limit grows (but only while the service uses at least half of it).
+// - Latency rises → the limit shrinks, in-flight requests drop, latency goes back to the baseline.
+// - A request over the limit gets 503 + Retry-After right away (no queueing, no work done), so the
+//   accepted ones keep their normal latency and callers can retry elsewhere.
+// Metrics: employee.concurrency.limit, employee.concurrency.inflight (gauges), employee.concurrency.rejected.
+//
+// Every request adds its sample without a lock (LongAdder / AtomicInteger); only the one request that
+// finds the window over recomputes the limit, the others never wait for it. Samples that arrive while the
+// window is being closed may count towards the next window instead → the window average is approximate.
+@Slf4j
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final ConcurrencyLimitProperties properties;
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final Counter rejected;
+    private final long windowNanos;
+    private final double longRttFactor; // Weight of one window in the long-term average.
+
+    // Requests admitted at the same time; written by the window update, read without a lock.
+    private volatile int limit;
+
+    // Current window, written by every request.
+    private final LongAdder windowRttSum = new LongAdder();
+    private final LongAdder windowSamples = new LongAdder();
+    private final AtomicInteger windowMaxInflight = new AtomicInteger();
+    private volatile long windowStart = System.nanoTime();
+
+    // Gradient state, only touched by the request that holds "updating".
+    private final AtomicBoolean updating = new AtomicBoolean();
+    private double estimatedLimit;
+    private double longRtt;
+
+    public ConcurrencyLimitFilter(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.windowNanos = properties.getWindow().toNanos();
+        this.longRttFactor = 2.0 / (properties.getLongWindows() + 1);
+        this.estimatedLimit = properties.getInitialLimit();
+        this.limit = properties.getInitialLimit();
+        this.rejected = Counter.builder("employee.concurrency.rejected")
+                .description("Requests shed with 503 because the concurrency limit was reached")
+                .register(meterRegistry);
+        Gauge.builder("employee.concurrency.limit", () -> limit)
+                .description("Current adaptive limit on concurrent inbound requests")
+                .register(meterRegistry);
+        Gauge.builder("employee.concurrency.inflight", inflight, AtomicInteger::get)
+                .description("Inbound requests in progress")
+                .register(meterRegistry);
+    }
+
+    // ================================
+    // Admit or shed one request
+    // ================================
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        // Step 1: Over the limit → 503 at once.
+        int inflightAtStart = inflight.incrementAndGet();
+        if (inflightAtStart > limit) {
+            inflight.decrementAndGet();
+            rejected.increment();
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            return;
+        }
+
+        // Step 2: Process it; the latency sample is taken when the response is complete.
+        long started = System.nanoTime();
+        AtomicBoolean released = new AtomicBoolean();
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = false;
+        } finally {
+            if (!failed && request.isAsyncStarted()) {
+                // Async request (CompletableFuture result) → still in flight until the async response completes.
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        release(released, started, inflightAtStart, true);
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+                });
+            } else {
+                // A thrown exception says nothing about queueing → released without a sample.
+                release(released, started, inflightAtStart, !failed);
+            }
+        }
+    }
+
+    // Whole path segments: "/actuator" excludes /actuator and /actuator/health, not /actuators.
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return properties.getExcludedPaths().stream().anyMatch(excluded -> isSameOrBelow(path, excluded));
+    }
+
+    private static boolean isSameOrBelow(String path, String excluded) {
+        String prefix = excluded.endsWith("/") ? excluded.substring(0, excluded.length() - 1) : excluded;
+        return path.startsWith(prefix) && (path.length() == prefix.length() || path.charAt(prefix.length()) == '/');
+    }
+
+    private void release(AtomicBoolean released, long started, int inflightAtStart, boolean sample) {
+        if (released.compareAndSet(false, true)) {
+            inflight.decrementAndGet();
+            if (sample) {
+                onSample(System.nanoTime() - started, inflightAtStart);
+            }
+        }
+    }
+
+    // ================================
+    // Collect samples, adjust the limit once per window
+    // ================================
+    private void onSample(long rttNanos, int inflightAtStart) {
+        windowRttSum.add(rttNanos);
+        windowSamples.increment();
+        if (inflightAtStart > windowMaxInflight.get()) {
+            windowMaxInflight.accumulateAndGet(inflightAtStart, Math::max);
+        }
+        long now = System.nanoTime();
+        if (now - windowStart < windowNanos || windowSamples.sum() < properties.getMinWindowSamples()) {
+            return;
+        }
+
+        // Window over → one request closes it; whoever finds it taken just returns.
+        if (!updating.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            if (now - windowStart < windowNanos) {
+                return; // Closed by another request in the meantime.
+            }
+            windowStart = now;
+            long samples = Math.max(1, windowSamples.sumThenReset());
+            double shortRtt = (double) windowRttSum.sumThenReset() / samples;
+            updateLimit(shortRtt, windowMaxInflight.getAndSet(0));
+        } finally {
+            updating.set(false);
+        }
+    }
+
+    private void updateLimit(double shortRtt, int maxInflight) {
+        // Step 1: Baseline. After a slow phase the baseline is pulled down faster (it would otherwise
+        // keep tolerating the slow latency as normal for a long time).
+        longRtt = longRtt == 0 ? shortRtt : longRtt + (shortRtt - longRtt) * longRttFactor;
+        if (longRtt / shortRtt > 2) {
+            longRtt *= 0.95;
+        }
+
+        // Step 2: Less than half of the limit used → latency says nothing about a bigger limit.
+        if (maxInflight < estimatedLimit / 2) {
+            return;
+        }
+
+        // Step 3: Gradient → new limit.
+        double gradient = Math.max(0.5, Math.min(1.0, properties.getTolerance() * longRtt / shortRtt));
+        double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        newLimit = estimatedLimit * (1 - properties.getSmoothing()) + newLimit * properties.getSmoothing();
+        estimatedLimit = Math.max(properties.getMinLimit(), Math.min(properties.getMaxLimit(), newLimit));
+
+        int previous = limit;
+        limit = (int) estimatedLimit;
+        if (limit != previous) {
+            log.debug("Concurrency limit {} → {} (window RTT {} ms, baseline {} ms)", previous, limit,
+                    String.format("%.1f", shortRtt / 1e6), String.format("%.1f", longRtt / 1e6));
+        }
+    }
+}
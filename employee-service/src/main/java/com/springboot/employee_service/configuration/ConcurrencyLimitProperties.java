@@ -0,0 +1,57 @@
+// Package declaration → groups related classes together.
+package com.springboot.employee_service.configuration;
+
+import lombok.Data;                                                         // Lombok → generates getters, setters, toString, equals, hashCode.
+import org.springframework.boot.context.properties.ConfigurationProperties; // Binds "employee.concurrency-limit.*" keys from application.properties.
+
+import java.time.Duration; // Spring converts values like "100ms" into Duration.
+import java.util.ArrayList; // Mutable list Spring can bind into.
+import java.util.List;      // Excluded path prefixes.
+
+// @ConfigurationProperties(prefix = "employee.concurrency-limit") → Every field below is bound
+// from application.properties, e.g. employee.concurrency-limit.max-limit=500.
+// @Data → Lombok generates getters/setters so Spring can bind the values.
+//
+// Settings of the adaptive limit on concurrent inbound requests (see ConcurrencyLimitFilter).
+@Data
+@ConfigurationProperties(prefix = "employee.concurrency-limit")
+public class ConcurrencyLimitProperties {
+
+    // ================================
+    // On / Off
+    // ================================
+    // false → no filter is registered, every request is let in.
+    private boolean enabled = false;
+
+    // ================================
+    // Limit Range
+    // ================================
+    // The limit starts at initialLimit and moves between minLimit and maxLimit.
+    private int initialLimit = 50;
+    private int minLimit = 10;
+    private int maxLimit = 1000;
+
+    // ================================
+    // Gradient
+    // ================================
+    // Latency is measured per window: at least "window" long AND at least "minWindowSamples" requests
+    // (so a quiet service does not adjust the limit on a handful of requests).
+    private Duration window = Duration.ofMillis(100);
+    private int minWindowSamples = 10;
+
+    // Number of windows the long-term (baseline) latency is averaged over.
+    private int longWindows = 100;
+
+    // Window latency may exceed the baseline by this factor before the limit goes down (1.5 → +50%).
+    private double tolerance = 1.5;
+
+    // Share of each new estimate applied to the limit (0..1; lower → steadier, slower to react).
+    private double smoothing = 0.2;
+
+    // ================================
+    // Excluded Paths
+    // ================================
+    // Paths (below the context path, whole segments, including everything below them) that are never limited:
+    // health checks must answer under overload, and long-running exports / imports would distort the latency samples.
+    private List<String> excludedPaths = new ArrayList<>(List.of("/actuator", "/employees/export", "/employees/bulk"));
+}
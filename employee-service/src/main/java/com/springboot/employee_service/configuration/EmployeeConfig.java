@@ -1,29 +1,104 @@
 // Package declaration → groups related classes together.
 package com.springboot.employee_service.configuration;
 
-import org.modelmapper.ModelMapper;          // Library for mapping between DTOs and Entities.
+import com.springboot.employee_service.client.AddressLoadBalancer;                               // Spreads calls over Address Service instances.
+import io.micrometer.core.instrument.binder.MeterBinder;                                          // Publishes custom metrics to Micrometer.
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder; // Pool gauges for HttpClient 5.
+import io.micrometer.observation.ObservationRegistry;                    // Records timers (and spans) for observed calls.
+import org.apache.hc.client5.http.config.ConnectionConfig;                  // Per-connection settings (connect/socket timeouts, TTL).
+import org.apache.hc.client5.http.config.RequestConfig;                     // Per-request settings (pool acquire timeout, keep-alive).
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;         // Apache HttpClient 5 (blocking API).
+import org.apache.hc.client5.http.impl.classic.HttpClients;                 // Factory for HttpClient instances.
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;        // Keeps a pool of reusable connections.
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder; // Builder for the pool.
+import org.apache.hc.core5.util.TimeValue;                                  // HttpClient's duration type.
+import org.apache.hc.core5.util.Timeout;                                    // HttpClient's timeout type.
+import org.springframework.beans.factory.ObjectProvider;                    // Optional bean (Apache client only for HTTP/1.1).
+import org.springframework.boot.context.properties.bind.Binder;             // Reads address-client.http-version like the properties class does.
+import org.springframework.boot.context.properties.EnableConfigurationProperties; // Registers @ConfigurationProperties classes.
 import org.springframework.context.annotation.Bean;        // Marks a method as a Spring bean provider.
+import org.springframework.context.annotation.Condition;   // Decides whether a bean is created.
+import org.springframework.context.annotation.ConditionContext; // Environment seen by a Condition.
+import org.springframework.context.annotation.Conditional; // Bean only when the Condition matches.
 import org.springframework.context.annotation.Configuration; // Marks this class as a Spring configuration class.
+import org.springframework.core.type.AnnotatedTypeMetadata; // Annotations of the conditional bean method.
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory; // Lets RestTemplate use Apache HttpClient.
+import org.springframework.http.client.JdkClientHttpRequestFactory;         // Lets RestTemplate use the JDK HttpClient (HTTP/2).
+import org.springframework.http.converter.HttpMessageConverters;             // Builds RestTemplate's converter list.
+import org.springframework.http.converter.cbor.JacksonCborHttpMessageConverter; // Reads/writes application/cbor.
+import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter; // Reads/writes application/json.
 import org.springframework.web.client.RestTemplate;        // Utility for making REST API calls.
+import tools.jackson.databind.json.JsonMapper;             // Spring Boot's configured JSON mapper.
+import tools.jackson.dataformat.cbor.CBORMapper;           // Spring Boot's configured CBOR mapper.
+
+import java.net.http.HttpClient; // JDK HTTP client with a non-blocking (CompletableFuture) API.
 
 // @Configuration → Marks this class as a Spring configuration class.
 // Spring Boot will automatically detect and load it at startup.
 // This is where you define beans that can be injected into other parts of the application.
+//
+// @EnableConfigurationProperties → Binds the "address-client.*" keys into AddressClientProperties.
 @Configuration
+@EnableConfigurationProperties(AddressClientProperties.class)
 public class EmployeeConfig {
 
     // ================================
-    // Bean: ModelMapper
+    // Bean: Pooling Connection Manager
     // ================================
-    // ModelMapper → A library that simplifies object mapping.
-    // Example: Convert Employee entity → EmployeeDTO (Data Transfer Object).
-    // Avoids manual copying of fields between objects.
+    // Keeps TCP connections to the Address Service open and re-uses them,
+    // so each call does not pay for a new TCP handshake.
+    // - maxTotal / maxPerRoute → cap the number of open connections.
+    // - validateAfterInactivity → stale connections are checked before re-use.
+    // - timeToLive → connections are recycled periodically (e.g. after DNS changes).
     //
-    // @Bean → Registers ModelMapper as a Spring-managed bean.
-    // This allows it to be injected into services/controllers using @Autowired or constructor injection.
-    @Bean
-    public ModelMapper modelMapperBean() {
-        return new ModelMapper();
+    // destroyMethod = "close" → Spring closes every pooled connection on shutdown.
+    // @Conditional(Http11.class) → only with address-client.http-version=http-1-1 (HTTP/2 uses the JDK client).
+    @Bean(destroyMethod = "close")
+    @Conditional(Http11.class)
+    public PoolingHttpClientConnectionManager addressConnectionManager(AddressClientProperties properties) {
+        AddressClientProperties.Pool pool = properties.getPool();
+        AddressClientProperties.Timeouts timeouts = properties.getTimeouts();
+
+        ConnectionConfig connectionConfig = ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.of(timeouts.getConnect()))
+                .setSocketTimeout(Timeout.of(timeouts.getRead()))
+                .setTimeToLive(TimeValue.of(pool.getTimeToLive()))
+                .setValidateAfterInactivity(TimeValue.of(pool.getValidateAfterInactivity()))
+                .build();
+
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(pool.getMaxTotal())
+                .setMaxConnPerRoute(pool.getMaxPerRoute())
+                .setDefaultConnectionConfig(connectionConfig)
+                .build();
+    }
+
+    // ================================
+    // Bean: Apache HttpClient
+    // ================================
+    // - connectionRequestTimeout → how long to wait for a free pooled connection.
+    // - responseTimeout → how long to wait for the Address Service to answer.
+    // - connectionKeepAlive → used when the server does not send a Keep-Alive header.
+    // - evictIdleConnections → background thread closes connections idle for too long.
+    @Bean(destroyMethod = "close")
+    @Conditional(Http11.class)
+    public CloseableHttpClient addressHttpClient(PoolingHttpClientConnectionManager addressConnectionManager,
+                                                 AddressClientProperties properties) {
+        AddressClientProperties.Pool pool = properties.getPool();
+        AddressClientProperties.Timeouts timeouts = properties.getTimeouts();
+
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.of(timeouts.getPoolAcquire()))
+                .setResponseTimeout(Timeout.of(timeouts.getRead()))
+                .setConnectionKeepAlive(TimeValue.of(pool.getKeepAlive()))
+                .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(addressConnectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(pool.getIdleEviction()))
+                .build();
     }
 
     // ================================
@@ -32,10 +107,89 @@ public class EmployeeConfig {
     // RestTemplate → A Spring utility for making REST API calls.
     // Example: EmployeeService could call another microservice (like AddressService).
     //
-    // @Bean → Registers RestTemplate as a Spring-managed bean.
-    // This allows it to be injected wherever needed.
+    // Request factory (address-client.http-version):
+    // - HTTP_1_1 → HttpComponentsClientHttpRequestFactory: requests go through the pooled Apache
+    //   HttpClient above instead of opening a new connection per call.
+    // - HTTP_2 → JdkClientHttpRequestFactory over addressAsyncHttpClient: all calls (blocking and async)
+    //   are multiplexed over the same HTTP/2 connection. enableCompression → sends
+    //   "Accept-Encoding: gzip" and unzips large responses (the Apache client does this by itself).
+    //   setReadTimeout → request timeout of the JDK client; it also bounds the wait for a connection,
+    //   which is what timeouts.pool-acquire bounds for the Apache pool.
+    //
+    // Message converters → JSON and CBOR use Spring Boot's mappers (same settings as the rest of the app);
+    // the converter is chosen by the Content-Type the Address Service answers with (address-client.wire-format).
+    //
+    // Interceptor → AddressLoadBalancer sends each call to one of the Address Service instances
+    // (address-client.load-balancer.*; a no-op while disabled).
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(ObjectProvider<CloseableHttpClient> addressHttpClient, HttpClient addressAsyncHttpClient,
+                                     AddressClientProperties properties, ObservationRegistry observationRegistry,
+                                     JsonMapper jsonMapper, CBORMapper cborMapper, AddressLoadBalancer addressLoadBalancer) {
+        RestTemplate restTemplate = new RestTemplate(HttpMessageConverters.forClient()
+                .registerDefaults()
+                .withJsonConverter(new JacksonJsonHttpMessageConverter(jsonMapper))
+                .withCborConverter(new JacksonCborHttpMessageConverter(cborMapper))
+                .build());
+        if (properties.getHttpVersion() == HttpClient.Version.HTTP_2) {
+            JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(addressAsyncHttpClient);
+            requestFactory.setReadTimeout(properties.getTimeouts().getRead());
+            requestFactory.enableCompression(true);
+            restTemplate.setRequestFactory(requestFactory);
+        } else {
+            restTemplate.setRequestFactory(new HttpComponentsClientHttpRequestFactory(addressHttpClient.getObject()));
+        }
+        restTemplate.getInterceptors().add(addressLoadBalancer);
+        restTemplate.setObservationRegistry(observationRegistry);
+        return restTemplate;
+    }
+
+    // ================================
+    // Bean: JDK HttpClient (non-blocking)
+    // ================================
+    // Used by AsyncAddressClient for GET /employees/{id}/async, and by RestTemplate when
+    // address-client.http-version=HTTP_2.
+    // sendAsync() returns a CompletableFuture right away; the response is read by the client's
+    // selector thread, so no thread waits while the Address Service is answering.
+    // - connectTimeout → time allowed to open the TCP connection.
+    // - version → HTTP_2: the first request upgrades the connection to h2c, later requests are
+    //   multiplexed over it as concurrent streams (up to the server's limit,
+    //   server.http2 / Tomcat maxConcurrentStreams = 100). HTTP_1_1: one request per connection at a time,
+    //   connections kept alive and re-used by the client's own pool.
+    //
+    // destroyMethod = "close" → waits for in-flight exchanges and closes all connections on shutdown.
+    @Bean(destroyMethod = "close")
+    public HttpClient addressAsyncHttpClient(AddressClientProperties properties) {
+        return HttpClient.newBuilder()
+                .version(properties.getHttpVersion())
+                .connectTimeout(properties.getTimeouts().getConnect())
+                .build();
+    }
+
+    // ================================
+    // Bean: Connection Pool Metrics
+    // ================================
+    // Publishes pool gauges to Micrometer (visible at /actuator/metrics):
+    // - httpcomponents.httpclient.pool.total.max → configured pool size.
+    // - httpcomponents.httpclient.pool.total.connections{state=leased|available} → usage.
+    // - httpcomponents.httpclient.pool.total.pending → callers waiting for a connection (saturation).
+    @Bean
+    @Conditional(Http11.class)
+    public MeterBinder addressConnectionPoolMetrics(PoolingHttpClientConnectionManager addressConnectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(addressConnectionManager, "address-service");
+    }
+
+    // ================================
+    // Condition: address-client.http-version=http-1-1
+    // ================================
+    // Bound with the same relaxed rules as AddressClientProperties (http-1-1, HTTP_1_1...),
+    // which a plain @ConditionalOnProperty string comparison would not do. Default: HTTP_2.
+    static class Http11 implements Condition {
+
+        @Override
+        public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+            return Binder.get(context.getEnvironment())
+                    .bind("address-client.http-version", HttpClient.Version.class)
+                    .orElse(HttpClient.Version.HTTP_2) == HttpClient.Version.HTTP_1_1;
+        }
     }
-}
\ No newline at end of file
+}
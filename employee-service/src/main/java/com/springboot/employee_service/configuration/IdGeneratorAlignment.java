@@ -0,0 +1,88 @@
+// Package declaration → groups related classes together.
+package com.springboot.employee_service.configuration;
+
+import jakarta.persistence.EntityManagerFactory;                    // Hibernate's schema must exist first.
+import lombok.extern.slf4j.Slf4j;                                   // Lombok → generates a "log" field.
+import org.springframework.boot.ApplicationArguments;               // Arguments of ApplicationRunner.run (unused).
+import org.springframework.boot.ApplicationRunner;                  // Runs once after startup.
+import org.springframework.dao.DuplicateKeyException;               // Another instance inserted the row first.
+import org.springframework.jdbc.core.JdbcTemplate;                  // Plain SQL.
+import org.springframework.stereotype.Component;                    // Marks this class as a Spring-managed bean.
+import org.springframework.transaction.PlatformTransactionManager;  // JPA transaction manager.
+import org.springframework.transaction.support.TransactionTemplate; // One committed transaction per write.
+
+import java.util.function.IntSupplier; // One write (rows changed).
+
+// @Component → Keeps the table id generator (see Employee.id) ahead of the ids already in the table.
+//
+// Rows created before the table generator existed got their ids from auto-increment, but a new
+// id_generator row starts at 1 → the first new employee would hit an existing id. So at startup:
+//
+//   next_val = MAX(employee.id)   (only if next_val is below it)
+//
+// - next_val holds the LAST id reserved so far (Hibernate's table generator stores the last value used),
+//   so the next block starts at next_val + 1.
+// - Idempotent and only ever moves next_val forward → safe on every start and with several instances:
+//   a block another instance reserved ends at or below next_val, so it is never handed out twice.
+// - Rows inserted with explicit ids later (plain SQL, out-of-band loads) need a restart (or the same UPDATE).
+// - Every write runs in its own transaction: with auto-commit off (prod profile) a bare JdbcTemplate write
+//   would be rolled back when its connection goes back to the pool.
+@Slf4j
+@Component
+public class IdGeneratorAlignment implements ApplicationRunner {
+
+    private static final String SEGMENT = "employee"; // pkColumnValue of @TableGenerator on Employee.id.
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transaction;
+
+    public IdGeneratorAlignment(EntityManagerFactory entityManagerFactory, JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        // Deferred JPA bootstrap (faststart profile) → blocks until Hibernate created / checked the tables.
+        entityManagerFactory.getMetamodel();
+
+        // Step 1: Highest id in use.
+        Integer maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM employee", Integer.class);
+
+        // Step 2: Move the generator up to it (no-op when it is already there or beyond).
+        int moved = inTransaction(() -> moveUp(maxId));
+        if (moved == 0 && maxId > 0 && !segmentExists()) {
+            // Step 3: No generator row yet (Hibernate creates it on the first insert) → create it at MAX(id).
+            try {
+                moved = inTransaction(() -> jdbcTemplate.update(
+                        "INSERT INTO id_generator (sequence_name, next_val) VALUES (?, ?)", SEGMENT, maxId));
+            } catch (DuplicateKeyException e) {
+                // Another instance (or Hibernate) was faster → move that row instead.
+                moved = inTransaction(() -> moveUp(maxId));
+            }
+        }
+        // Logged only once the move is committed.
+        if (moved > 0) {
+            log.info("Employee id generator moved to {} (highest existing id)", maxId);
+        }
+    }
+
+    private int moveUp(int maxId) {
+        return jdbcTemplate.update("UPDATE id_generator SET next_val = ? WHERE sequence_name = ? AND next_val < ?",
+                maxId, SEGMENT, maxId);
+    }
+
+    // Commits on return, rolls back if "write" throws.
+    private int inTransaction(IntSupplier write) {
+        Integer rows = transaction.execute(status -> write.getAsInt());
+        return rows != null ? rows : 0;
+    }
+
+    private boolean segmentExists() {
+        Integer rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM id_generator WHERE sequence_name = ?", Integer.class, SEGMENT);
+        return rows != null && rows > 0;
+    }
+}
@@ -0,0 +1,79 @@
+// Package declaration → groups related classes together.
+package com.springboot.employee_service.configuration;
+
+import io.micrometer.tracing.Span;                                                       // One timed unit of work in a trace.
+import io.micrometer.tracing.Tracer;                                                     // Creates spans.
+import org.aopalliance.intercept.MethodInterceptor;                                      // Wraps every repository method call.
+import org.aopalliance.intercept.MethodInvocation;                                       // The intercepted call.
+import org.springframework.beans.factory.ObjectProvider;                                 // Looks up the Tracer lazily.
+import org.springframework.beans.factory.config.BeanPostProcessor;                       // Adjusts beans while they are created.
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;    // Creates the repository proxies.
+import org.springframework.util.function.SingletonSupplier;                              // Resolves the Tracer once, on first use.
+
+// Adds a span around every Spring Data repository call (EmployeeRepository.findById, findAll...),
+// so a trace shows how much of a request was spent in JPA / the database:
+//
+//   GET /employees/{id}                      (server span)
+//   ├── EmployeeRepository.findById          (this span: transaction + query, or L2 cache hit)
+//   ├── employee.mapping
+//   └── http get /address-service/address/{id} → address-service spans
+//
+// - The span is the OUTERMOST advice of the repository proxy → it includes the transaction
+//   (connection checkout, commit), not just the query.
+// - Only inside an existing trace: calls outside a request (startup, background work)
+//   do not start traces of their own.
+// - Spans only, no metric: the timer is spring.data.repository.invocations (see application.properties).
+//
+// Registered from TracingConfig (static @Bean → created before the repositories).
+public class RepositoryTracingPostProcessor implements BeanPostProcessor {
+
+    private final SingletonSupplier<Tracer> tracer;
+
+    public RepositoryTracingPostProcessor(ObjectProvider<Tracer> tracer) {
+        this.tracer = SingletonSupplier.of(() -> tracer.getIfAvailable(() -> Tracer.NOOP));
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+            factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                    (proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(0,
+                            new RepositorySpanInterceptor(repositoryInformation.getRepositoryInterface().getSimpleName()))));
+        }
+        return bean;
+    }
+
+    // ================================
+    // Interceptor: one span per repository method call
+    // ================================
+    private class RepositorySpanInterceptor implements MethodInterceptor {
+
+        private final String repositoryName;
+
+        RepositorySpanInterceptor(String repositoryName) {
+            this.repositoryName = repositoryName;
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            Tracer currentTracer = tracer.obtain();
+            if (currentTracer.currentSpan() == null) {
+                return invocation.proceed();
+            }
+
+            Span span = currentTracer.nextSpan()
+                    .name(repositoryName + "." + invocation.getMethod().getName())
+                    .tag("repository", repositoryName)
+                    .tag("method", invocation.getMethod().getName())
+                    .start();
+            try (Tracer.SpanInScope scope = currentTracer.withSpan(span)) {
+                return invocation.proceed();
+            } catch (Throwable e) {
+                span.error(e);
+                throw e;
+            } finally {
+                span.end();
+            }
+        }
+    }
+}
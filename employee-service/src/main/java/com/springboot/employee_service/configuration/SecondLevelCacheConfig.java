@@ -0,0 +1,74 @@
+// Package declaration → groups related classes together.
+package com.springboot.employee_service.configuration;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration; // Caffeine-specific JCache settings (size, TTL).
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;          // Caffeine's JCache implementation.
+import org.hibernate.cache.jcache.ConfigSettings;                                 // Hibernate's JCache property names.
+import org.hibernate.cache.spi.RegionFactory;                                     // Names of Hibernate's built-in regions.
+import org.springframework.boot.context.properties.EnableConfigurationProperties; // Registers @ConfigurationProperties classes.
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer; // Adds properties to Hibernate at startup.
+import org.springframework.context.annotation.Bean;                               // Marks a method as a Spring bean provider.
+import org.springframework.context.annotation.Configuration;                      // Marks this class as a Spring configuration class.
+
+import javax.cache.CacheManager;         // JCache (JSR-107) cache manager handed to Hibernate.
+import javax.cache.Caching;              // Looks up JCache providers.
+import javax.cache.spi.CachingProvider;  // Hands out cache managers by URI.
+import java.net.URI;                     // Identifies a cache manager within the provider.
+import java.time.Duration;               // Region time-to-live.
+import java.util.OptionalLong;           // Caffeine's "optional limit" type.
+import java.util.UUID;                   // Unique cache manager URI per application context.
+
+// @Configuration → Hibernate second-level (L2) cache backed by Caffeine through JCache.
+//
+// The employee table is read-mostly → findById answers from memory after the first read.
+// - Regions are created here (l2-cache.regions.*); an unknown region name fails at startup.
+// - Writes through Hibernate keep the entries current; other writes → evict via /actuator/l2cache.
+@Configuration
+@EnableConfigurationProperties(SecondLevelCacheProperties.class)
+public class SecondLevelCacheConfig {
+
+    // ================================
+    // Bean: JCache CacheManager (Caffeine)
+    // ================================
+    // - Own URI per application context → the provider's default manager is JVM-wide, so a second
+    //   context in the same JVM (tests, embedded apps) would fail with "Cache ... already exists".
+    //   An unknown URI scheme → Caffeine falls back to its default configuration.
+    // - destroyMethod = "close" → all regions are released and the manager leaves the provider on shutdown.
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager(SecondLevelCacheProperties properties) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("l2-cache:" + UUID.randomUUID()), provider.getDefaultClassLoader());
+
+        properties.getRegions().forEach((name, region) -> cacheManager.createCache(name, regionConfiguration(region)));
+        cacheManager.createCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+                regionConfiguration(properties.getDefaultQueryRegion()));
+
+        // Timestamps of the last write per table → decides whether a cached query result is still valid.
+        // Hibernate requires this region to never evict or expire entries (it has one entry per table).
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+                new CaffeineConfiguration<>().setStoreByValue(false));
+        return cacheManager;
+    }
+
+    // ================================
+    // Bean: Hibernate → use the CacheManager above
+    // ================================
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+        return hibernateProperties -> {
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    // - setStoreByValue(false) → Hibernate already stores immutable, disassembled copies,
+    //   so JCache does not need to copy (serialize) every value again on put and get.
+    private static CaffeineConfiguration<Object, Object> regionConfiguration(SecondLevelCacheProperties.Region region) {
+        Duration ttl = region.getTtl();
+        return new CaffeineConfiguration<>()
+                .setStoreByValue(false)
+                .setMaximumSize(OptionalLong.of(region.getMaximumSize()))
+                .setExpireAfterWrite(ttl.isZero() ? OptionalLong.empty() : OptionalLong.of(ttl.toNanos()));
+    }
+}
@@ -0,0 +1,92 @@
+// Package declaration → groups related classes together.
+package com.springboot.employee_service.configuration;
+
+import com.github.benmanes.caffeine.cache.Cache;                                    // Caffeine cache behind one JCache region.
+import jakarta.persistence.EntityManagerFactory;                                    // JPA entry point → unwrapped to Hibernate's SessionFactory.
+import lombok.extern.slf4j.Slf4j;                                                   // Lombok → generates a "log" field.
+import org.hibernate.SessionFactory;                                                // Hibernate's view of the EntityManagerFactory.
+import org.hibernate.stat.CacheRegionStatistics;                                    // Hit/miss/put counts of one region.
+import org.hibernate.stat.Statistics;                                               // All Hibernate statistics.
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;        // HTTP DELETE on the endpoint.
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;               // Custom actuator endpoint.
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;          // HTTP GET on the endpoint.
+import org.springframework.boot.actuate.endpoint.annotation.Selector;               // Path segment → method argument.
+import org.springframework.stereotype.Component;                                    // Marks this class as a Spring-managed bean.
+
+import javax.cache.CacheManager; // Regions created in SecondLevelCacheConfig.
+import java.util.Map;     // Region name → statistics.
+import java.util.TreeMap; // Sorted by region name.
+
+// @Component + @Endpoint(id = "l2cache") → /employee-service/actuator/l2cache
+// (exposed via management.endpoints.web.exposure.include).
+//
+// - GET    /actuator/l2cache          → hits, misses, puts, hit ratio and size of every L2 region.
+// - DELETE /actuator/l2cache/{region} → evict one region (e.g. after rows were changed directly in MySQL).
+// - DELETE /actuator/l2cache          → evict all regions.
+// Evicting a region also evicts all cached query results, since they may contain data of that region.
+// The same methods can be called from code that writes outside Hibernate (JDBC, bulk SQL).
+@Slf4j
+@Component
+@Endpoint(id = "l2cache")
+public class SecondLevelCacheEndpoint {
+
+    private final SessionFactory sessionFactory;
+    private final CacheManager secondLevelCacheManager;
+
+    public SecondLevelCacheEndpoint(EntityManagerFactory entityManagerFactory, CacheManager secondLevelCacheManager) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        this.secondLevelCacheManager = secondLevelCacheManager;
+    }
+
+    // ================================
+    // GET: statistics per region
+    // ================================
+    // Counters are only collected when hibernate.generate_statistics=true (otherwise all are 0).
+    @ReadOperation
+    public Map<String, RegionStatistics> regions() {
+        Statistics statistics = sessionFactory.getStatistics();
+        Map<String, RegionStatistics> regions = new TreeMap<>();
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics stats = statistics.getCacheRegionStatistics(region);
+            if (stats != null) {
+                regions.put(region, RegionStatistics.of(stats, size(region)));
+            }
+        }
+        return regions;
+    }
+
+    // ================================
+    // DELETE: evict one region
+    // ================================
+    @DeleteOperation
+    public void evictRegion(@Selector String region) {
+        sessionFactory.getCache().evictRegion(region);
+        sessionFactory.getCache().evictQueryRegions();
+        log.info("Evicted second-level cache region '{}' and all query regions", region);
+    }
+
+    // ================================
+    // DELETE: evict everything
+    // ================================
+    @DeleteOperation
+    public void evictAll() {
+        sessionFactory.getCache().evictAllRegions();
+        log.info("Evicted all second-level cache regions");
+    }
+
+    // Entries currently in the region (Hibernate's own counter is not supported for JCache).
+    private long size(String region) {
+        javax.cache.Cache<Object, Object> cache = secondLevelCacheManager.getCache(region);
+        return cache == null ? 0 : cache.unwrap(Cache.class).estimatedSize();
+    }
+
+    // hitRatio → hits / (hits + misses), 0 when the region was never read.
+    public record RegionStatistics(long hits, long misses, long puts, double hitRatio, long size) {
+
+        static RegionStatistics of(CacheRegionStatistics stats, long size) {
+            long requests = stats.getHitCount() + stats.getMissCount();
+            return new RegionStatistics(stats.getHitCount(), stats.getMissCount(), stats.getPutCount(),
+                    requests == 0 ? 0 : (double) stats.getHitCount() / requests, size);
+        }
+    }
+}
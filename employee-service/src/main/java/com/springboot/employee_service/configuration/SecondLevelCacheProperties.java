@@ -0,0 +1,42 @@
+// Package declaration → groups related classes together.
+package com.springboot.employee_service.configuration;
+
+import lombok.Data;                                                         // Lombok → generates getters, setters, toString, equals, hashCode.
+import org.springframework.boot.context.properties.ConfigurationProperties; // Binds "l2-cache.*" keys from application.properties.
+
+import java.time.Duration;     // Spring converts values like "10m" into Duration.
+import java.util.LinkedHashMap; // Keeps the regions in the order they are configured.
+import java.util.Map;          // Region name → settings.
+
+// @ConfigurationProperties(prefix = "l2-cache") → Every field below is bound
+// from application.properties, e.g. l2-cache.regions.employee.ttl=10m.
+// @Data → Lombok generates getters/setters so Spring can bind the values.
+//
+// Size and time-to-live of every Hibernate second-level cache region (see SecondLevelCacheConfig).
+@Data
+@ConfigurationProperties(prefix = "l2-cache")
+public class SecondLevelCacheProperties {
+
+    // ================================
+    // Regions
+    // ================================
+    // Region name → settings. Entity regions are named in @Cache(region = "..."),
+    // query regions in the HINT_CACHE_REGION query hint.
+    private Map<String, Region> regions = new LinkedHashMap<>();
+
+    // ================================
+    // Default Query Region
+    // ================================
+    // Settings for Hibernate's "default-query-results-region" (cacheable queries without their own region).
+    private Region defaultQueryRegion = new Region();
+
+    @Data
+    public static class Region {
+
+        // Maximum number of entries (least valuable entries are evicted first).
+        private long maximumSize = 10_000;
+
+        // An entry is dropped this long after it was written (0 = never).
+        private Duration ttl = Duration.ofMinutes(10);
+    }
+}
@@ -0,0 +1,30 @@
+// Package declaration → groups related classes together.
+package com.springboot.employee_service.configuration;
+
+import lombok.Data;                                                         // Lombok → generates getters, setters, toString, equals, hashCode.
+import org.springframework.boot.context.properties.ConfigurationProperties; // Binds "tracing.file-export.*" keys from application.properties.
+import org.springframework.util.unit.DataSize;                              // Spring converts values like "50MB" into DataSize.
+
+import java.nio.file.Path; // Spring converts "traces/employee-service.jsonl" into a Path.
+
+// @ConfigurationProperties(prefix = "tracing.file-export") → Every field below is bound
+// from application.properties, e.g. tracing.file-export.path=traces/employee-service.jsonl.
+// @Data → Lombok generates getters/setters so Spring can bind the values.
+//
+// Where recorded spans are written for offline analysis (see FileSpanReporter).
+@Data
+@ConfigurationProperties(prefix = "tracing.file-export")
+public class SpanFileExportProperties {
+
+    // true → every recorded (sampled) span is appended to "path".
+    private boolean enabled = false;
+
+    // JSON-lines file, one span per line. Parent directories are created at startup.
+    private Path path = Path.of("traces", "employee-service.jsonl");
+
+    // The file is rotated once it reaches this size (see FileSpanReporter).
+    private DataSize maxSize = DataSize.ofMegabytes(50);
+
+    // Rotated files kept next to "path" (<path>.1 is the newest); 0 = keep only the current file.
+    private int maxHistory = 2;
+}
@@ -0,0 +1,30 @@
+// Package declaration → groups related classes together.
+package com.springboot.employee_service.configuration;
+
+import com.springboot.employee_service.client.AddressReplica;         // Starts polling the Address Service at startup.
+import com.springboot.employee_service.controller.EmployeeController; // Entry point of the request path.
+import org.springframework.boot.LazyInitializationExcludeFilter;      // Keeps selected beans eager under lazy init.
+import org.springframework.context.annotation.Bean;                   // Marks a method as a Spring bean provider.
+import org.springframework.context.annotation.Configuration;          // Marks this class as a Spring configuration class.
+
+// @Configuration → Selective lazy initialization for the "faststart" profile
+// (spring.main.lazy-initialization=true, see application-faststart.properties).
+//
+// Lazy init alone would only MOVE startup work to the first request: the controller, service,
+// repositories and the JPA EntityManagerFactory would be created while the first caller waits.
+// So the beans below stay eager, and with them everything they depend on:
+// - EmployeeController → the whole request path of GET /employees/{id} is ready when the port opens.
+// - AddressReplica → must start polling at startup, not at its first lookup.
+// - VirtualThreadPinningMonitor → must watch from the start (when enabled).
+// Everything else (actuator endpoints, unused metric binders, helper beans...) is created on first use.
+//
+// Without lazy initialization (all other profiles) this filter has no effect.
+@Configuration
+public class StartupConfig {
+
+    // static → read by a BeanFactoryPostProcessor before regular beans exist.
+    @Bean
+    public static LazyInitializationExcludeFilter eagerRequestPath() {
+        return LazyInitializationExcludeFilter.forBeanTypes(EmployeeController.class, AddressReplica.class, VirtualThreadPinningMonitor.class);
+    }
+}
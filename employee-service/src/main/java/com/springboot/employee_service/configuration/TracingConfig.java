@@ -0,0 +1,61 @@
+// Package declaration → groups related classes together.
+package com.springboot.employee_service.configuration;
+
+import io.micrometer.tracing.Tracer;                                             // Creates spans (OpenTelemetry underneath).
+import org.springframework.beans.factory.ObjectProvider;                         // Looks up beans lazily.
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;   // Bean only when a property is set.
+import org.springframework.boot.context.properties.EnableConfigurationProperties; // Registers @ConfigurationProperties classes.
+import org.springframework.context.annotation.Bean;                              // Marks a method as a Spring bean provider.
+import org.springframework.context.annotation.Configuration;                     // Marks this class as a Spring configuration class.
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;    // Copies the trace context into background tasks.
+import tools.jackson.databind.json.JsonMapper;                                   // Spring Boot's configured JSON mapper.
+
+// @Configuration → Distributed tracing (W3C trace context) on top of Spring Boot's Micrometer Tracing
+// + OpenTelemetry auto-configuration (management.tracing.* in application.properties).
+//
+// What Spring Boot already does:
+// - http.server.requests → server span; a "traceparent" header of the caller is continued.
+// - RestTemplate (EmployeeConfig.restTemplate) → client span + "traceparent" header on every
+//   Address Service call; AsyncAddressClient does the same for the JDK HttpClient.
+// - Every Observation (employee.mapping...) becomes a span as well; log lines get traceId/spanId.
+//
+// What is added here:
+// - Trace context follows work handed to the task executor (parallel / async lookups, cache loads).
+// - Spans around repository (JPA) calls.
+// - Span export to a local JSON-lines file.
+@Configuration
+@EnableConfigurationProperties(SpanFileExportProperties.class)
+public class TracingConfig {
+
+    // ================================
+    // Bean: TaskDecorator → trace context across threads
+    // ================================
+    // Spring Boot applies a TaskDecorator bean to applicationTaskExecutor: each task runs with the
+    // trace context (and MDC) of the thread that submitted it, so the address call started by
+    // EmployeeService on a background thread stays a child of the incoming request's span.
+    @Bean
+    public ContextPropagatingTaskDecorator contextPropagatingTaskDecorator() {
+        return new ContextPropagatingTaskDecorator();
+    }
+
+    // ================================
+    // Bean: spans around repository calls
+    // ================================
+    // static → a BeanPostProcessor must exist before the repositories it adjusts are created.
+    @Bean
+    public static RepositoryTracingPostProcessor repositoryTracingPostProcessor(ObjectProvider<Tracer> tracer) {
+        return new RepositoryTracingPostProcessor(tracer);
+    }
+
+    // ================================
+    // Bean: span file export
+    // ================================
+    // Spring Boot hands every SpanReporter bean to the OpenTelemetry batch span processor.
+    // destroyMethod = "close" → the file is closed on shutdown.
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "tracing.file-export", name = "enabled", havingValue = "true")
+    public FileSpanReporter fileSpanReporter(SpanFileExportProperties properties, JsonMapper jsonMapper) {
+        return new FileSpanReporter(properties.getPath(), properties.getMaxSize().toBytes(),
+                properties.getMaxHistory(), jsonMapper);
+    }
+}
@@ -0,0 +1,97 @@
+// Package declaration → groups related classes together.
+package com.springboot.employee_service.configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;                   // Registry where metrics are published.
+import io.micrometer.core.instrument.Timer;                           // Records how long something took.
+import jakarta.annotation.PostConstruct;                              // Runs a method after the bean is created.
+import jakarta.annotation.PreDestroy;                                 // Runs a method before the bean is destroyed.
+import jdk.jfr.consumer.RecordedEvent;                                // One JFR event (here: a pinned virtual thread).
+import jdk.jfr.consumer.RecordedFrame;                                // One stack frame of that event.
+import jdk.jfr.consumer.RecordingStream;                              // Streams JFR events to Java code while the app runs.
+import lombok.RequiredArgsConstructor;                                // Lombok → generates constructor for final fields.
+import lombok.extern.slf4j.Slf4j;                                     // Lombok → generates a "log" field.
+import org.springframework.beans.factory.annotation.Value;            // Injects values from application.properties.
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty; // Creates the bean only when enabled.
+import org.springframework.stereotype.Component;                      // Marks this class as a Spring-managed bean.
+
+import java.time.Duration;           // Spring converts values like "20ms" into Duration.
+import java.util.List;               // Stack frames of the pinned thread.
+import java.util.stream.Collectors; // Joins stack frames into one log line.
+
+// @Component → Spring creates and starts this monitor at startup.
+// @ConditionalOnProperty → Only active when virtual-threads.pinning-monitor.enabled=true (off by default).
+//
+// A virtual thread that blocks while pinned also blocks its carrier thread. Since JDK 24 (JEP 491)
+// synchronized no longer pins; what remains is blocking with a native frame on the stack (JNI callbacks,
+// foreign upcalls) or inside a class initializer (static init that does I/O or waits on another thread).
+// Every JFR "jdk.VirtualThreadPinned" event is logged with its reason, the blocking operation and the top
+// stack frames, and timed as jvm.threads.virtual.pinned.duration{reason}. A diagnostic → off by default.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "virtual-threads.pinning-monitor.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    private final MeterRegistry meterRegistry;
+
+    // Only pinning that lasts longer than this is reported (short pins are harmless).
+    @Value("${virtual-threads.pinning-monitor.threshold:20ms}")
+    private Duration threshold;
+
+    // Number of stack frames written to the log for each pinning event.
+    @Value("${virtual-threads.pinning-monitor.stack-depth:12}")
+    private int stackDepth;
+
+    private RecordingStream recordingStream;
+
+    // ================================
+    // Start listening to JFR events
+    // ================================
+    @PostConstruct
+    public void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable("jdk.VirtualThreadPinned").withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent("jdk.VirtualThreadPinned", this::report);
+        recordingStream.startAsync();
+        log.info("Virtual thread pinning monitor started (threshold {})", threshold);
+    }
+
+    // ================================
+    // Stop listening on shutdown
+    // ================================
+    @PreDestroy
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    // ================================
+    // Report one pinning event
+    // ================================
+    private void report(RecordedEvent event) {
+        List<RecordedFrame> frames = event.getStackTrace() != null ? event.getStackTrace().getFrames() : List.of();
+        // JDK 24+ → the event says why the thread was pinned and which operation blocked.
+        String reason = field(event, "pinnedReason");
+        String operation = field(event, "blockingOperation");
+
+        Timer.builder("jvm.threads.virtual.pinned.duration")
+                .description("Time virtual threads spent pinned to their carrier thread")
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .record(event.getDuration());
+
+        String stack = frames.stream()
+                .limit(stackDepth)
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber())
+                .collect(Collectors.joining("\n\tat "));
+        log.warn("Virtual thread pinned for {} ms (reason: {}, blocked in: {}):\n\tat {}",
+                event.getDuration().toMillis(), reason, operation, stack);
+    }
+
+    private static String field(RecordedEvent event, String name) {
+        String value = event.hasField(name) ? event.getString(name) : null;
+        return value != null ? value : "unknown";
+    }
+}
@@ -1,14 +1,29 @@
 // Package declaration → groups related classes together.
 package com.springboot.employee_service.controller;
 
+import com.springboot.employee_service.response.BulkImportResponse; // Counts + rows/sec of a bulk import.
 import com.springboot.employee_service.response.EmployeeResponse; // DTO returned to client (Employee + Address).
+import com.springboot.employee_service.service.EmployeeBulkService; // Streams NDJSON lines into the table.
+import com.springboot.employee_service.service.EmployeeExportService; // Streams all employees + addresses out.
 import com.springboot.employee_service.service.EmployeeService;  // Service layer containing business logic.
+import jakarta.servlet.http.HttpServletResponse;                // Response body written directly (export).
 import lombok.RequiredArgsConstructor;                          // Lombok → generates constructor for final fields.
+import org.springframework.data.domain.Pageable;                // Page number, page size and sort (from ?page=&size=&sort=).
+import org.springframework.data.web.PagedModel;                 // Stable JSON shape for a page of results.
+import org.springframework.http.HttpHeaders;                    // Content-Disposition.
 import org.springframework.http.HttpStatus;                     // Represents HTTP status codes.
+import org.springframework.http.MediaType;                      // application/x-ndjson.
 import org.springframework.http.ResponseEntity;                 // Represents HTTP response with body + status.
 import org.springframework.web.bind.annotation.GetMapping;      // Maps HTTP GET requests to controller methods.
 import org.springframework.web.bind.annotation.PathVariable;    // Extracts values from URL path.
+import org.springframework.web.bind.annotation.PostMapping;     // Maps HTTP POST requests to controller methods.
+import org.springframework.web.bind.annotation.RequestParam;    // Reads query parameters (?format=...).
 import org.springframework.web.bind.annotation.RestController;  // Marks this class as a REST controller (returns JSON).
+import org.springframework.web.server.ResponseStatusException;   // RuntimeException that carries an HTTP status.
+
+import java.io.IOException;                    // Writing the export body failed (client gone).
+import java.io.InputStream;                    // Request body as a stream (bulk import).
+import java.util.concurrent.CompletableFuture; // Async result → Spring MVC finishes the response when it completes.
 
 // @RestController → Marks this class as a REST API controller.
 // Combines @Controller + @ResponseBody → methods return JSON responses instead of HTML views.
@@ -23,6 +38,8 @@ public class EmployeeController {
     // EmployeeService is injected automatically via constructor (thanks to @RequiredArgsConstructor).
     // This allows the controller to delegate business logic to the service layer.
     private final EmployeeService employeeService;
+    private final EmployeeBulkService employeeBulkService;
+    private final EmployeeExportService employeeExportService;
 
     // ================================
     // GET Endpoint: Fetch Employee Details
@@ -39,4 +56,96 @@ public class EmployeeController {
         // Step 2: Wrap response in ResponseEntity with HTTP 200 OK status.
         return ResponseEntity.status(HttpStatus.OK).body(employeeResponse);
     }
-}
\ No newline at end of file
+
+    // ================================
+    // GET Endpoint: Fetch Employee Details (Non-blocking)
+    // ================================
+    // URL: GET /employees/{id}/async → same JSON as GET /employees/{id}.
+    // Returning a CompletableFuture → Spring MVC starts async request processing: the Tomcat
+    // thread is released right away and the response is written when the future completes.
+    // So the number of in-flight requests is not limited by the number of request threads.
+    @GetMapping("/employees/{id}/async")
+    public CompletableFuture<ResponseEntity<EmployeeResponse>> getEmployeeDetailsAsync(@PathVariable int id) {
+        // Step 1: Start fetching employee + address details (returns immediately).
+        // Step 2: When done → wrap response in ResponseEntity with HTTP 200 OK status.
+        return employeeService.getEmployeeByIdAsync(id)
+                .thenApply(employeeResponse -> ResponseEntity.status(HttpStatus.OK).body(employeeResponse));
+    }
+
+    // ================================
+    // GET Endpoint: List Employees (Paginated)
+    // ================================
+    // URL: GET /employees?page=0&size=20&sort=name
+    // Pageable → Spring builds it from the page/size/sort query parameters
+    // (size is capped by spring.data.web.pageable.max-page-size).
+    // Addresses for the whole page are fetched with ONE batch call to the Address Service.
+    // Returns PagedModel → {"content": [...], "page": {"size", "number", "totalElements", "totalPages"}}.
+    @GetMapping("/employees")
+    public ResponseEntity<PagedModel<EmployeeResponse>> getEmployees(Pageable pageable) {
+        // Step 1: Call service layer to fetch one page of employees + their addresses.
+        PagedModel<EmployeeResponse> employees = new PagedModel<>(employeeService.getEmployees(pageable));
+
+        // Step 2: Wrap response in ResponseEntity with HTTP 200 OK status.
+        return ResponseEntity.status(HttpStatus.OK).body(employees);
+    }
+
+    // ================================
+    // POST Endpoint: Bulk Create / Update Employees
+    // ================================
+    // URL: POST /employees/bulk   (Content-Type: application/x-ndjson)
+    // Request body: one employee per line →
+    //   {"name": "Asha", "email": "asha@example.com", "age": "31"}          → new employee
+    //   {"id": 7, "name": "Ravi", "email": "ravi@example.com", "age": "40"} → replaces employee 7
+    // Response body: {"rows": 2, "created": 1, "updated": 1, "unchanged": 0, "notFound": 0, "millis": 12,
+    //                 "rowsPerSecond": 166, "error": null}
+    // Malformed line → 400 Bad Request, same body: "error" names the line, the counts are the rows
+    // committed before it (chunks of employee.bulk.chunk-size lines).
+    //
+    // The body is read as a stream (InputStream, not @RequestBody) → millions of lines are imported
+    // without holding them in memory (see EmployeeBulkService: chunked transactions, JDBC batching).
+    // Example: curl -H "Content-Type: application/x-ndjson" --data-binary @employees.ndjson .../employee-service/employees/bulk
+    @PostMapping(value = "/employees/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<BulkImportResponse> importEmployees(InputStream body) {
+        // Step 1: Stream the lines into the table.
+        BulkImportResponse result = employeeBulkService.importEmployees(body);
+
+        // Step 2: Wrap the counts in ResponseEntity with HTTP 200 OK status (400 when a line was rejected).
+        return ResponseEntity.status(result.getError() == null ? HttpStatus.OK : HttpStatus.BAD_REQUEST).body(result);
+    }
+
+    // ================================
+    // GET Endpoint: Export All Employees (Streaming)
+    // ================================
+    // URL: GET /employees/export?format=ndjson   → application/x-ndjson, one employee per line:
+    //        {"id":1,"name":"Asha","email":"asha@example.com","age":"31","addressResponse":{"id":1,"city":..,"state":..}}
+    //      GET /employees/export?format=csv      → text/csv:
+    //        id,name,email,age,address_id,city,state
+    //        1,Asha,asha@example.com,31,1,Pune,MH
+    // Unknown format → 400 Bad Request.
+    //
+    // The body is written while the table is read (see EmployeeExportService: keyset pages + one address batch
+    // call per page) → any number of employees with constant memory. It is written on the request thread
+    // (a virtual thread) instead of returning a StreamingResponseBody: an async response would be cut off by
+    // spring.mvc.async.request-timeout, and a blocked virtual thread costs next to nothing.
+    // A failure in the middle → the body ends without its final chunk (the status line was already sent).
+    // Example: curl -o employees.csv ".../employee-service/employees/export?format=csv"
+    @GetMapping("/employees/export")
+    public void exportEmployees(@RequestParam(name = "format", defaultValue = "ndjson") String format,
+                                HttpServletResponse response) throws IOException {
+        // Step 1: Pick the format (before anything is written → a bad one can still get 400).
+        EmployeeExportService.Format exportFormat = switch (format) {
+            case "ndjson" -> EmployeeExportService.Format.NDJSON;
+            case "csv" -> EmployeeExportService.Format.CSV;
+            default -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "format must be ndjson or csv");
+        };
+
+        // Step 2: Headers → 200 OK, download as a file.
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(exportFormat == EmployeeExportService.Format.CSV
+                ? "text/csv;charset=UTF-8" : MediaType.APPLICATION_NDJSON_VALUE);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"employees." + format + "\"");
+
+        // Step 3: Stream all employees into the response body.
+        employeeExportService.exportEmployees(exportFormat, response.getOutputStream());
+    }
+}
@@ -5,13 +5,20 @@ import jakarta.persistence.*;          // JPA annotations for entity mapping.
 import lombok.AllArgsConstructor;     // Lombok → generates constructor with all fields.
 import lombok.Data;                   // Lombok → generates getters, setters, toString, equals, hashCode.
 import lombok.NoArgsConstructor;      // Lombok → generates default no-argument constructor.
+import org.hibernate.annotations.Cache;                   // Hibernate second-level cache settings.
+import org.hibernate.annotations.CacheConcurrencyStrategy; // How cached entries stay consistent with writes.
 
 // @Entity → Marks this class as a JPA entity (mapped to a database table).
 // @Table(name = "employee") → Specifies the table name in the database.
 // @Data → Lombok generates boilerplate code (getters/setters, equals, hashCode, toString).
 // @AllArgsConstructor → Constructor with all fields.
 // @NoArgsConstructor → Default constructor.
+// @Cacheable + @Cache → Employees are kept in the Hibernate second-level cache (region "employee",
+// size/TTL in l2-cache.regions.employee.*). READ_WRITE → a write through Hibernate locks the cached
+// entry until the transaction commits, so readers never see uncommitted data.
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "employee")
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
@@ -22,10 +29,19 @@ public class Employee {
     // Primary Key (id)
     // ================================
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "employee_id")
+    @TableGenerator(name = "employee_id", table = "id_generator", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "employee", initialValue = 1, allocationSize = 50)
     @Column(name = "id")
     // @Id → Marks this field as the primary key.
-    // @GeneratedValue(strategy = GenerationType.IDENTITY) → Auto-increment ID in the database.
+    // @GeneratedValue(strategy = GenerationType.TABLE) → ids come from the row "employee" of the table
+    // "id_generator", reserved in blocks of 50 (pooled-lo optimizer, see application.properties):
+    // one UPDATE of id_generator per 50 new rows, and Hibernate knows the id BEFORE the INSERT.
+    // Why not IDENTITY (auto-increment): the id is only known after each INSERT, so Hibernate has to
+    // run every INSERT on its own → hibernate.jdbc.batch_size would have no effect (bulk import).
+    // A table instead of a sequence → same behaviour on MySQL (no sequences) and H2; the Address Service
+    // uses the same table (row "address") when both share one database.
+    // Existing rows (created with auto-increment) → IdGeneratorAlignment moves next_val up to MAX(id) at startup.
     // @Column(name = "id") → Maps this field to the "id" column in the employee table.
     private int id;
 
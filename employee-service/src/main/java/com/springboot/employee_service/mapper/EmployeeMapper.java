@@ -0,0 +1,28 @@
+// Package declaration → groups related classes together.
+package com.springboot.employee_service.mapper;
+
+import com.springboot.employee_service.entity.Employee;            // Employee entity mapped to DB table.
+import com.springboot.employee_service.response.EmployeeResponse; // DTO returned to client.
+import org.mapstruct.Mapper;                                       // Marks this interface as a MapStruct mapper.
+import org.mapstruct.Mapping;                                      // Configures a single target field.
+import org.mapstruct.ReportingPolicy;                              // Unmapped target fields → compile error.
+
+// @Mapper(componentModel = "spring") → MapStruct generates EmployeeMapperImpl at COMPILE time
+// and registers it as a Spring bean, so it can be injected like any other dependency.
+//
+// Why not ModelMapper?
+// ModelMapper discovers matching fields with reflection on every call.
+// The generated class is plain Java: new EmployeeResponse() + one setter per field.
+// No reflection, no intermediate objects, and a missing/renamed field fails the build
+// (unmappedTargetPolicy = ERROR below) instead of silently leaving a field null.
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.ERROR)
+public interface EmployeeMapper {
+
+    // ================================
+    // Employee entity → EmployeeResponse DTO
+    // ================================
+    // Copies id, name, email, age.
+    // addressResponse is ignored here → it comes from the Address Service and is set afterwards.
+    @Mapping(target = "addressResponse", ignore = true)
+    EmployeeResponse toEmployeeResponse(Employee employee);
+}
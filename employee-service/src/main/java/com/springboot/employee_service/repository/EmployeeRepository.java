@@ -2,9 +2,14 @@
 package com.springboot.employee_service.repository;
 
 import com.springboot.employee_service.entity.Employee; // Import the Employee entity.
+import org.springframework.data.domain.Limit;                 // Maximum number of rows of one query.
 import org.springframework.data.jpa.repository.JpaRepository; // Provides CRUD operations and query methods for JPA entities.
+import org.springframework.data.jpa.repository.Query;        // Custom JPQL query.
+import org.springframework.data.repository.query.Param;      // Binds a method parameter to a named query parameter.
 import org.springframework.stereotype.Repository;            // Marks this interface as a Spring-managed repository bean.
 
+import java.util.List; // One page of rows.
+
 // @Repository → Marks this interface as a Spring Data repository.
 // Spring will automatically detect it and create a proxy implementation at runtime.
 // This allows you to perform database operations without writing SQL manually.
@@ -26,4 +31,16 @@ public interface EmployeeRepository extends JpaRepository<Employee, Integer> {
     // You can also define custom query methods here, for example:
     // Optional<Employee> findByEmail(String email);
     // List<Employee> findByName(String name);
+
+    // ================================
+    // Keyset Query: Export Page (GET /employees/export)
+    // ================================
+    // Reads one page after a cursor instead of OFFSET → every page costs the same (primary key
+    // range scan), no matter how far the export already is; OFFSET would re-read all skipped rows.
+    // Cursor = id of the last row of the previous page (0 for the first page).
+    //
+    // Returns the EmployeeRow projection → nothing is managed or cached, a written page is garbage.
+    @Query("SELECT new com.springboot.employee_service.repository.EmployeeRow(e.id, e.name, e.email, e.age) "
+            + "FROM Employee e WHERE e.id > :afterId ORDER BY e.id")
+    List<EmployeeRow> findExportPage(@Param("afterId") int afterId, Limit limit);
 }
\ No newline at end of file
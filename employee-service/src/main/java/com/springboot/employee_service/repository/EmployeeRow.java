@@ -0,0 +1,8 @@
+// Package declaration → groups related classes together.
+package com.springboot.employee_service.repository;
+
+// EmployeeRow → read-only projection used by the export query.
+// Hibernate fills it directly from the selected columns (no managed Employee entity,
+// no dirty-checking snapshot, nothing put into the second-level cache).
+public record EmployeeRow(int id, String name, String email, String age) {
+}
@@ -0,0 +1,24 @@
+// Package declaration → groups related classes together.
+package com.springboot.employee_service.request;
+
+import lombok.AllArgsConstructor; // Lombok → generates constructor with all fields.
+import lombok.Data;               // Lombok → generates getters, setters, toString, equals, hashCode.
+import lombok.NoArgsConstructor;  // Lombok → generates default no-argument constructor.
+
+// @Data → Lombok generates boilerplate code (getters/setters, equals, hashCode, toString).
+// @AllArgsConstructor → Constructor with all fields.
+// @NoArgsConstructor → Default constructor (needed by Jackson).
+// One line of POST /employees/bulk:
+// - without "id" → {"name": "Asha", "email": "asha@example.com", "age": "31"} creates a new employee.
+// - with "id"    → {"id": 7, "name": ...} replaces name, email and age of employee 7.
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class EmployeeRequest {
+
+    // Missing (null) → new employee.
+    private Integer id;
+    private String name;
+    private String email;
+    private String age;
+}
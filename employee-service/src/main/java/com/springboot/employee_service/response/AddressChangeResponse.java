@@ -0,0 +1,30 @@
+// Package declaration → groups related classes together.
+package com.springboot.employee_service.response;
+
+import lombok.AllArgsConstructor; // Lombok → generates constructor with all fields.
+import lombok.Data;               // Lombok → generates getters, setters, toString, equals, hashCode.
+import lombok.NoArgsConstructor;  // Lombok → generates default no-argument constructor.
+
+import java.time.Instant; // Point in time (UTC).
+
+// @Data → Lombok generates boilerplate code (getters/setters, equals, hashCode, toString).
+// @AllArgsConstructor → Constructor with all fields.
+// @NoArgsConstructor → Default constructor.
+// One row of the Address Service's GET /address/changes feed:
+// the current address of one employee + when it last changed.
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class AddressChangeResponse {
+
+    // Employee the address belongs to → key of the local read model.
+    private int employeeId;
+
+    // Address id, city, state → same values as AddressResponse.
+    private int id;
+    private String city;
+    private String state;
+
+    // Last change of the row (null for rows written before change tracking existed).
+    private Instant updatedAt;
+}
@@ -0,0 +1,28 @@
+// Package declaration → groups related classes together.
+package com.springboot.employee_service.response;
+
+import lombok.AllArgsConstructor; // Lombok → generates constructor with all fields.
+import lombok.Data;               // Lombok → generates getters, setters, toString, equals, hashCode.
+import lombok.NoArgsConstructor;  // Lombok → generates default no-argument constructor.
+
+import java.time.Instant; // Point in time (UTC).
+import java.util.List;    // Ordered collection → rows in cursor order.
+
+// @Data → Lombok generates boilerplate code (getters/setters, equals, hashCode, toString).
+// @AllArgsConstructor → Constructor with all fields.
+// @NoArgsConstructor → Default constructor.
+// One page of the Address Service's GET /address/changes feed.
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class AddressChangesResponse {
+
+    // Address Service time when the page was read.
+    private Instant asOf;
+
+    // Changed rows in cursor order.
+    private List<AddressChangeResponse> changes;
+
+    // true → more rows follow; ask again with the last row as cursor.
+    private boolean hasMore;
+}
@@ -0,0 +1,166 @@
+// Package declaration → groups related classes together.
+package com.springboot.employee_service.service;
+
+import com.springboot.employee_service.entity.Employee;              // Employee entity mapped to DB table.
+import com.springboot.employee_service.repository.EmployeeRepository; // Repository for Employee CRUD operations.
+import com.springboot.employee_service.request.EmployeeRequest;      // One NDJSON line.
+import com.springboot.employee_service.response.BulkImportResponse;  // Counts + rows/sec of one import.
+import jakarta.persistence.EntityManager;                          // persist / flush / clear.
+import jakarta.persistence.PersistenceContext;                     // Injects the transaction-bound EntityManager.
+import lombok.extern.slf4j.Slf4j;                                  // Lombok → generates a "log" field.
+import org.hibernate.CacheMode;                                    // Keeps imported rows out of the second-level cache.
+import org.hibernate.Session;                                      // Hibernate API behind the EntityManager.
+import org.springframework.beans.factory.annotation.Autowired;     // Enables dependency injection.
+import org.springframework.beans.factory.annotation.Value;         // Injects values from application.properties.
+import org.springframework.stereotype.Service;                     // Marks this class as a Spring-managed service bean.
+import org.springframework.transaction.PlatformTransactionManager; // JPA transaction manager.
+import org.springframework.transaction.support.TransactionTemplate; // One transaction per chunk.
+import tools.jackson.core.JacksonException;                        // Malformed NDJSON line.
+import tools.jackson.databind.MappingIterator;                     // Reads one JSON value after the other.
+import tools.jackson.databind.json.JsonMapper;                     // Spring Boot's configured JSON mapper.
+
+import java.io.InputStream; // Request body, read while it arrives.
+import java.util.ArrayList; // Current chunk.
+import java.util.HashMap;   // id → stored employee.
+import java.util.List;      // Ordered collection.
+import java.util.Map;       // Key → value pairs.
+import java.util.Objects;   // Null-safe equals.
+
+// @Service → Bulk create / update of employees from an NDJSON stream (POST /employees/bulk).
+//
+//   body ─► "chunkSize" lines ─► 1 SELECT (lines with id) ─► persist / update ─► flush (JDBC batches) ─► commit
+//          └──────────────────────── repeated until the end of the body ─────────────────────────┘
+//
+// - Streaming: lines are parsed while the body arrives, and at most one chunk is held in memory →
+//   memory stays flat for any number of rows.
+// - Batching: ids come from the table generator (see Employee.id), so Hibernate sends the INSERTs / UPDATEs
+//   of a flush in JDBC batches of hibernate.jdbc.batch_size (ordered by statement, see application.properties).
+// - One transaction per chunk → locks and undo data stay small; a bad line stops the import, the chunks
+//   committed before it stay (the response says how many rows that were). Lines without id are NOT
+//   idempotent: sending the same body twice creates the employees twice.
+// - CacheMode.IGNORE → imported rows are not put into the second-level cache (they would evict the
+//   hot entries); updated rows are still invalidated there.
+@Slf4j
+@Service
+public class EmployeeBulkService {
+
+    // ================================
+    // Dependencies (Injected by Spring)
+    // ================================
+    @Autowired
+    private EmployeeRepository employeeRepository; // Loads the stored employees of a chunk.
+
+    @PersistenceContext
+    private EntityManager entityManager;           // Bound to the chunk's transaction.
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JsonMapper jsonMapper;                 // Reads the NDJSON lines.
+
+    // Lines per transaction (flush + clear after each chunk).
+    @Value("${employee.bulk.chunk-size:1000}")
+    private int chunkSize;
+
+    // ================================
+    // Method: importEmployees
+    // ================================
+    // Reads {"id":..,"name":..,"email":..,"age":..} lines until the end of the stream: lines without id
+    // create employees, lines with id replace that employee. Malformed line / negative id → import stops,
+    // result.error says where.
+    public BulkImportResponse importEmployees(InputStream ndjson) {
+        long started = System.nanoTime();
+        BulkImportResponse result = new BulkImportResponse();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        // Step 1: Read line by line, hand over full chunks. A bad line stops the import (result.error).
+        List<EmployeeRequest> chunk = new ArrayList<>(chunkSize);
+        try (MappingIterator<EmployeeRequest> lines = jsonMapper.readerFor(EmployeeRequest.class).readValues(ndjson)) {
+            while (result.getError() == null && lines.hasNextValue()) {
+                EmployeeRequest line = lines.nextValue();
+                if (line.getId() != null && line.getId() <= 0) {
+                    rejectLine(result, chunk, "id must be positive (leave it out for a new employee)");
+                    break;
+                }
+                chunk.add(line);
+                if (chunk.size() == chunkSize) {
+                    transaction.executeWithoutResult(status -> upsert(chunk, result));
+                    chunk.clear();
+                }
+            }
+        } catch (JacksonException e) {
+            rejectLine(result, chunk, e.getOriginalMessage());
+        }
+
+        // Step 2: Last, partly filled chunk.
+        if (result.getError() == null && !chunk.isEmpty()) {
+            transaction.executeWithoutResult(status -> upsert(chunk, result));
+        }
+
+        // Step 3: Throughput of the whole import.
+        result.setMillis(Math.max(1, (System.nanoTime() - started) / 1_000_000));
+        result.setRowsPerSecond(result.getRows() * 1000 / result.getMillis());
+        log.info("Bulk import: {} employees ({} created, {} updated, {} unchanged, {} not found) in {} ms → {} rows/s",
+                result.getRows(), result.getCreated(), result.getUpdated(), result.getUnchanged(), result.getNotFound(),
+                result.getMillis(), result.getRowsPerSecond());
+        if (result.getError() != null) {
+            log.warn("Bulk import stopped: {}", result.getError());
+        }
+        return result;
+    }
+
+    // ================================
+    // One chunk = one transaction
+    // ================================
+    private void upsert(List<EmployeeRequest> chunk, BulkImportResponse result) {
+        entityManager.unwrap(Session.class).setCacheMode(CacheMode.IGNORE);
+
+        // Step 1: Stored employees of the lines with id → ONE query (primary key).
+        Map<Integer, Employee> stored = new HashMap<>();
+        List<Integer> ids = chunk.stream().map(EmployeeRequest::getId).filter(Objects::nonNull).toList();
+        if (!ids.isEmpty()) {
+            employeeRepository.findAllById(ids).forEach(employee -> stored.put(employee.getId(), employee));
+        }
+
+        // Step 2: No id → persist; changed → set the fields (dirty checking writes it); equal → nothing to write.
+        long created = 0, updated = 0, unchanged = 0, notFound = 0;
+        for (EmployeeRequest line : chunk) {
+            if (line.getId() == null) {
+                entityManager.persist(new Employee(0, line.getName(), line.getEmail(), line.getAge()));
+                created++;
+                continue;
+            }
+            Employee employee = stored.get(line.getId());
+            if (employee == null) {
+                notFound++;
+            } else if (Objects.equals(line.getName(), employee.getName())
+                    && Objects.equals(line.getEmail(), employee.getEmail())
+                    && Objects.equals(line.getAge(), employee.getAge())) {
+                unchanged++;
+            } else {
+                employee.setName(line.getName());
+                employee.setEmail(line.getEmail());
+                employee.setAge(line.getAge());
+                updated++;
+            }
+        }
+
+        // Step 3: Write everything as JDBC batches, then drop the entities → nothing piles up.
+        entityManager.flush();
+        entityManager.clear();
+
+        result.setRows(result.getRows() + chunk.size());
+        result.setCreated(result.getCreated() + created);
+        result.setUpdated(result.getUpdated() + updated);
+        result.setUnchanged(result.getUnchanged() + unchanged);
+        result.setNotFound(result.getNotFound() + notFound);
+    }
+
+    // The lines of the current chunk are dropped (not committed); the counts stay at the committed chunks.
+    private static void rejectLine(BulkImportResponse result, List<EmployeeRequest> chunk, String problem) {
+        long lineNumber = result.getRows() + chunk.size() + 1;
+        result.setError("Line " + lineNumber + ": " + problem + " (" + result.getRows() + " rows before it were imported)");
+        chunk.clear();
+    }
+}
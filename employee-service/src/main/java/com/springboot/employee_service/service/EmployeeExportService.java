@@ -0,0 +1,175 @@
+// Package declaration → groups related classes together.
+package com.springboot.employee_service.service;
+
+import com.springboot.employee_service.client.AddressCache;          // Batched address lookups (uncached for exports).
+import com.springboot.employee_service.repository.EmployeeRepository; // Keyset query over the employee table.
+import com.springboot.employee_service.repository.EmployeeRow;       // One employee row (projection).
+import com.springboot.employee_service.response.AddressResponse;    // DTO for address data (from Address Service).
+import com.springboot.employee_service.response.EmployeeResponse;   // One exported line (employee + address).
+import lombok.extern.slf4j.Slf4j;                                  // Lombok → generates a "log" field.
+import org.springframework.beans.factory.annotation.Autowired;     // Enables dependency injection.
+import org.springframework.beans.factory.annotation.Value;         // Injects values from application.properties.
+import org.springframework.data.domain.Limit;                      // Maximum number of rows of one query.
+import org.springframework.stereotype.Service;                     // Marks this class as a Spring-managed service bean.
+import tools.jackson.databind.SequenceWriter;                      // Writes one JSON value after the other.
+import tools.jackson.databind.SerializationFeature;                // FLUSH_AFTER_WRITE_VALUE.
+import tools.jackson.databind.json.JsonMapper;                     // Spring Boot's configured JSON mapper.
+
+import java.io.BufferedWriter;           // Collects small writes into larger ones.
+import java.io.IOException;              // Client went away / socket error.
+import java.io.OutputStream;             // Response body.
+import java.io.OutputStreamWriter;       // Characters → UTF-8 bytes.
+import java.io.Writer;                   // Character output.
+import java.nio.charset.StandardCharsets; // UTF-8.
+import java.util.List;                   // One page of rows.
+import java.util.Map;                    // employeeId → address.
+
+// @Service → Streams every employee with its address to an output stream (GET /employees/export).
+//
+//   page = "pageSize" rows after the last id ─► 1 batch call for their addresses ─► write ─► next page
+//
+// - Constant memory: one page is held at a time (rows are projections, not managed entities), so the
+//   heap needed does not grow with the table.
+// - Keyset pagination (WHERE id > last ORDER BY id LIMIT n) → every page is a primary key range scan,
+//   the last page costs the same as the first (OFFSET would re-read all skipped rows).
+// - Backpressure: the output stream blocks when the client reads slower than we write (full socket
+//   buffer) → the next page is only read when the previous one went out.
+// - Not a snapshot: each page is its own short read. Employees created or changed while the export runs
+//   may or may not be included, but no employee is written twice.
+@Slf4j
+@Service
+public class EmployeeExportService {
+
+    // ================================
+    // Output Formats
+    // ================================
+    // NDJSON → one EmployeeResponse per line, same JSON as GET /employees/{id}.
+    // CSV    → header + one line per employee: id,name,email,age,address_id,city,state (RFC 4180 quoting).
+    public enum Format { NDJSON, CSV }
+
+    private static final String CSV_HEADER = "id,name,email,age,address_id,city,state";
+
+    // ================================
+    // Dependencies (Injected by Spring)
+    // ================================
+    @Autowired
+    private EmployeeRepository employeeRepository; // Reads the pages.
+
+    @Autowired
+    private AddressCache addressCache;             // Addresses of a page → one batch call, not cached.
+
+    @Autowired
+    private JsonMapper jsonMapper;                 // Writes the NDJSON lines.
+
+    // Rows per page = ids per address batch call (keep it <= address-client.batch-size → one call per page).
+    @Value("${employee.export.page-size:500}")
+    private int pageSize;
+
+    // ================================
+    // Method: exportEmployees
+    // ================================
+    // Writes all employees in id order and returns how many were written.
+    // Address Service failure / client disconnect → the exception is thrown after the rows written so far;
+    // the response is already committed by then, so the caller sees a truncated body (no final chunk).
+    public long exportEmployees(Format format, OutputStream out) throws IOException {
+        long started = System.nanoTime();
+        long rows = 0;
+        int afterId = 0;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        SequenceWriter json = format == Format.NDJSON
+                ? jsonMapper.writerFor(EmployeeResponse.class)
+                        .withRootValueSeparator("\n")                         // One value per line.
+                        .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE) // Flushed once per page instead.
+                        .writeValues(writer)
+                : null;
+        if (format == Format.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write("\r\n");
+        }
+
+        try {
+            while (true) {
+                // Step 1: Next page after the cursor (primary key range scan).
+                List<EmployeeRow> page = employeeRepository.findExportPage(afterId, Limit.of(pageSize));
+                if (page.isEmpty()) {
+                    break;
+                }
+
+                // Step 2: Addresses of the whole page → one batch call to the Address Service.
+                Map<Integer, AddressResponse> addresses = addressCache.getAddressesUncached(
+                        page.stream().map(EmployeeRow::id).toList()
+                );
+
+                // Step 3: Write the page and push it to the client (blocks while the client is behind).
+                for (EmployeeRow row : page) {
+                    EmployeeResponse employee = new EmployeeResponse(row.id(), row.name(), row.email(), row.age(),
+                            addresses.get(row.id()));
+                    if (json != null) {
+                        json.write(employee);
+                    } else {
+                        writeCsvLine(writer, employee);
+                    }
+                }
+                if (json != null) {
+                    json.flush();
+                }
+                writer.flush();
+                rows += page.size();
+
+                // Step 4: A short page is the last one; otherwise continue after its last id.
+                if (page.size() < pageSize) {
+                    break;
+                }
+                afterId = page.getLast().id();
+            }
+
+            // Step 5: Complete the body (the separator only goes BETWEEN lines → end the last one).
+            // Closed on success only → after a failure the body stays unterminated and the client notices.
+            if (json != null) {
+                json.flush();
+                if (rows > 0) {
+                    writer.write('\n');
+                }
+            }
+            writer.close();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Employee export stopped after {} rows: {}", rows, e.toString());
+            throw e;
+        }
+
+        long millis = Math.max(1, (System.nanoTime() - started) / 1_000_000);
+        log.info("Employee export ({}): {} employees in {} ms → {} rows/s", format, rows, millis, rows * 1000 / millis);
+        return rows;
+    }
+
+    // ================================
+    // CSV line
+    // ================================
+    // Employees without an address get empty address columns.
+    private void writeCsvLine(Writer writer, EmployeeResponse employee) throws IOException {
+        AddressResponse address = employee.getAddressResponse();
+        writer.write(Integer.toString(employee.getId()));
+        writeCsvField(writer, employee.getName());
+        writeCsvField(writer, employee.getEmail());
+        writeCsvField(writer, employee.getAge());
+        writeCsvField(writer, address == null ? null : Integer.toString(address.getId()));
+        writeCsvField(writer, address == null ? null : address.getCity());
+        writeCsvField(writer, address == null ? null : address.getState());
+        writer.write("\r\n");
+    }
+
+    // ",value" → quoted (with doubled quotes) only when it contains a comma, quote or line break.
+    private void writeCsvField(Writer writer, String value) throws IOException {
+        writer.write(',');
+        if (value == null) {
+            return;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -1,14 +1,27 @@
 // Package declaration → groups related classes together.
 package com.springboot.employee_service.service;
 
+import com.springboot.employee_service.client.AddressCache;          // Cached access to the Address Service.
 import com.springboot.employee_service.entity.Employee;              // Employee entity mapped to DB table.
+import com.springboot.employee_service.mapper.EmployeeMapper;         // Generated Entity → DTO mapper (MapStruct).
 import com.springboot.employee_service.repository.EmployeeRepository; // Repository for Employee CRUD operations.
 import com.springboot.employee_service.response.AddressResponse;    // DTO for address data (from Address Service).
 import com.springboot.employee_service.response.EmployeeResponse;   // DTO for employee data (combined with address).
-import org.modelmapper.ModelMapper;                                // Library for mapping between Entity ↔ DTO.
+import io.micrometer.observation.Observation;                      // Times one stage of the request.
+import io.micrometer.observation.ObservationRegistry;               // Where observations are recorded.
 import org.springframework.beans.factory.annotation.Autowired;     // Enables dependency injection.
+import org.springframework.beans.factory.annotation.Qualifier;     // Picks a specific bean when several match.
+import org.springframework.beans.factory.annotation.Value;         // Injects values from application.properties.
+import org.springframework.core.task.AsyncTaskExecutor;            // Runs tasks on background threads.
+import org.springframework.core.task.TaskRejectedException;        // Thrown when the executor is saturated.
+import org.springframework.data.domain.Page;                       // One page of results + total count.
+import org.springframework.data.domain.Pageable;                   // Page number, page size and sort order.
 import org.springframework.stereotype.Service;                     // Marks this class as a Spring-managed service bean.
-import org.springframework.web.client.RestTemplate;                // Utility for making REST API calls to other services.
+
+import java.util.Map;                        // Key → value pairs (employeeId → address).
+import java.util.concurrent.CompletableFuture;  // Result that arrives later, composed without blocking.
+import java.util.concurrent.ExecutionException; // Wraps an exception thrown inside a background task.
+import java.util.concurrent.Future;            // Handle to a result that is computed in the background.
 
 // @Service → Marks this class as a service component.
 // Service classes contain business logic and are managed by Spring’s IoC container.
@@ -22,20 +35,38 @@ public class EmployeeService {
     private EmployeeRepository employeeRepository; // Handles DB operations for Employee entity.
 
     @Autowired
-    private ModelMapper modelMapper;               // Maps Employee entity → EmployeeResponse DTO.
+    private EmployeeMapper employeeMapper;         // Maps Employee entity → EmployeeResponse DTO.
+
+    @Autowired
+    private AddressCache addressCache;             // Calls external microservice (Address Service), with an in-memory cache.
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private AsyncTaskExecutor taskExecutor;        // Spring Boot's shared executor (spring.task.execution.*).
 
     @Autowired
-    private RestTemplate restTemplate;             // Calls external microservice (Address Service).
+    private ObservationRegistry observationRegistry; // Times the mapping stage ("employee.mapping").
+
+    // true → the DB read and the Address Service call run at the same time (see getEmployeeByIdInParallel).
+    // false → they run one after another.
+    @Value("${employee.lookup.parallel:true}")
+    private boolean parallelLookup;
 
     // ================================
     // Method: getEmployeeById
     // ================================
     // Purpose:
     // - Fetch employee details from DB.
-    // - Map entity → DTO using ModelMapper.
+    // - Map entity → DTO using the generated EmployeeMapper.
     // - Call Address Service via REST API to fetch employee’s address.
     // - Combine both into EmployeeResponse DTO.
     public EmployeeResponse getEmployeeById(int id) {
+        // Parallel mode → DB read and Address Service call overlap.
+        // Not needed when the address is already in memory (read model or cache → no remote call to overlap with).
+        if (parallelLookup && !addressCache.isLocal(id)) {
+            return getEmployeeByIdInParallel(id);
+        }
+
         // Step 1: Fetch employee from DB.
         // If not found → throw RuntimeException.
         Employee employee = employeeRepository.findById(id)
@@ -43,16 +74,12 @@ public class EmployeeService {
 
         // Step 2: Map Employee entity → EmployeeResponse DTO.
         // Avoids manual field copying.
-        EmployeeResponse employeeResponse = modelMapper.map(employee, EmployeeResponse.class);
+        EmployeeResponse employeeResponse = toEmployeeResponse(employee);
 
         // Step 3: Call Address Service (another microservice).
         // URL: http://localhost:8081/address-service/address/{id}
-        // Pass employee ID → fetch corresponding address.
-        AddressResponse addressResponse = restTemplate.getForObject(
-                "http://localhost:8081/address-service/address/{id}",
-                AddressResponse.class,
-                id
-        );
+        // Pass employee ID → fetch corresponding address (answered locally when the read model has it).
+        AddressResponse addressResponse = addressCache.getAddress(id);
 
         // Step 4: Attach address data to EmployeeResponse DTO.
         employeeResponse.setAddressResponse(addressResponse);
@@ -60,4 +87,134 @@ public class EmployeeService {
         // Step 5: Return combined response (Employee + Address).
         return employeeResponse;
     }
-}
\ No newline at end of file
+
+    // ================================
+    // Method: getEmployeeByIdInParallel
+    // ================================
+    // The address call only needs the path id, not the Employee entity,
+    // so both can start at the same time:
+    //
+    //   sequential: |--- DB ---|--- Address Service ---|     latency = db + remote
+    //   parallel:   |--- DB ---|
+    //               |--- Address Service ---|               latency = max(db, remote)
+    //
+    // - The address call runs on the shared task executor, the DB read on the request thread.
+    //   If the executor rejects it (platform-thread pool with a full queue) → the call runs on the
+    //   request thread after the DB read, like the sequential path.
+    // - If the employee does not exist, the in-flight address call is cancelled (interrupted).
+    //   The JDK HttpClient aborts the exchange, and a virtual thread blocked in a socket read wakes up.
+    // - Errors from the address call are re-thrown to the caller unchanged.
+    private EmployeeResponse getEmployeeByIdInParallel(int id) {
+        // Step 1: Start the Address Service call in the background.
+        // If the executor is saturated → fall back to the sequential path instead of failing.
+        Future<AddressResponse> addressFuture;
+        try {
+            addressFuture = taskExecutor.submit(() -> addressCache.getAddress(id));
+        } catch (TaskRejectedException e) {
+            addressFuture = null;
+        }
+
+        try {
+            // Step 2: Meanwhile, fetch employee from DB on this thread.
+            // If not found → throw RuntimeException (the finally block cancels the address call).
+            Employee employee = employeeRepository.findById(id)
+                    .orElseThrow(() -> new RuntimeException("Employee not found"));
+
+            // Step 3: Map Employee entity → EmployeeResponse DTO.
+            EmployeeResponse employeeResponse = toEmployeeResponse(employee);
+
+            // Step 4: Wait for the address (usually already finished) and attach it.
+            AddressResponse addressResponse = addressFuture != null
+                    ? addressFuture.get()
+                    : addressCache.getAddress(id);
+            employeeResponse.setAddressResponse(addressResponse);
+
+            // Step 5: Return combined response (Employee + Address).
+            return employeeResponse;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while fetching address", e);
+        } catch (ExecutionException e) {
+            // Unwrap → the caller sees the original error from the Address Service call.
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new RuntimeException("Address lookup failed", e.getCause());
+        } finally {
+            // No effect if the call already completed; otherwise stops work nobody will use.
+            if (addressFuture != null) {
+                addressFuture.cancel(true);
+            }
+        }
+    }
+
+    // ================================
+    // Method: getEmployeeByIdAsync
+    // ================================
+    // Non-blocking variant of getEmployeeById (GET /employees/{id}/async).
+    // Both lookups are started at once and combined when both are done; the caller gets a
+    // future immediately and no thread waits for the Address Service:
+    //
+    //   DB read:         task executor (virtual thread) → |--- DB ---|
+    //   Address Service: AsyncAddressClient (sendAsync)  → |--- remote ---|
+    //   combine:         runs on whichever finishes last → employee + address
+    //
+    // - JDBC has no non-blocking API, so the DB read still occupies a (virtual) thread for its
+    //   duration; the remote call, usually the slow part, occupies none.
+    // - If the employee does not exist, the address call is NOT cancelled: its result may be
+    //   shared with other callers through the cache.
+    // - Address Service failures are handled by AddressCache (fallback → address is null).
+    public CompletableFuture<EmployeeResponse> getEmployeeByIdAsync(int id) {
+        // Step 1: Start the Address Service call (non-blocking, or already cached).
+        CompletableFuture<AddressResponse> addressFuture = addressCache.getAddressAsync(id);
+
+        // Step 2: Fetch employee from DB on the task executor and map Employee entity → EmployeeResponse DTO.
+        // If not found → the future fails with RuntimeException.
+        CompletableFuture<EmployeeResponse> employeeFuture = CompletableFuture
+                .supplyAsync(() -> employeeRepository.findById(id)
+                        .orElseThrow(() -> new RuntimeException("Employee not found")), taskExecutor)
+                .thenApply(this::toEmployeeResponse);
+
+        // Step 3: When both are done → attach address data to EmployeeResponse DTO.
+        return employeeFuture.thenCombine(addressFuture, (employeeResponse, addressResponse) -> {
+            employeeResponse.setAddressResponse(addressResponse);
+            return employeeResponse;
+        });
+    }
+
+    // ================================
+    // Method: getEmployees
+    // ================================
+    // Purpose:
+    // - Fetch one page of employees from DB.
+    // - Fetch the addresses of the WHOLE page with one batch call to the Address Service
+    //   (instead of one HTTP call per employee).
+    // - Stitch each address into its EmployeeResponse by employee id.
+    public Page<EmployeeResponse> getEmployees(Pageable pageable) {
+        // Step 1: Fetch one page of employees from DB (LIMIT/OFFSET + count query).
+        Page<Employee> employees = employeeRepository.findAll(pageable);
+
+        // Step 2: One batch call for all employee ids on this page.
+        Map<Integer, AddressResponse> addresses = addressCache.getAddresses(
+                employees.map(Employee::getId).getContent()
+        );
+
+        // Step 3: Map each Employee → EmployeeResponse and attach its address (null if it has none).
+        return employees.map(employee -> {
+            EmployeeResponse employeeResponse = toEmployeeResponse(employee);
+            employeeResponse.setAddressResponse(addresses.get(employee.getId()));
+            return employeeResponse;
+        });
+    }
+
+    // ================================
+    // Mapping stage: Employee entity → EmployeeResponse DTO
+    // ================================
+    // Timed as "employee.mapping" → together with http.server.requests (controller),
+    // spring.data.repository.invocations (DB) and http.client.requests (Address Service)
+    // every hop of a request has its own latency histogram.
+    private EmployeeResponse toEmployeeResponse(Employee employee) {
+        return Observation.createNotStarted("employee.mapping", observationRegistry)
+                .observe(() -> employeeMapper.toEmployeeResponse(employee));
+    }
+}
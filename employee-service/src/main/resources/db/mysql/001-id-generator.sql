@@ -0,0 +1,17 @@
+-- ================================
+-- Id generator table (Employee.id, batched inserts of the bulk import)
+-- ================================
+
+-- Employee.id now comes from the row "employee" of id_generator (table generator, pooled-lo) instead of
+-- auto-increment. Profiles with ddl-auto=validate (prod, faststart) never create tables themselves → run
+-- this once against the existing MySQL database BEFORE deploying this version, otherwise startup fails
+-- schema validation. (The default profile runs ddl-auto=update and creates the table on its own.)
+--
+-- Both services share the table (one row each) → IF NOT EXISTS, whichever script runs first creates it.
+-- No row is inserted here: at startup IdGeneratorAlignment sets the "employee" row to MAX(employee.id), so the
+-- ids already handed out by auto-increment are never generated again.
+CREATE TABLE IF NOT EXISTS id_generator (
+    sequence_name VARCHAR(255) NOT NULL,
+    next_val      BIGINT,
+    PRIMARY KEY (sequence_name)
+) ENGINE=InnoDB;
@@ -0,0 +1,16 @@
+package com.springboot.employee_service;
+
+import org.springframework.boot.SpringApplication;
+
+// The Employee Service on H2 (profile "h2") → runs without the remote MySQL, e.g. as the target of
+// the load test (loadtest.LoadTest). LoadTest has a main method as well, so name this one:
+//   mvn spring-boot:test-run -Dspring-boot.run.main-class=com.springboot.employee_service.TestEmployeeServiceApplication
+public class TestEmployeeServiceApplication {
+
+	public static void main(String[] args) {
+		SpringApplication.from(EmployeeServiceApplication::main)
+				.withAdditionalProfiles("h2")
+				.run(args);
+	}
+
+}
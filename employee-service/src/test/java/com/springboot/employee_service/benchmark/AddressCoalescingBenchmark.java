@@ -0,0 +1,108 @@
+package com.springboot.employee_service.benchmark;
+
+import com.springboot.employee_service.entity.Employee;
+import com.springboot.employee_service.repository.EmployeeRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+// Request coalescing (AddressBatcher) under concurrent GET /employees/{id} load:
+// - H2 (profile "h2"), 1000 employees, every request for a random one.
+// - Address cache off → every request needs an address lookup.
+// - StubAddressServer with 5 ms latency per call (single GET or batch).
+// - @Threads(100) → 200 requests in flight.
+//
+// coalescing=false → one GET /address/{id} per request.
+// coalescing=true → lookups within the window share one POST /address/batch.
+// "address calls per request" (printed at teardown) shows how many round trips were saved.
+//
+// Run: mvn -Pbenchmark test -Dbenchmark=AddressCoalescingBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Threads(100)
+@Fork(1)
+public class AddressCoalescingBenchmark {
+
+    private static final int EMPLOYEES = 1000;
+
+    @Param({"false", "true"})
+    public boolean coalescing;
+
+    private StubAddressServer addressServer;
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private List<URI> uris;
+    private final LongAdder requests = new LongAdder();
+
+    @Setup(Level.Trial)
+    public void start() throws Exception {
+        addressServer = StubAddressServer.start(Duration.ofMillis(5));
+
+        // Bulkhead, time limit and slow-call threshold are opened up so queueing on a small machine
+        // does not trip them; fallback off → a failed address call fails the request.
+        context = BenchmarkApp.start(addressServer,
+                "--spring.threads.virtual.enabled=true",
+                "--address-client.cache.enabled=false",
+                "--address-client.coalescing.enabled=" + coalescing,
+                "--address-client.resilience.bulkhead.max-concurrent-calls=10000",
+                "--address-client.resilience.time-limit=30s",
+                "--address-client.resilience.circuit-breaker.slow-call-duration=30s",
+                "--address-client.resilience.fallback-enabled=false");
+
+        List<Employee> employees = context.getBean(EmployeeRepository.class).saveAll(IntStream.range(0, EMPLOYEES)
+                .mapToObj(i -> new Employee(0, "Employee" + i, "employee" + i + "@example.com", "25"))
+                .toList());
+        String baseUrl = BenchmarkApp.baseUrl(context);
+        uris = employees.stream()
+                .map(employee -> URI.create(baseUrl + "/employees/" + employee.getId()))
+                .toList();
+
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        System.out.printf("%naddress calls per request: %.3f (%d calls / %d requests)%n",
+                (double) addressServer.requests() / requests.sum(), addressServer.requests(), requests.sum());
+        httpClient.close();
+        context.close();
+        addressServer.close();
+    }
+
+    @Benchmark
+    public int request() throws Exception {
+        URI uri = uris.get(ThreadLocalRandom.current().nextInt(uris.size()));
+        HttpResponse<byte[]> response = httpClient.send(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("HTTP " + response.statusCode());
+        }
+        requests.increment();
+        return response.body().length;
+    }
+}
@@ -0,0 +1,125 @@
+package com.springboot.employee_service.benchmark;
+
+import com.springboot.employee_service.entity.Employee;
+import com.springboot.employee_service.repository.EmployeeRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+// Hedged requests (AddressHedging) against an Address Service with occasional stalls:
+// - H2 (profile "h2"), 1000 employees, every request for a random one.
+// - Two StubAddressServer instances behind AddressLoadBalancer: 5 ms per call, but 3% of the calls
+//   take 200 ms (a GC pause, a slow query...).
+// - Address cache and coalescing off → every request is one GET /address/{id}.
+// - Mode.SampleTime → JMH prints the latency percentiles; compare p0.99 / p0.999 of hedging=false vs true.
+//   Without hedging every stall shows up in p99 (~200 ms); with hedging a stalled call is answered by
+//   its hedge shortly after the p95 delay. Needs spare CPU: on a single core, request processing
+//   queues up and dominates the percentiles of both variants.
+// The extra load is printed at teardown ("hedges sent / calls").
+//
+// Run: mvn -Pbenchmark test -Dbenchmark=AddressHedgingBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Threads(4)
+@Fork(1)
+public class AddressHedgingBenchmark {
+
+    private static final int EMPLOYEES = 1000;
+
+    @Param({"false", "true"})
+    public boolean hedging;
+
+    private List<StubAddressServer> addressServers;
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private List<URI> uris;
+
+    @Setup(Level.Trial)
+    public void start() throws Exception {
+        addressServers = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            addressServers.add(StubAddressServer.start(Duration.ofMillis(5), Duration.ofMillis(200), 0.03));
+        }
+        String instanceList = addressServers.stream()
+                .map(server -> URI.create(server.baseUrl()).resolve("/").toString())
+                .collect(Collectors.joining(","));
+
+        // Min delay 1 ms → the delay follows the measured p95; fallback off → a failed call fails the request.
+        context = BenchmarkApp.start(
+                "--spring.threads.virtual.enabled=true",
+                "--address-client.base-url=" + addressServers.getFirst().baseUrl(),
+                "--address-client.load-balancer.enabled=true",
+                "--address-client.load-balancer.instances=" + instanceList,
+                "--address-client.hedging.enabled=" + hedging,
+                "--address-client.hedging.min-delay=1ms",
+                "--address-client.cache.enabled=false",
+                "--address-client.coalescing.enabled=false",
+                "--address-client.resilience.time-limit=30s",
+                "--address-client.resilience.circuit-breaker.slow-call-duration=30s",
+                "--address-client.resilience.fallback-enabled=false");
+
+        List<Employee> employees = context.getBean(EmployeeRepository.class).saveAll(IntStream.range(0, EMPLOYEES)
+                .mapToObj(i -> new Employee(0, "Employee" + i, "employee" + i + "@example.com", "25"))
+                .toList());
+        String baseUrl = BenchmarkApp.baseUrl(context);
+        uris = employees.stream()
+                .map(employee -> URI.create(baseUrl + "/employees/" + employee.getId()))
+                .toList();
+
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        MeterRegistry registry = context.getBean(MeterRegistry.class);
+        if (hedging) {
+            double calls = registry.get("address.client.hedge.calls").counter().count();
+            double sent = registry.get("address.client.hedge.sent").counter().count();
+            double wins = registry.get("address.client.hedge.wins").counter().count();
+            double delay = registry.get("address.client.hedge.delay").gauge().value();
+            System.out.printf("%nhedges sent / calls: %.0f / %.0f (%.1f%%), hedge won: %.0f, delay: %.1f ms%n",
+                    sent, calls, 100 * sent / calls, wins, delay * 1000);
+        }
+        httpClient.close();
+        context.close();
+        addressServers.forEach(StubAddressServer::close);
+    }
+
+    @Benchmark
+    public int request() throws Exception {
+        URI uri = uris.get(ThreadLocalRandom.current().nextInt(uris.size()));
+        HttpResponse<byte[]> response = httpClient.send(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("HTTP " + response.statusCode());
+        }
+        return response.body().length;
+    }
+}
@@ -0,0 +1,119 @@
+package com.springboot.employee_service.benchmark;
+
+import com.springboot.employee_service.entity.Employee;
+import com.springboot.employee_service.repository.EmployeeRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+// Client-side load balancing (AddressLoadBalancer) under concurrent GET /employees/{id} load:
+// - H2 (profile "h2"), 1000 employees, every request for a random one.
+// - Address cache and coalescing off → every request is one GET /address/{id}.
+// - @Threads(50) → 50 requests in flight.
+//
+// instances=fast → one StubAddressServer with 5 ms latency (baseline, balancer off).
+// instances=fast+fast → two 5 ms stubs → calls spread about evenly.
+// instances=fast+slow → a 5 ms and a 50 ms stub → EWMA latency steers most calls to the fast one,
+//   throughput should stay close to "fast" instead of dropping towards the slow instance.
+// The share of calls each stub received is printed at teardown ("calls per instance").
+//
+// Run: mvn -Pbenchmark test -Dbenchmark=AddressLoadBalancingBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Threads(50)
+@Fork(1)
+public class AddressLoadBalancingBenchmark {
+
+    private static final int EMPLOYEES = 1000;
+
+    @Param({"fast", "fast+fast", "fast+slow"})
+    public String instances;
+
+    private List<StubAddressServer> addressServers;
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private List<URI> uris;
+
+    @Setup(Level.Trial)
+    public void start() throws Exception {
+        addressServers = new ArrayList<>();
+        for (String instance : instances.split("\\+")) {
+            addressServers.add(StubAddressServer.start(Duration.ofMillis(instance.equals("fast") ? 5 : 50)));
+        }
+        String instanceList = addressServers.stream()
+                .map(server -> URI.create(server.baseUrl()).resolve("/").toString())
+                .collect(Collectors.joining(","));
+
+        // Bulkhead, time limit and slow-call threshold are opened up so queueing on a small machine
+        // does not trip them; fallback off → a failed address call fails the request.
+        context = BenchmarkApp.start(
+                "--spring.threads.virtual.enabled=true",
+                "--address-client.base-url=" + addressServers.getFirst().baseUrl(),
+                "--address-client.load-balancer.enabled=" + (addressServers.size() > 1),
+                "--address-client.load-balancer.instances=" + instanceList,
+                "--address-client.cache.enabled=false",
+                "--address-client.coalescing.enabled=false",
+                "--address-client.resilience.bulkhead.max-concurrent-calls=10000",
+                "--address-client.resilience.time-limit=30s",
+                "--address-client.resilience.circuit-breaker.slow-call-duration=30s",
+                "--address-client.resilience.fallback-enabled=false");
+
+        List<Employee> employees = context.getBean(EmployeeRepository.class).saveAll(IntStream.range(0, EMPLOYEES)
+                .mapToObj(i -> new Employee(0, "Employee" + i, "employee" + i + "@example.com", "25"))
+                .toList());
+        String baseUrl = BenchmarkApp.baseUrl(context);
+        uris = employees.stream()
+                .map(employee -> URI.create(baseUrl + "/employees/" + employee.getId()))
+                .toList();
+
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        long total = addressServers.stream().mapToLong(StubAddressServer::requests).sum();
+        System.out.printf("%ncalls per instance (%s): %s%n", instances, addressServers.stream()
+                .map(server -> String.format("%.1f%%", 100.0 * server.requests() / total))
+                .collect(Collectors.joining(" / ")));
+        httpClient.close();
+        context.close();
+        addressServers.forEach(StubAddressServer::close);
+    }
+
+    @Benchmark
+    public int request() throws Exception {
+        URI uri = uris.get(ThreadLocalRandom.current().nextInt(uris.size()));
+        HttpResponse<byte[]> response = httpClient.send(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("HTTP " + response.statusCode());
+        }
+        return response.body().length;
+    }
+}
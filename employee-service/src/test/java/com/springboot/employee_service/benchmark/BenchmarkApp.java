@@ -0,0 +1,52 @@
+package com.springboot.employee_service.benchmark;
+
+import com.springboot.employee_service.EmployeeServiceApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Starts the Employee Service inside the benchmark JVM, the same way for every benchmark (and LoadTest):
+// - profile "h2" (in-memory database from src/test/resources), random port, WARN logging, no devtools restart.
+// - The benchmark's own arguments come first; a default is only added when its key is not among them
+//   (Spring would join two values of the same key with a comma).
+// - With a StubAddressServer → address-client.base-url points at the stub.
+public final class BenchmarkApp {
+
+    private static final List<String> DEFAULTS = List.of("--server.port=0", "--logging.level.root=WARN");
+
+    private BenchmarkApp() {
+    }
+
+    public static ConfigurableApplicationContext start(String... args) {
+        return start(List.of("h2"), Arrays.asList(args));
+    }
+
+    public static ConfigurableApplicationContext start(StubAddressServer addressServer, String... args) {
+        List<String> withStub = new ArrayList<>(Arrays.asList(args));
+        withStub.add("--address-client.base-url=" + addressServer.baseUrl());
+        return start(List.of("h2"), withStub);
+    }
+
+    public static ConfigurableApplicationContext start(List<String> profiles, List<String> args) {
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        List<String> appArgs = new ArrayList<>(args);
+        for (String arg : DEFAULTS) {
+            String key = arg.substring(0, arg.indexOf('=') + 1);
+            if (args.stream().noneMatch(given -> given.startsWith(key))) {
+                appArgs.add(arg);
+            }
+        }
+        return new SpringApplicationBuilder(EmployeeServiceApplication.class)
+                .profiles(profiles.toArray(String[]::new))
+                .run(appArgs.toArray(String[]::new));
+    }
+
+    // http://localhost:<port>/employee-service
+    public static String baseUrl(ApplicationContext context) {
+        return "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/employee-service";
+    }
+}
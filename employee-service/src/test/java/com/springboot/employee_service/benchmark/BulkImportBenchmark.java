@@ -0,0 +1,111 @@
+package com.springboot.employee_service.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+// POST /employees/bulk with a large NDJSON body against H2 (profile "h2", MySQL mode):
+// - operation=create → empty table, lines without id → every line is a new employee (batched INSERTs).
+// - operation=update → all employees exist with another name, lines with id → every line changes one
+//   (1 SELECT per chunk, batched UPDATEs).
+// The service reports rows/sec per import; it is printed after each run ("rows/s").
+// Embedded H2 makes a JDBC round trip a method call, so this measures the service's own cost per row
+// (parsing, Hibernate, transactions). What JDBC batching saves is the network round trip per row
+// against MySQL (one multi-row INSERT per 50 rows with rewriteBatchedStatements=true); H2 cannot show
+// that, not even over TCP (its driver sends the statements of a batch one by one).
+//
+// Run: mvn -Pbenchmark test -Dbenchmark=BulkImportBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class BulkImportBenchmark {
+
+    @Param({"1000000"})
+    public int rows;
+
+    @Param({"create", "update"})
+    public String operation;
+
+    private ConfigurableApplicationContext context;
+    private JdbcTemplate jdbcTemplate;
+    private HttpClient httpClient;
+    private URI bulkUri;
+    private byte[] body;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = BenchmarkApp.start();
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        bulkUri = URI.create(BenchmarkApp.baseUrl(context) + "/employees/bulk");
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+        // {"id":1,"name":"Employee1","email":"employee1@example.com","age":"31"} ... one line per employee;
+        // create → without "id".
+        ByteArrayOutputStream out = new ByteArrayOutputStream(rows * 80);
+        for (int id = 1; id <= rows; id++) {
+            out.writeBytes(((operation.equals("update") ? "{\"id\":" + id + "," : "{")
+                    + "\"name\":\"Employee" + id + "\",\"email\":\"employee" + id + "@example.com\",\"age\":\""
+                    + (20 + id % 45) + "\"}\n").getBytes(StandardCharsets.UTF_8));
+        }
+        body = out.toByteArray();
+    }
+
+    // Same starting point for every run: empty table (create) or every employee with an outdated name (update).
+    @Setup(Level.Iteration)
+    public void resetTable() {
+        jdbcTemplate.execute("TRUNCATE TABLE employee");
+        if (operation.equals("update")) {
+            // SYSTEM_RANGE's column is an upper-case X → quoted, because the URL uses DATABASE_TO_LOWER.
+            jdbcTemplate.update("INSERT INTO employee (id, name, email, age) "
+                    + "SELECT \"X\", 'Old', CONCAT('employee', \"X\", '@example.com'), CAST(20 + MOD(\"X\", 45) AS VARCHAR) "
+                    + "FROM SYSTEM_RANGE(1, ?)", rows);
+            jdbcTemplate.update("UPDATE id_generator SET next_val = ? WHERE sequence_name = 'employee'", rows + 1);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        httpClient.close();
+        context.close();
+    }
+
+    @Benchmark
+    public long bulkImport() throws Exception {
+        HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder(bulkUri)
+                .header("Content-Type", "application/x-ndjson")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("HTTP " + response.statusCode() + ": " + response.body());
+        }
+        JsonNode result = JsonMapper.shared().readTree(response.body());
+        System.out.printf("%n%s: %,d rows/s%n", operation, result.get("rowsPerSecond").asLong());
+        return result.get("rowsPerSecond").asLong();
+    }
+
+}
@@ -0,0 +1,114 @@
+package com.springboot.employee_service.benchmark;
+
+import com.springboot.employee_service.entity.Employee;
+import com.springboot.employee_service.repository.EmployeeRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Default settings vs. the "prod" profile, on H2 in MySQL mode (no MySQL needed):
+// - default → application.properties as shipped (SQL logging + formatting on, default Hikari pool).
+// - prod → application-prod.properties (SQL logging off, fixed Hikari pool, auto-commit off,
+//   JDBC batching). The MySQL driver properties are ignored by H2, so their effect needs a real MySQL.
+//
+// - findById → one primary-key read (one transaction, one connection checkout).
+// - page → one page of 20 employees (select + count).
+// The "prod" run also prints the hikaricp.connections.acquire percentiles at the end,
+// which shows that the wait-time histogram is published.
+//
+// The second-level cache is switched off → every findById reaches the database.
+//
+// SQL logging writes to System.out; it is discarded here (in production it goes to the log file),
+// but its cost is still paid.
+//
+// Run: mvn -Pbenchmark test -Dbenchmark=DataSourceProfileBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DataSourceProfileBenchmark {
+
+    private static final int EMPLOYEES = 1_000;
+
+    @Param({"default", "prod"})
+    public String profile;
+
+    private ConfigurableApplicationContext context;
+    private EmployeeRepository employeeRepository;
+    private PrintStream console;
+    private int firstId;
+
+    @Setup(Level.Trial)
+    public void start() {
+        console = System.out;
+
+        // "h2" is listed last → its datasource URL and ddl-auto win over "prod".
+        // Passed as command-line arguments → they override application.properties.
+        if (profile.equals("prod")) {
+            context = BenchmarkApp.start(List.of("prod", "h2"),
+                    List.of("--spring.jpa.properties.hibernate.cache.use_second_level_cache=false"));
+        } else {
+            System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+            context = BenchmarkApp.start(
+                    "--spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+                    "--spring.jpa.show_sql=true",
+                    "--spring.jpa.properties.hibernate.format_sql=true");
+        }
+
+        employeeRepository = context.getBean(EmployeeRepository.class);
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < EMPLOYEES; i++) {
+            employees.add(new Employee(0, "Employee " + i, "employee" + i + "@example.com", "25"));
+        }
+        firstId = employeeRepository.saveAll(employees).getFirst().getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        System.setOut(console);
+        Timer acquire = context.getBean(MeterRegistry.class).find("hikaricp.connections.acquire").timer();
+        if (acquire != null) {
+            for (ValueAtPercentile percentile : acquire.takeSnapshot().percentileValues()) {
+                System.out.printf("hikaricp.connections.acquire p%.0f = %.3f ms%n",
+                        percentile.percentile() * 100, percentile.value(TimeUnit.MILLISECONDS));
+            }
+        }
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<Employee> findById() {
+        return employeeRepository.findById(firstId + ThreadLocalRandom.current().nextInt(EMPLOYEES));
+    }
+
+    @Benchmark
+    public Page<Employee> page() {
+        return employeeRepository.findAll(PageRequest.of(ThreadLocalRandom.current().nextInt(EMPLOYEES / 20), 20));
+    }
+}
@@ -0,0 +1,105 @@
+package com.springboot.employee_service.benchmark;
+
+import com.springboot.employee_service.entity.Employee;
+import com.springboot.employee_service.repository.EmployeeRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+// Load test of GET /employees/{id} (blocking) vs GET /employees/{id}/async (non-blocking)
+// over real HTTP against the embedded Tomcat:
+// - H2 (profile "h2") instead of the remote MySQL.
+// - StubAddressServer with 20 ms latency instead of the Address Service; address cache off,
+//   so every request waits for one remote call.
+// - Tomcat limited to 50 request threads, @Threads(400) JMH client threads → 400 requests in flight.
+//
+// virtualThreads=false → the blocking path is capped by the 50 request threads
+// (~50 / 20 ms), while the async path releases its thread during the remote call.
+// virtualThreads=true → both paths scale; the difference left is the cost of the parked virtual threads.
+//
+// Run: mvn -Pbenchmark test -Dbenchmark=EmployeeEndpointLoadBenchmark
+// More clients: add "-t 2000" to the JMH arguments in the benchmark profile.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Threads(400)
+@Fork(1)
+public class EmployeeEndpointLoadBenchmark {
+
+    @Param({"blocking", "async"})
+    public String path;
+
+    @Param({"false", "true"})
+    public boolean virtualThreads;
+
+    private StubAddressServer addressServer;
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private HttpRequest request;
+
+    @Setup(Level.Trial)
+    public void start() throws Exception {
+        addressServer = StubAddressServer.start(Duration.ofMillis(20));
+
+        // Passed as command-line arguments → they override application.properties.
+        // Bulkhead, pool and time limit are opened up so the request threads are the only limit;
+        // fallback off → a failed address call fails the request instead of inflating the score.
+        context = BenchmarkApp.start(addressServer,
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                "--server.tomcat.threads.max=50",
+                "--spring.task.execution.pool.max-size=1000",
+                "--address-client.cache.enabled=false",
+                "--address-client.pool.max-total=2000",
+                "--address-client.pool.max-per-route=2000",
+                "--address-client.resilience.bulkhead.max-concurrent-calls=10000",
+                "--address-client.resilience.time-limit=30s",
+                "--address-client.resilience.fallback-enabled=false");
+
+        int employeeId = context.getBean(EmployeeRepository.class)
+                .save(new Employee(0, "Vishu", "vishu@example.com", "25"))
+                .getId();
+        String baseUrl = BenchmarkApp.baseUrl(context);
+        String suffix = path.equals("async") ? "/async" : "";
+
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        request = HttpRequest.newBuilder(URI.create(
+                baseUrl + "/employees/" + employeeId + suffix)).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        httpClient.close();
+        context.close();
+        addressServer.close();
+    }
+
+    @Benchmark
+    public int request() throws Exception {
+        HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("HTTP " + response.statusCode());
+        }
+        return response.body().length;
+    }
+}
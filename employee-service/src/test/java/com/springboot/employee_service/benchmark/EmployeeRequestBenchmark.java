@@ -0,0 +1,86 @@
+package com.springboot.employee_service.benchmark;
+
+import com.springboot.employee_service.entity.Employee;
+import com.springboot.employee_service.repository.EmployeeRepository;
+import com.springboot.employee_service.response.EmployeeResponse;
+import com.springboot.employee_service.service.EmployeeService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+// Full GET /employees/{id} path inside one JVM, without network dependencies:
+// - H2 (profile "h2") instead of the remote MySQL.
+// - StubAddressServer on a random local port instead of the Address Service.
+//
+// - service → EmployeeService.getEmployeeById (DB read + mapping + HTTP call to the stub).
+// - controller → the same through MockMvc (DispatcherServlet, argument resolution, JSON writing).
+// Both are measured with and without the in-memory address cache.
+//
+// Run: mvn -Pbenchmark test -Dbenchmark=EmployeeRequestBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeRequestBenchmark {
+
+    @Param({"false", "true"})
+    public boolean addressCache;
+
+    private StubAddressServer addressServer;
+    private ConfigurableApplicationContext context;
+    private EmployeeService employeeService;
+    private MockMvc mockMvc;
+    private int employeeId;
+
+    @Setup(Level.Trial)
+    public void start() throws Exception {
+        addressServer = StubAddressServer.start(Duration.ZERO);
+
+        // Passed as command-line arguments → they override application.properties.
+        context = BenchmarkApp.start(addressServer, "--address-client.cache.enabled=" + addressCache);
+
+        employeeId = context.getBean(EmployeeRepository.class)
+                .save(new Employee(0, "Vishu", "vishu@example.com", "25"))
+                .getId();
+        employeeService = context.getBean(EmployeeService.class);
+        mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+        addressServer.close();
+    }
+
+    @Benchmark
+    public EmployeeResponse service() {
+        return employeeService.getEmployeeById(employeeId);
+    }
+
+    @Benchmark
+    public MvcResult controller() throws Exception {
+        return mockMvc.perform(get("/employees/{id}", employeeId)).andReturn();
+    }
+}
@@ -0,0 +1,113 @@
+package com.springboot.employee_service.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+// GET /employees/export of a large table, read by the client as it arrives:
+// - H2 file database (profile "h2", MySQL mode) → the table lives on disk, not in the benchmark's heap.
+// - StubAddressServer answers the address batch calls (one per page) without delay.
+// - The fork runs with -Xmx128m: far too small to hold 1M employees with their addresses (findAll + map
+//   would need several hundred MB), so finishing at all shows the export streams in constant memory.
+//   With -prof gc (benchmark profile), gc.alloc.rate.norm is the garbage per export.
+// Every run checks that all rows arrived; rows/sec is printed after each run ("rows/s").
+//
+// Run: mvn -Pbenchmark test -Dbenchmark=ExportBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx128m")
+public class ExportBenchmark {
+
+    @Param({"1000000"})
+    public int rows;
+
+    @Param({"ndjson", "csv"})
+    public String format;
+
+    private Path databaseDirectory;
+    private StubAddressServer addressServer;
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private URI exportUri;
+
+    @Setup(Level.Trial)
+    public void start() throws IOException {
+        databaseDirectory = Files.createTempDirectory("export-benchmark");
+        addressServer = StubAddressServer.start(Duration.ZERO);
+        context = BenchmarkApp.start(addressServer,
+                "--spring.datasource.url=jdbc:h2:file:" + databaseDirectory.resolve("employee")
+                        + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE");
+        exportUri = URI.create(BenchmarkApp.baseUrl(context) + "/employees/export?format=" + format);
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+        // SYSTEM_RANGE's column is an upper-case X → quoted, because the URL uses DATABASE_TO_LOWER.
+        context.getBean(JdbcTemplate.class).update("INSERT INTO employee (id, name, email, age) "
+                + "SELECT \"X\", CONCAT('Employee', \"X\"), CONCAT('employee', \"X\", '@example.com'), "
+                + "CAST(20 + MOD(\"X\", 45) AS VARCHAR) FROM SYSTEM_RANGE(1, ?)", rows);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() throws IOException {
+        httpClient.close();
+        context.close();
+        addressServer.close();
+        try (var files = Files.walk(databaseDirectory)) {
+            files.sorted((a, b) -> b.compareTo(a)).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public long export() throws Exception {
+        long started = System.nanoTime();
+        HttpResponse<InputStream> response = httpClient.send(HttpRequest.newBuilder(exportUri).build(),
+                HttpResponse.BodyHandlers.ofInputStream());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("HTTP " + response.statusCode());
+        }
+
+        // Count the lines while they arrive (CSV has a header line).
+        long lines = 0;
+        byte[] buffer = new byte[64 * 1024];
+        try (InputStream body = response.body()) {
+            for (int read; (read = body.read(buffer)) > 0; ) {
+                for (int i = 0; i < read; i++) {
+                    if (buffer[i] == '\n') {
+                        lines++;
+                    }
+                }
+            }
+        }
+        long exported = format.equals("csv") ? lines - 1 : lines;
+        if (exported != rows) {
+            throw new IllegalStateException("Exported " + exported + " of " + rows + " rows");
+        }
+        System.out.printf("%n%s: %,d rows/s%n", format, exported * TimeUnit.SECONDS.toNanos(1) / (System.nanoTime() - started));
+        return exported;
+    }
+}
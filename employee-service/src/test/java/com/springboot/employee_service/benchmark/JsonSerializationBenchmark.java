@@ -0,0 +1,53 @@
+package com.springboot.employee_service.benchmark;
+
+import com.springboot.employee_service.response.AddressResponse;
+import com.springboot.employee_service.response.EmployeeResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.concurrent.TimeUnit;
+
+// Jackson cost of the response body: EmployeeResponse with a nested AddressResponse.
+// - serializeEmployee → what EmployeeController pays per GET /employees/{id}.
+// - deserializeAddress → what AddressClient pays per Address Service response.
+//
+// Run: mvn -Pbenchmark test -Dbenchmark=JsonSerializationBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    private JsonMapper jsonMapper;
+    private EmployeeResponse employeeResponse;
+    private byte[] addressJson;
+
+    @Setup
+    public void setUp() {
+        jsonMapper = JsonMapper.builder().build();
+        AddressResponse addressResponse = new AddressResponse(101, "Ludhiana", "Punjab");
+        employeeResponse = new EmployeeResponse(1, "Vishu", "vishu@example.com", "25", addressResponse);
+        addressJson = jsonMapper.writeValueAsBytes(addressResponse);
+    }
+
+    @Benchmark
+    public byte[] serializeEmployee() {
+        return jsonMapper.writeValueAsBytes(employeeResponse);
+    }
+
+    @Benchmark
+    public AddressResponse deserializeAddress() {
+        return jsonMapper.readValue(addressJson, AddressResponse.class);
+    }
+}
@@ -0,0 +1,53 @@
+package com.springboot.employee_service.benchmark;
+
+import com.springboot.employee_service.entity.Employee;
+import com.springboot.employee_service.mapper.EmployeeMapper;
+import com.springboot.employee_service.response.EmployeeResponse;
+import org.mapstruct.factory.Mappers;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// Employee → EmployeeResponse: reflection-based ModelMapper vs. the generated EmployeeMapper.
+// The ModelMapper is configured exactly like the former EmployeeConfig.modelMapperBean() (new ModelMapper()).
+//
+// Run: mvn -Pbenchmark test -Dbenchmark=MapperBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    private ModelMapper modelMapper;
+    private EmployeeMapper employeeMapper;
+    private Employee employee;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapper();
+        employeeMapper = Mappers.getMapper(EmployeeMapper.class);
+        employee = new Employee(1, "Vishu", "vishu@example.com", "25");
+    }
+
+    @Benchmark
+    public EmployeeResponse modelMapper() {
+        return modelMapper.map(employee, EmployeeResponse.class);
+    }
+
+    @Benchmark
+    public EmployeeResponse generatedMapper() {
+        return employeeMapper.toEmployeeResponse(employee);
+    }
+}
@@ -0,0 +1,117 @@
+package com.springboot.employee_service.benchmark;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+// Minimal in-process stand-in for the Address Service, so benchmarks run offline.
+// Serves the same endpoints under the same context path:
+// - GET  /address-service/address/{employeeId} → {"id":..,"city":"Ludhiana","state":"Punjab"}
+// - POST /address-service/address/batch        → {"<employeeId>": {...}, ...}
+// Every response can be delayed by a fixed latency to simulate a remote call, and a share of the
+// responses by a longer one (stalls → tail latency).
+// workers > 0 → at most that many calls are served at a time, the others wait in a queue: a downstream
+// with a capacity of workers / latency calls per second (overload tests).
+// requests() counts the calls received (single + batch).
+public final class StubAddressServer implements AutoCloseable {
+
+    private static final Pattern NUMBER = Pattern.compile("\\d+");
+
+    private final HttpServer server;
+    private final Duration latency;
+    private final Duration slowLatency;
+    private final double slowShare;
+    private final LongAdder requests = new LongAdder();
+    private ExecutorService executor;
+
+    private StubAddressServer(HttpServer server, Duration latency, Duration slowLatency, double slowShare) {
+        this.server = server;
+        this.latency = latency;
+        this.slowLatency = slowLatency;
+        this.slowShare = slowShare;
+    }
+
+    public static StubAddressServer start(Duration latency) throws IOException {
+        return start(latency, latency, 0);
+    }
+
+    // slowShare (0..1) of the responses, picked at random, take slowLatency instead of latency.
+    public static StubAddressServer start(Duration latency, Duration slowLatency, double slowShare) throws IOException {
+        return start(latency, slowLatency, slowShare, 0);
+    }
+
+    // workers > 0 → fixed number of calls in progress, the rest queue (0 = one virtual thread per call).
+    public static StubAddressServer start(Duration latency, Duration slowLatency, double slowShare, int workers)
+            throws IOException {
+        // Without TCP_NODELAY, Nagle + delayed ACK add ~40 ms to every small response.
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 1024);
+        StubAddressServer stub = new StubAddressServer(server, latency, slowLatency, slowShare);
+        server.createContext("/address-service/address/", stub::handle);
+        stub.executor = workers > 0 ? Executors.newFixedThreadPool(workers) : Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(stub.executor);
+        server.start();
+        return stub;
+    }
+
+    // Value for address-client.base-url.
+    public String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort() + "/address-service";
+    }
+
+    // Number of HTTP calls received so far.
+    public long requests() {
+        return requests.sum();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.increment();
+        try (exchange) {
+            Duration delay = ThreadLocalRandom.current().nextDouble() < slowShare ? slowLatency : latency;
+            if (!delay.isZero()) {
+                Thread.sleep(delay);
+            }
+            String path = exchange.getRequestURI().getPath();
+            String body;
+            if (path.endsWith("/batch")) {
+                String ids = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+                Matcher matcher = NUMBER.matcher(ids);
+                body = matcher.results()
+                        .map(match -> "\"" + match.group() + "\":" + address(Integer.parseInt(match.group())))
+                        .collect(Collectors.joining(",", "{", "}"));
+            } else {
+                body = address(Integer.parseInt(path.substring(path.lastIndexOf('/') + 1)));
+            }
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String address(int employeeId) {
+        return "{\"id\":" + employeeId + ",\"city\":\"Ludhiana\",\"state\":\"Punjab\"}";
+    }
+}
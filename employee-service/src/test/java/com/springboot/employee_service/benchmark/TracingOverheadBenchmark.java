@@ -0,0 +1,94 @@
+package com.springboot.employee_service.benchmark;
+
+import com.springboot.employee_service.entity.Employee;
+import com.springboot.employee_service.repository.EmployeeRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+// Cost of tracing on GET /employees/{id} over real HTTP (H2 + StubAddressServer without latency),
+// so the fixed per-request work is as small as possible and the tracing share is visible:
+// - sampling=off → management.tracing.enabled=false (observations → metrics only).
+// - sampling=0.0 → tracing on, nothing recorded: ids are still created and propagated ("traceparent").
+// - sampling=0.1 → the default in application.properties.
+// - sampling=1.0 → every request recorded and written to the span file.
+//
+// Run: mvn -Pbenchmark test -Dbenchmark=TracingOverheadBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class TracingOverheadBenchmark {
+
+    @Param({"off", "0.0", "0.1", "1.0"})
+    public String sampling;
+
+    private StubAddressServer addressServer;
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private HttpRequest request;
+    private Path spanFile;
+
+    @Setup(Level.Trial)
+    public void start() throws Exception {
+        addressServer = StubAddressServer.start(Duration.ZERO);
+        spanFile = Files.createTempFile("spans", ".jsonl");
+
+        boolean tracing = !sampling.equals("off");
+        context = BenchmarkApp.start(addressServer,
+                "--management.tracing.enabled=" + tracing,
+                "--management.tracing.sampling.probability=" + (tracing ? sampling : "0.0"),
+                "--tracing.file-export.enabled=" + tracing,
+                "--tracing.file-export.path=" + spanFile,
+                "--address-client.cache.enabled=false");
+
+        int employeeId = context.getBean(EmployeeRepository.class)
+                .save(new Employee(0, "Vishu", "vishu@example.com", "25"))
+                .getId();
+        String baseUrl = BenchmarkApp.baseUrl(context);
+
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        request = HttpRequest.newBuilder(URI.create(
+                baseUrl + "/employees/" + employeeId)).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() throws Exception {
+        httpClient.close();
+        context.close();
+        addressServer.close();
+        System.out.println("spans written: " + Files.readAllLines(spanFile).size());
+        Files.deleteIfExists(spanFile);
+    }
+
+    @Benchmark
+    public int request() throws Exception {
+        HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("HTTP " + response.statusCode());
+        }
+        return response.body().length;
+    }
+}
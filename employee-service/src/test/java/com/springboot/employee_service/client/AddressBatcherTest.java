@@ -0,0 +1,120 @@
+package com.springboot.employee_service.client;
+
+import com.springboot.employee_service.configuration.AddressClientProperties;
+import com.springboot.employee_service.response.AddressResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// Coalescing: lookups inside one window become one batch call; full batches and shutdown flush early.
+class AddressBatcherTest {
+
+    private static final AddressResponse LUDHIANA = new AddressResponse(7, "Ludhiana", "Punjab");
+
+    private final AddressClient addressClient = mock(AddressClient.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private AddressBatcher batcher;
+
+    private AddressBatcher newBatcher(Duration window, int maxIds) {
+        AddressClientProperties properties = new AddressClientProperties();
+        properties.getCoalescing().setWindow(window);
+        properties.getCoalescing().setMaxIds(maxIds);
+        batcher = new AddressBatcher(addressClient, properties, meterRegistry);
+        return batcher;
+    }
+
+    @AfterEach
+    void tearDown() {
+        batcher.destroy();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Collection<Integer>> batchCalls(int expected) {
+        ArgumentCaptor<Collection<Integer>> ids = ArgumentCaptor.forClass(Collection.class);
+        verify(addressClient, timeout(5_000).times(expected)).getAddresses(ids.capture());
+        return ids.getAllValues();
+    }
+
+    @Test
+    void lookupsInOneWindowShareOneBatchCall() throws Exception {
+        when(addressClient.getAddresses(anyCollection())).thenReturn(Map.of(7, LUDHIANA));
+        newBatcher(Duration.ofMillis(500), 50);
+
+        CompletableFuture<VersionedAddress> first = batcher.getAddress(7);
+        CompletableFuture<VersionedAddress> missing = batcher.getAddress(12);
+        CompletableFuture<VersionedAddress> again = batcher.getAddress(7);
+
+        assertThat(again).isSameAs(first);
+        assertThat(first.get(5, TimeUnit.SECONDS).address()).isEqualTo(LUDHIANA);
+        assertThat(first.get().eTag()).isNull();
+        assertThat(missing.get(5, TimeUnit.SECONDS)).isSameAs(VersionedAddress.NOT_FOUND);
+        assertThat(batchCalls(1).getFirst()).containsExactly(7, 12);
+        assertThat(meterRegistry.get("address.client.coalesced.batch.size").summary().totalAmount()).isEqualTo(2);
+    }
+
+    @Test
+    void fullBatchIsSentWithoutWaitingForTheWindow() throws Exception {
+        when(addressClient.getAddresses(anyCollection())).thenReturn(Map.of());
+        newBatcher(Duration.ofMinutes(1), 2);
+
+        CompletableFuture<VersionedAddress> first = batcher.getAddress(1);
+        CompletableFuture<VersionedAddress> second = batcher.getAddress(2);
+        CompletableFuture<VersionedAddress> nextBatch = batcher.getAddress(3);
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isSameAs(VersionedAddress.NOT_FOUND);
+        assertThat(second.get(5, TimeUnit.SECONDS)).isSameAs(VersionedAddress.NOT_FOUND);
+        assertThat(batchCalls(1).getFirst()).containsExactly(1, 2);
+        assertThat(nextBatch).isNotDone();
+    }
+
+    @Test
+    void loneLookupIsSentWhenTheWindowEnds() throws Exception {
+        when(addressClient.getAddresses(anyCollection())).thenReturn(Map.of(7, LUDHIANA));
+        newBatcher(Duration.ofMillis(20), 50);
+
+        assertThat(batcher.getAddress(7).get(5, TimeUnit.SECONDS).address()).isEqualTo(LUDHIANA);
+        assertThat(batchCalls(1).getFirst()).containsExactly(7);
+    }
+
+    @Test
+    void failedBatchFailsEveryCaller() {
+        IllegalStateException down = new IllegalStateException("down");
+        when(addressClient.getAddresses(anyCollection())).thenThrow(down);
+        newBatcher(Duration.ofMillis(20), 50);
+
+        CompletableFuture<VersionedAddress> first = batcher.getAddress(1);
+        CompletableFuture<VersionedAddress> second = batcher.getAddress(2);
+
+        assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS)).hasCause(down);
+        assertThatThrownBy(() -> second.get(5, TimeUnit.SECONDS)).hasCause(down);
+    }
+
+    @Test
+    void shutdownSendsTheWaitingLookups() throws Exception {
+        when(addressClient.getAddresses(anyCollection())).thenReturn(Map.of(7, LUDHIANA));
+        newBatcher(Duration.ofMinutes(1), 50);
+
+        CompletableFuture<VersionedAddress> waiting = batcher.getAddress(7);
+        verify(addressClient, never()).getAddresses(anyCollection());
+        batcher.destroy();
+
+        assertThat(waiting.get(5, TimeUnit.SECONDS).address()).isEqualTo(LUDHIANA);
+    }
+}
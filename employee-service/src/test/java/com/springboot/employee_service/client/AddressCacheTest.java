@@ -0,0 +1,101 @@
+package com.springboot.employee_service.client;
+
+import com.springboot.employee_service.configuration.AddressClientProperties;
+import com.springboot.employee_service.response.AddressResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// Cached path: hits, single loads, batch loads and the fallback when the Address Service fails.
+class AddressCacheTest {
+
+    private final AddressClient addressClient = mock(AddressClient.class);
+    private final AsyncAddressClient asyncAddressClient = mock(AsyncAddressClient.class);
+    private final AddressBatcher addressBatcher = mock(AddressBatcher.class);
+    private final AddressReplica addressReplica = mock(AddressReplica.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AddressClientProperties properties = new AddressClientProperties();
+
+    private AddressCache newCache() {
+        return new AddressCache(addressClient, asyncAddressClient, addressBatcher, addressReplica,
+                properties, new SimpleAsyncTaskExecutor("address-cache-"), meterRegistry);
+    }
+
+    private double fallbacks(String reason) {
+        var counter = meterRegistry.find("address.client.fallbacks").tag("reason", reason).counter();
+        return counter != null ? counter.count() : 0;
+    }
+
+    @Test
+    void loadedAddressIsServedFromMemory() {
+        AddressResponse address = new AddressResponse(1, "Pune", "MH");
+        when(addressClient.getAddress(eq(1), isNull())).thenReturn(new VersionedAddress(address, "\"a\""));
+        AddressCache cache = newCache();
+
+        assertThat(cache.isLocal(1)).isFalse();
+        assertThat(cache.getAddress(1)).isEqualTo(address);
+        assertThat(cache.isLocal(1)).isTrue();
+    }
+
+    @Test
+    void failedLoadIsTaggedWithItsCauseNotTheCompletionWrapper() {
+        when(addressClient.getAddress(anyInt(), any())).thenThrow(new IllegalStateException("down"));
+        AddressCache cache = newCache();
+
+        assertThat(cache.getAddress(1)).isNull();
+        assertThat(fallbacks("IllegalStateException")).isEqualTo(1);
+        assertThat(fallbacks("CompletionException")).isZero();
+    }
+
+    @Test
+    void failedBatchLoadStillAnswersCachedIds() {
+        AddressResponse cached = new AddressResponse(1, "Pune", "MH");
+        when(addressClient.getAddress(eq(1), isNull())).thenReturn(new VersionedAddress(cached, null));
+        when(addressClient.getAddresses(any())).thenThrow(new IllegalStateException("down"));
+        AddressCache cache = newCache();
+        cache.getAddress(1);
+
+        Map<Integer, AddressResponse> addresses = cache.getAddresses(List.of(1, 2));
+
+        assertThat(addresses).containsOnly(Map.entry(1, cached));
+        assertThat(fallbacks("IllegalStateException")).isEqualTo(1);
+        assertThat(fallbacks("CompletionException")).isZero();
+    }
+
+    @Test
+    void asyncFailureIsUnwrappedThroughNestedWrappers() {
+        when(asyncAddressClient.getAddress(1)).thenReturn(CompletableFuture.failedFuture(
+                new CompletionException(new ExecutionException(new TimeoutException("slow")))));
+        AddressCache cache = newCache();
+
+        assertThat(cache.getAddressAsync(1).join()).isNull();
+        assertThat(fallbacks("TimeoutException")).isEqualTo(1);
+    }
+
+    @Test
+    void disabledFallbackRethrowsTheOriginalException() {
+        properties.getResilience().setFallbackEnabled(false);
+        IllegalStateException down = new IllegalStateException("down");
+        when(addressClient.getAddress(anyInt(), any())).thenThrow(down);
+        AddressCache cache = newCache();
+
+        assertThatThrownBy(() -> cache.getAddress(1)).isSameAs(down);
+        assertThat(meterRegistry.find("address.client.fallbacks").counter()).isNull();
+    }
+}
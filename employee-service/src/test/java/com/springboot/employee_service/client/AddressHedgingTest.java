@@ -0,0 +1,158 @@
+package com.springboot.employee_service.client;
+
+import com.springboot.employee_service.configuration.AddressClientProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.DoubleSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Hedged calls: second attempt after the delay, first answer wins and the loser is cancelled, token bucket budget.
+class AddressHedgingTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private AddressHedging hedging;
+
+    private AddressHedging newHedging(Duration minDelay, Duration maxDelay, double budgetPercent) {
+        AddressClientProperties properties = new AddressClientProperties();
+        properties.getHedging().setEnabled(true);
+        properties.getHedging().setMinDelay(minDelay);
+        properties.getHedging().setMaxDelay(maxDelay);
+        properties.getHedging().setBudgetPercent(budgetPercent);
+        hedging = new AddressHedging(properties, meterRegistry);
+        return hedging;
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (hedging != null) {
+            hedging.destroy();
+        }
+    }
+
+    private double counter(String name) {
+        return meterRegistry.get(name).tag("call", "single").counter().count();
+    }
+
+    private static void await(DoubleSupplier value, double expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (value.getAsDouble() != expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(value.getAsDouble()).isEqualTo(expected);
+    }
+
+    @Test
+    void disabledRunsTheAttemptOnceOnTheCallingThread() {
+        hedging = new AddressHedging(new AddressClientProperties(), meterRegistry);
+        Thread caller = Thread.currentThread();
+
+        assertThat(hedging.call("single", () -> Thread.currentThread() == caller)).isTrue();
+        assertThat(meterRegistry.find("address.client.hedge.calls").counter()).isNull();
+    }
+
+    @Test
+    void fastAnswerSendsNoHedge() throws Exception {
+        newHedging(Duration.ofMillis(20), Duration.ofMillis(20), 10);
+
+        assertThat(hedging.call("single", () -> "Ludhiana")).isEqualTo("Ludhiana");
+        Thread.sleep(50);
+        assertThat(counter("address.client.hedge.calls")).isEqualTo(1);
+        assertThat(counter("address.client.hedge.sent")).isZero();
+    }
+
+    @Test
+    void hedgeWinsAndTheSlowBlockingAttemptIsInterrupted() throws Exception {
+        newHedging(Duration.ofMillis(20), Duration.ofMillis(20), 10);
+        AtomicInteger attempts = new AtomicInteger();
+        CountDownLatch firstInterrupted = new CountDownLatch(1);
+
+        String answer = hedging.call("single", () -> {
+            if (attempts.incrementAndGet() == 1) {
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    firstInterrupted.countDown();
+                }
+                return "first";
+            }
+            return "hedge";
+        });
+
+        assertThat(answer).isEqualTo("hedge");
+        assertThat(firstInterrupted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(counter("address.client.hedge.sent")).isEqualTo(1);
+        assertThat(counter("address.client.hedge.wins")).isEqualTo(1);
+    }
+
+    @Test
+    void firstAnswerCancelsTheRunningHedge() throws Exception {
+        newHedging(Duration.ofMillis(20), Duration.ofMillis(20), 10);
+        List<CompletableFuture<String>> attempts = new ArrayList<>();
+
+        CompletableFuture<String> call = hedging.callAsync("single", () -> {
+            CompletableFuture<String> attempt = new CompletableFuture<>();
+            synchronized (attempts) {
+                attempts.add(attempt);
+            }
+            return attempt;
+        });
+        await(() -> counter("address.client.hedge.sent"), 1);
+        attempts.getFirst().complete("first");
+
+        assertThat(call.get(5, TimeUnit.SECONDS)).isEqualTo("first");
+        assertThat(attempts.get(1)).isCancelled();
+        assertThat(counter("address.client.hedge.wins")).isZero();
+    }
+
+    @Test
+    void failureBeforeTheHedgeEndsTheCall() {
+        newHedging(Duration.ofSeconds(1), Duration.ofSeconds(1), 10);
+        IllegalStateException down = new IllegalStateException("down");
+
+        assertThatThrownBy(() -> hedging.call("single", () -> {
+            throw down;
+        })).isSameAs(down);
+        assertThat(counter("address.client.hedge.sent")).isZero();
+    }
+
+    @Test
+    void emptyBudgetDeniesHedges() throws Exception {
+        // budget 0 % → only the 10 tokens of the initial burst.
+        newHedging(Duration.ofMillis(10), Duration.ofMillis(10), 0);
+
+        for (int i = 0; i < 12; i++) {
+            hedging.callAsync("single", CompletableFuture::new);
+        }
+
+        await(() -> counter("address.client.hedge.sent") + counter("address.client.hedge.denied"), 12);
+        assertThat(counter("address.client.hedge.sent")).isEqualTo(10);
+        assertThat(counter("address.client.hedge.denied")).isEqualTo(2);
+    }
+
+    @Test
+    void winningHedgeRecordsItsOwnLatency() throws Exception {
+        // First attempts never answer, hedges answer at once → the delay drops to minDelay
+        // (measured from the call's start, every sample would be at least maxDelay).
+        newHedging(Duration.ofMillis(5), Duration.ofMillis(30), 100);
+
+        for (int i = 0; i < 25; i++) {
+            AtomicInteger attempts = new AtomicInteger();
+            hedging.callAsync("single", () -> attempts.incrementAndGet() == 1
+                    ? new CompletableFuture<>()
+                    : CompletableFuture.completedFuture("hedge")).get(5, TimeUnit.SECONDS);
+        }
+
+        await(() -> meterRegistry.get("address.client.hedge.delay").tag("call", "single").gauge().value(), 0.005);
+    }
+}
@@ -0,0 +1,122 @@
+package com.springboot.employee_service.client;
+
+import com.springboot.employee_service.configuration.AddressClientProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Power of two choices over peak EWMA latency, failure penalty and passive health ejection.
+class AddressLoadBalancerTest {
+
+    private static final URI ADDRESS = URI.create("http://localhost:8081/address-service/address/7?fields=city");
+    private static final String FAST = "http://fast:8081";
+    private static final String SLOW = "http://slow:8081";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private AddressLoadBalancer newBalancer(int ejectAfterFailures, String... instances) throws Exception {
+        return newBalancer(ejectAfterFailures, Duration.ofSeconds(5), instances);
+    }
+
+    private AddressLoadBalancer newBalancer(int ejectAfterFailures, Duration failurePenalty, String... instances) throws Exception {
+        AddressClientProperties properties = new AddressClientProperties();
+        properties.getLoadBalancer().setEnabled(true);
+        properties.getLoadBalancer().setInstances(List.of(instances));
+        properties.getLoadBalancer().setEjectAfterFailures(ejectAfterFailures);
+        properties.getLoadBalancer().setEjectionTime(Duration.ofMinutes(1));
+        properties.getLoadBalancer().setFailurePenalty(failurePenalty);
+        AddressLoadBalancer balancer = new AddressLoadBalancer(properties, meterRegistry);
+        balancer.afterPropertiesSet();
+        return balancer;
+    }
+
+    private static String origin(AddressLoadBalancer.Selection selection) {
+        URI uri = selection.uri();
+        return uri.getScheme() + "://" + uri.getHost() + ":" + uri.getPort();
+    }
+
+    // Until both instances answered once: SLOW answers after "slowMillis", FAST at once (or fails at once).
+    private static void sampleBoth(AddressLoadBalancer balancer, long slowMillis, boolean fastSucceeds) throws Exception {
+        Set<String> sampled = new HashSet<>();
+        while (sampled.size() < 2) {
+            AddressLoadBalancer.Selection selection = balancer.choose(ADDRESS);
+            if (origin(selection).equals(SLOW)) {
+                Thread.sleep(slowMillis);
+                selection.done(true);
+            } else {
+                selection.done(fastSucceeds);
+            }
+            sampled.add(origin(selection));
+        }
+    }
+
+    private static Set<String> chosen(AddressLoadBalancer balancer, int calls) {
+        Set<String> origins = new HashSet<>();
+        for (int i = 0; i < calls; i++) {
+            AddressLoadBalancer.Selection selection = balancer.choose(ADDRESS);
+            origins.add(origin(selection));
+            selection.cancelled();
+        }
+        return origins;
+    }
+
+    @Test
+    void keepsPathAndQueryOfTheChosenInstance() throws Exception {
+        AddressLoadBalancer balancer = newBalancer(3, FAST);
+
+        assertThat(balancer.choose(ADDRESS).uri()).isEqualTo(URI.create(FAST + "/address-service/address/7?fields=city"));
+        URI other = URI.create("http://elsewhere:9090/address/7");
+        assertThat(balancer.choose(other).uri()).isSameAs(other);
+    }
+
+    @Test
+    void lowerLatencyWinsThePairOfChoices() throws Exception {
+        AddressLoadBalancer balancer = newBalancer(3, FAST, SLOW);
+        sampleBoth(balancer, 50, true);
+
+        // Two instances → every pair contains both, the cheaper one always wins.
+        assertThat(chosen(balancer, 50)).containsExactly(FAST);
+    }
+
+    @Test
+    void fastFailuresCountAsSlowCalls() throws Exception {
+        // No ejection → only the latency average keeps traffic away from the failing instance.
+        AddressLoadBalancer balancer = newBalancer(Integer.MAX_VALUE, FAST, SLOW);
+        sampleBoth(balancer, 20, false);
+
+        assertThat(chosen(balancer, 50)).containsExactly(SLOW);
+    }
+
+    @Test
+    void failuresInARowEjectTheInstance() throws Exception {
+        // No penalty → FAST keeps being chosen until its second failure ejects it.
+        AddressLoadBalancer balancer = newBalancer(2, Duration.ZERO, FAST, SLOW);
+        int failures = 0;
+        while (failures < 2) {
+            AddressLoadBalancer.Selection selection = balancer.choose(ADDRESS);
+            boolean fast = origin(selection).equals(FAST);
+            selection.done(!fast);
+            failures += fast ? 1 : 0;
+        }
+
+        assertThat(meterRegistry.get("address.client.lb.ejections").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("address.client.lb.instances").tag("state", "ejected").gauge().value()).isEqualTo(1);
+        assertThat(chosen(balancer, 50)).containsExactly(SLOW);
+    }
+
+    @Test
+    void allInstancesEjectedStillGetTraffic() throws Exception {
+        AddressLoadBalancer balancer = newBalancer(1, FAST);
+        balancer.choose(ADDRESS).done(false);
+
+        assertThat(meterRegistry.get("address.client.lb.instances").tag("state", "ejected").gauge().value()).isEqualTo(1);
+        assertThat(chosen(balancer, 5)).containsExactly(FAST);
+    }
+}
@@ -0,0 +1,114 @@
+package com.springboot.employee_service.client;
+
+import com.springboot.employee_service.configuration.AddressClientProperties;
+import com.springboot.employee_service.response.AddressChangeResponse;
+import com.springboot.employee_service.response.AddressChangesResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.notNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// Local read model: snapshot at startup, change polls afterwards, a periodic snapshot drops deleted addresses.
+class AddressReplicaTest {
+
+    private static final Instant AS_OF = Instant.parse("2026-01-01T00:00:00Z");
+
+    private final AddressClient addressClient = mock(AddressClient.class);
+    private final AddressClientProperties properties = new AddressClientProperties();
+
+    @BeforeEach
+    void setUp() {
+        properties.getReplica().setEnabled(true);
+        properties.getReplica().setMaxStaleness(Duration.ofMinutes(1));
+        when(addressClient.getAddressChanges(notNull(), anyInt(), anyInt()))
+                .thenReturn(new AddressChangesResponse(AS_OF, List.of(), false));
+    }
+
+    private AddressReplica newReplica() {
+        return new AddressReplica(addressClient, properties, new SimpleMeterRegistry());
+    }
+
+    private static AddressChangesResponse page(boolean hasMore, int... employeeIds) {
+        List<AddressChangeResponse> changes = IntStream.of(employeeIds)
+                .mapToObj(employeeId -> new AddressChangeResponse(employeeId, employeeId * 10, "City" + employeeId, "ST", AS_OF))
+                .toList();
+        return new AddressChangesResponse(AS_OF, changes, hasMore);
+    }
+
+    @Test
+    void snapshotIsServedLocally() {
+        when(addressClient.getAddressChanges(isNull(), eq(0), anyInt())).thenReturn(page(false, 1, 2));
+        AddressReplica replica = newReplica();
+
+        replica.poll();
+
+        assertThat(replica.isFresh()).isTrue();
+        assertThat(replica.getAddress(1).getCity()).isEqualTo("City1");
+        assertThat(replica.contains(2)).isTrue();
+        assertThat(replica.getAddress(3)).isNull();
+    }
+
+    @Test
+    void resyncDropsEmployeesTheSnapshotNoLongerReturns() throws Exception {
+        properties.getReplica().setResyncInterval(Duration.ofMillis(1));
+        when(addressClient.getAddressChanges(isNull(), eq(0), anyInt())).thenReturn(page(false, 1, 2, 3), page(false, 1, 3));
+        AddressReplica replica = newReplica();
+        replica.poll();
+        assertThat(replica.contains(2)).isTrue();
+
+        Thread.sleep(5);
+        replica.poll();
+
+        assertThat(replica.contains(1)).isTrue();
+        assertThat(replica.contains(2)).isFalse();
+        assertThat(replica.contains(3)).isTrue();
+    }
+
+    @Test
+    void failedResyncRemovesNothing() throws Exception {
+        properties.getReplica().setResyncInterval(Duration.ofMillis(1));
+        properties.getReplica().setPageSize(1);
+        when(addressClient.getAddressChanges(isNull(), eq(0), anyInt())).thenReturn(page(true, 1), page(true, 1));
+        when(addressClient.getAddressChanges(isNull(), eq(10), anyInt()))
+                .thenReturn(page(false, 2))
+                .thenThrow(new IllegalStateException("Address Service down"));
+        AddressReplica replica = newReplica();
+        replica.poll();
+
+        Thread.sleep(5);
+        replica.poll();
+
+        // Only page 1 of the second snapshot arrived → employee 2 is kept.
+        assertThat(replica.contains(1)).isTrue();
+        assertThat(replica.contains(2)).isTrue();
+    }
+
+    @Test
+    void zeroResyncIntervalOnlyPollsChanges() {
+        properties.getReplica().setResyncInterval(Duration.ZERO);
+        when(addressClient.getAddressChanges(isNull(), eq(0), anyInt())).thenReturn(page(false, 1));
+        AddressReplica replica = newReplica();
+
+        replica.poll();
+        replica.poll();
+        replica.poll();
+
+        verify(addressClient, times(1)).getAddressChanges(isNull(), anyInt(), anyInt());
+        verify(addressClient, times(2)).getAddressChanges(any(Instant.class), anyInt(), anyInt());
+    }
+}
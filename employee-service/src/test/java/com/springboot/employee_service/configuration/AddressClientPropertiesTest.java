@@ -0,0 +1,33 @@
+package com.springboot.employee_service.configuration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// address-client.batch-size is checked when the properties are bound: 0 would split id lists forever.
+class AddressClientPropertiesTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(PropertiesConfig.class);
+
+    @Test
+    void defaultBatchSizeIsAccepted() {
+        contextRunner.run(context -> assertThat(context).hasNotFailed()
+                .getBean(AddressClientProperties.class).extracting(AddressClientProperties::getBatchSize).isEqualTo(500));
+    }
+
+    @Test
+    void batchSizeBelowOneFailsTheStartup() {
+        contextRunner.withPropertyValues("address-client.batch-size=0")
+                .run(context -> assertThat(context).hasFailed()
+                        .getFailure().rootCause().hasMessageContaining("batchSize"));
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @EnableConfigurationProperties(AddressClientProperties.class)
+    static class PropertiesConfig {
+    }
+}
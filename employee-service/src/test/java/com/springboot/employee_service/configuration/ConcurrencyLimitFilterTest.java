@@ -0,0 +1,139 @@
+package com.springboot.employee_service.configuration;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Load shedding: 503 + Retry-After over the limit, async requests stay in flight until completed,
+// excluded paths match whole segments, the limit follows latency.
+class ConcurrencyLimitFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+
+    private static final FilterChain OK = (request, response) -> { };
+    private static final FilterChain ASYNC = (request, response) -> request.startAsync();
+
+    private static FilterChain sleeping(long millis) {
+        return (request, response) -> {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+    }
+
+    private static MockHttpServletRequest request(String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/employee-service" + path);
+        request.setContextPath("/employee-service");
+        request.setAsyncSupported(true);
+        return request;
+    }
+
+    private static MockHttpServletResponse send(ConcurrencyLimitFilter filter, MockHttpServletRequest request, FilterChain chain) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            filter.doFilter(request, response, chain);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        return response;
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).gauge().value();
+    }
+
+    @Test
+    void requestOverTheLimitIsShedWithRetryAfter() {
+        properties.setInitialLimit(1);
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(properties, meterRegistry);
+        MockHttpServletRequest running = request("/employees/1");
+        send(filter, running, ASYNC);
+
+        MockHttpServletResponse shed = send(filter, request("/employees/2"), OK);
+
+        assertThat(shed.getStatus()).isEqualTo(503);
+        assertThat(shed.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(meterRegistry.get("employee.concurrency.rejected").counter().count()).isEqualTo(1);
+        assertThat(gauge("employee.concurrency.inflight")).isEqualTo(1);
+    }
+
+    @Test
+    void asyncRequestIsReleasedWhenItCompletes() {
+        properties.setInitialLimit(1);
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(properties, meterRegistry);
+        MockHttpServletRequest running = request("/employees/1");
+        send(filter, running, ASYNC);
+        assertThat(gauge("employee.concurrency.inflight")).isEqualTo(1);
+
+        ((MockAsyncContext) running.getAsyncContext()).complete();
+
+        assertThat(gauge("employee.concurrency.inflight")).isZero();
+        assertThat(send(filter, request("/employees/2"), OK).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void excludedPathsMatchWholeSegments() {
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(properties, meterRegistry);
+
+        assertThat(filter.shouldNotFilter(request("/actuator"))).isTrue();
+        assertThat(filter.shouldNotFilter(request("/actuator/health"))).isTrue();
+        assertThat(filter.shouldNotFilter(request("/employees/export"))).isTrue();
+        assertThat(filter.shouldNotFilter(request("/actuators"))).isFalse();
+        assertThat(filter.shouldNotFilter(request("/employees/exports"))).isFalse();
+        assertThat(filter.shouldNotFilter(request("/employees/1"))).isFalse();
+    }
+
+    @Test
+    void limitGrowsAtBaselineLatencyAndShrinksWhenLatencyRises() throws Exception {
+        properties.setInitialLimit(10);
+        properties.setMinLimit(2);
+        properties.setWindow(Duration.ofMillis(20));
+        properties.setMinWindowSamples(5);
+        properties.setSmoothing(1.0);
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(properties, meterRegistry);
+        ExecutorService callers = Executors.newFixedThreadPool(20);
+        try {
+            // 10 callers at a steady 2 ms → the limit is used at baseline latency → it grows (up to 2 x 10).
+            run(callers, 10, filter, sleeping(2), 100);
+            double grown = gauge("employee.concurrency.limit");
+            assertThat(grown).isGreaterThan(10);
+
+            // 20 callers at 30 ms → requests queue up → the limit goes down.
+            run(callers, 20, filter, sleeping(30), 6);
+            assertThat(gauge("employee.concurrency.limit")).isLessThan(grown);
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    private static void run(ExecutorService callers, int count, ConcurrencyLimitFilter filter, FilterChain chain,
+                            int requestsPerCaller) throws Exception {
+        List<Future<?>> done = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            done.add(callers.submit(() -> {
+                for (int n = 0; n < requestsPerCaller; n++) {
+                    send(filter, request("/employees/1"), chain);
+                }
+            }));
+        }
+        for (Future<?> caller : done) {
+            caller.get();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.springboot.employee_service.configuration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The Apache pool beans exist only for address-client.http-version=http-1-1 (HTTP/2 uses the JDK client).
+class EmployeeConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(PoolConfig.class);
+
+    @Test
+    void noApachePoolByDefault() {
+        contextRunner.run(context -> assertThat(context).doesNotHaveBean("addressConnectionManager"));
+    }
+
+    @Test
+    void apachePoolForHttp11InAnySpelling() {
+        contextRunner.withPropertyValues("address-client.http-version=http-1-1")
+                .run(context -> assertThat(context).hasBean("addressConnectionManager"));
+        contextRunner.withPropertyValues("address-client.http-version=HTTP_1_1")
+                .run(context -> assertThat(context).hasBean("addressConnectionManager"));
+    }
+
+    @Test
+    void noApachePoolForHttp2() {
+        contextRunner.withPropertyValues("address-client.http-version=http-2")
+                .run(context -> assertThat(context).doesNotHaveBean("addressConnectionManager"));
+    }
+
+    // Stands in for EmployeeConfig's pool beans (same condition, no HTTP client dependencies).
+    @Configuration(proxyBeanMethods = false)
+    static class PoolConfig {
+
+        @Bean
+        @Conditional(EmployeeConfig.Http11.class)
+        String addressConnectionManager() {
+            return "pool";
+        }
+    }
+}
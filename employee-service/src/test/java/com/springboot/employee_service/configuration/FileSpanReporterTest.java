@@ -0,0 +1,74 @@
+package com.springboot.employee_service.configuration;
+
+import io.micrometer.tracing.exporter.FinishedSpan;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// Span file: one JSON line per span, rotated at max-size, at most max-history old files kept.
+class FileSpanReporterTest {
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    @TempDir
+    Path dir;
+
+    private static FinishedSpan span(String spanId) {
+        FinishedSpan span = mock(FinishedSpan.class);
+        Instant start = Instant.parse("2026-01-01T00:00:00Z");
+        when(span.getTraceId()).thenReturn("4bf92f3577b34da6a3ce929d0e0e4736");
+        when(span.getSpanId()).thenReturn(spanId);
+        when(span.getName()).thenReturn("http get /employees/{id}");
+        when(span.getStartTimestamp()).thenReturn(start);
+        when(span.getEndTimestamp()).thenReturn(start.plusMillis(3));
+        when(span.getTags()).thenReturn(Map.of());
+        return span;
+    }
+
+    @Test
+    void writesOneLinePerSpan() throws Exception {
+        Path file = dir.resolve("spans.jsonl");
+        try (FileSpanReporter reporter = new FileSpanReporter(file, 1_000_000, 2, jsonMapper)) {
+            reporter.report(span("a1"));
+            reporter.report(span("a2"));
+        }
+
+        List<String> lines = Files.readAllLines(file);
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0)).contains("\"spanId\":\"a1\"", "\"durationMicros\":3000");
+    }
+
+    @Test
+    void rotatesAtMaxSizeAndKeepsMaxHistoryFiles() throws Exception {
+        Path file = dir.resolve("spans.jsonl");
+        long lineLength = jsonMapper.writeValueAsBytes(FileSpanReporter.SpanLine.of(span("s0"))).length + 1;
+        try (FileSpanReporter reporter = new FileSpanReporter(file, 2 * lineLength, 2, jsonMapper)) {
+            for (int i = 0; i < 8; i++) {
+                reporter.report(span("s" + i));
+            }
+        }
+
+        // 8 spans, 2 per file → s6,s7 current, s4,s5 in .1, s2,s3 in .2, s0,s1 dropped.
+        assertThat(Files.readAllLines(file)).hasSize(2).allMatch(line -> line.contains("\"s6\"") || line.contains("\"s7\""));
+        assertThat(Files.readAllLines(dir.resolve("spans.jsonl.1"))).anyMatch(line -> line.contains("\"s4\""));
+        assertThat(Files.readAllLines(dir.resolve("spans.jsonl.2"))).anyMatch(line -> line.contains("\"s2\""));
+        assertThat(dir.resolve("spans.jsonl.3")).doesNotExist();
+    }
+
+    @Test
+    void rejectsNonPositiveMaxSize() {
+        assertThatThrownBy(() -> new FileSpanReporter(dir.resolve("spans.jsonl"), 0, 2, jsonMapper))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,98 @@
+package com.springboot.employee_service.configuration;
+
+import com.springboot.employee_service.entity.Employee;
+import com.springboot.employee_service.repository.EmployeeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Id generator alignment against a pool with auto-commit off (like the prod profile): the move must be committed.
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:alignment;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.hikari.auto-commit=false"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(IdGeneratorAlignment.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // Every step commits on its own.
+class IdGeneratorAlignmentTest {
+
+    @Autowired
+    private IdGeneratorAlignment idGeneratorAlignment;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        transaction.executeWithoutResult(status -> {
+            jdbcTemplate.update("DELETE FROM employee");
+            jdbcTemplate.update("DELETE FROM id_generator");
+        });
+    }
+
+    // Rows with ids 1..maxId, as left behind by auto-increment.
+    private void legacyRows(int maxId) {
+        transaction.executeWithoutResult(status -> {
+            for (int id = 1; id <= maxId; id++) {
+                jdbcTemplate.update("INSERT INTO employee (id, name, email, age) VALUES (?, ?, ?, ?)",
+                        id, "Employee" + id, "employee" + id + "@example.com", "30");
+            }
+        });
+    }
+
+    private Integer nextVal() {
+        return transaction.execute(status -> jdbcTemplate.queryForObject(
+                "SELECT next_val FROM id_generator WHERE sequence_name = 'employee'", Integer.class));
+    }
+
+    @Test
+    void missingGeneratorRowIsCreatedAtTheHighestId() {
+        legacyRows(120);
+
+        idGeneratorAlignment.run(null);
+
+        assertThat(nextVal()).isEqualTo(120);
+        assertThat(employeeRepository.save(new Employee(0, "New", "new@example.com", "25")).getId()).isGreaterThan(120);
+    }
+
+    @Test
+    void generatorBehindIsMovedUp() {
+        legacyRows(80);
+        transaction.executeWithoutResult(status ->
+                jdbcTemplate.update("INSERT INTO id_generator (sequence_name, next_val) VALUES ('employee', 10)"));
+
+        idGeneratorAlignment.run(null);
+
+        assertThat(nextVal()).isEqualTo(80);
+    }
+
+    @Test
+    void generatorAheadIsLeftAlone() {
+        legacyRows(5);
+        transaction.executeWithoutResult(status ->
+                jdbcTemplate.update("INSERT INTO id_generator (sequence_name, next_val) VALUES ('employee', 500)"));
+
+        idGeneratorAlignment.run(null);
+
+        assertThat(nextVal()).isEqualTo(500);
+    }
+}
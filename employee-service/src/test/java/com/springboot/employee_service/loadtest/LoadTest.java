@@ -0,0 +1,191 @@
+package com.springboot.employee_service.loadtest;
+
+import com.springboot.employee_service.benchmark.BenchmarkApp;
+import com.springboot.employee_service.benchmark.StubAddressServer;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+
+// Repeatable load test of GET /employees/{id} without the remote MySQL: open model, constant arrival
+// rate, latency from the due time of each request (see OpenModelLoadGenerator), HdrHistogram reports.
+//
+// Default setup, all in this JVM:
+// - Employee Service on H2 (profile "h2"), seeded with "employees" rows through POST /employees/bulk.
+// - StubAddressServer instead of the Address Service, with a configurable latency (and optionally a
+//   limited number of workers → a downstream that saturates and queues).
+// Both real services on H2 in their own JVMs (generator and server no longer share the CPU):
+//   address-service:  mvn spring-boot:test-run                                     (port 8081)
+//   employee-service: mvn spring-boot:test-run -Dspring-boot.run.main-class=com.springboot.employee_service.TestEmployeeServiceApplication
+//                                                                                  (port 8080)
+//   load test:        mvn -Ploadtest test -Dloadtest.args="target=http://localhost:8080/employee-service
+//                         address=http://localhost:8081/address-service rate=500"
+//
+// Options (key=value):
+//   rate=200                      requests per second
+//   duration=30s  warmup=10s      measured phase, after a warm-up phase at the same rate (not reported)
+//   path=/employees/{id}          or /employees/{id}/async; {id} = random id of an existing employee
+//   employees=1000  seed=true     seed=true → that many employees (and their addresses when "address" is
+//                                 a URL) are imported first; the ids are then read through the CSV export
+//   timeout=5s                    per request; a timed out request counts as failed
+//   target=                       URL of a running Employee Service; empty → started in this JVM on H2
+//   address=stub                  "stub" or URL of a running Address Service
+//   address-latency=20ms  address-slow-latency=200ms  address-slow-share=0  address-workers=0   (stub only)
+//   output=target/load-test       .hgrm files (HdrHistogram percentile distributions)
+//   --some.property=value         passed on to the Employee Service started in this JVM,
+//                                 e.g. --employee.concurrency-limit.enabled=true
+//
+// Overload example (1 CPU, everything in this JVM, saturates around 150 req/s with the address cache off):
+//   rate=250 warmup=30s duration=20s --address-client.cache.enabled=false --logging.level.root=ERROR
+//   → with --employee.concurrency-limit.enabled=true: 93% ok, 7% shed (503), ok p50 250 ms / p99 1.7 s
+//     while the limit settles, then ~100 ms p50;
+//     without it (the default): requests pile up, 100% run into the 5 s timeout.
+// A slow Address Service (address-workers=2) is no such case: the circuit breaker opens and serves
+// degraded responses long before the limit is reached.
+//
+// Run: mvn -Ploadtest test -Dloadtest.args="rate=500 duration=30s"
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        List<String> springArgs = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith("--")) {
+                springArgs.add(arg);
+            } else if (arg.contains("=")) {
+                options.put(arg.substring(0, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            } else {
+                throw new IllegalArgumentException("Expected key=value or --spring.property=value: " + arg);
+            }
+        }
+        double rate = Double.parseDouble(options.getOrDefault("rate", "200"));
+        Duration duration = duration(options.getOrDefault("duration", "30s"));
+        Duration warmup = duration(options.getOrDefault("warmup", "10s"));
+        Duration timeout = duration(options.getOrDefault("timeout", "5s"));
+        String path = options.getOrDefault("path", "/employees/{id}");
+        int employees = Integer.parseInt(options.getOrDefault("employees", "1000"));
+        boolean seed = Boolean.parseBoolean(options.getOrDefault("seed", "true"));
+        String target = options.getOrDefault("target", "");
+        String address = options.getOrDefault("address", "stub");
+        Path output = Path.of(options.getOrDefault("output", "target/load-test"));
+
+        StubAddressServer stub = null;
+        ConfigurableApplicationContext context = null;
+        HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        try {
+            // Step 1: Address side → stub in this JVM, or a running Address Service.
+            String addressUrl = address;
+            if (address.equals("stub")) {
+                stub = StubAddressServer.start(duration(options.getOrDefault("address-latency", "20ms")),
+                        duration(options.getOrDefault("address-slow-latency", "200ms")),
+                        Double.parseDouble(options.getOrDefault("address-slow-share", "0")),
+                        Integer.parseInt(options.getOrDefault("address-workers", "0")));
+                addressUrl = stub.baseUrl();
+            }
+
+            // Step 2: Employee side → started here on H2, or a running Employee Service.
+            String employeeUrl = target;
+            if (target.isEmpty()) {
+                // address-client.base-url → the address side above, unless given on the command line.
+                List<String> appArgs = new ArrayList<>(springArgs);
+                if (springArgs.stream().noneMatch(given -> given.startsWith("--address-client.base-url="))) {
+                    appArgs.add("--address-client.base-url=" + addressUrl);
+                }
+                context = BenchmarkApp.start(List.of("h2"), appArgs);
+                employeeUrl = BenchmarkApp.baseUrl(context);
+            }
+
+            // Step 3: Test data.
+            if (seed) {
+                seed(httpClient, employeeUrl + "/employees/bulk", employees, i ->
+                        "{\"name\":\"Employee" + i + "\",\"email\":\"employee" + i + "@example.com\",\"age\":\"" + (20 + i % 45) + "\"}");
+            }
+
+            // Step 4: Ids to request (whatever the database handed out, not assumed to be 1..n).
+            int[] ids = employeeIds(httpClient, employeeUrl);
+            if (ids.length == 0) {
+                throw new IllegalStateException("No employees at " + employeeUrl + " (run with seed=true)");
+            }
+            if (seed && stub == null) {
+                seed(httpClient, addressUrl + "/address/bulk", ids.length, i ->
+                        "{\"employeeId\":" + ids[i - 1] + ",\"city\":\"City" + i % 500 + "\",\"state\":\"State" + i % 30 + "\"}");
+            }
+
+            // Step 5: Warm-up (JIT, pools, caches; not reported), then the measured phase.
+            System.out.printf("GET %s%s at %.0f req/s, address: %s%n", employeeUrl, path, rate,
+                    stub != null ? "stub " + options.getOrDefault("address-latency", "20ms") : addressUrl);
+            OpenModelLoadGenerator generator = new OpenModelLoadGenerator(httpClient, employeeUrl + path, ids,
+                    timeout, System.out);
+            if (!warmup.isZero()) {
+                generator.run("warm-up", rate, warmup);
+            }
+            OpenModelLoadGenerator.Result result = generator.run("measure", rate, duration);
+            String name = path.replaceAll("[^A-Za-z]+", "-").replaceAll("^-|-$", "") + "-" + Math.round(rate) + "rps";
+            generator.print(result, output, name);
+        } finally {
+            httpClient.shutdownNow();
+            if (context != null) {
+                context.close();
+            }
+            if (stub != null) {
+                stub.close();
+            }
+        }
+    }
+
+    // ================================
+    // Test data through the bulk import endpoints (one NDJSON body)
+    // ================================
+    private static void seed(HttpClient httpClient, String url, int rows, IntFunction<String> line)
+            throws IOException, InterruptedException {
+        StringBuilder body = new StringBuilder();
+        for (int i = 1; i <= rows; i++) {
+            body.append(line.apply(i)).append('\n');
+        }
+        HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/x-ndjson")
+                .POST(HttpRequest.BodyPublishers.ofString(body.toString()))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Seeding " + url + " failed: HTTP " + response.statusCode() + " " + response.body());
+        }
+        System.out.println("Seeded " + rows + " rows: " + url);
+    }
+
+    // ================================
+    // Existing employee ids (first column of GET /employees/export?format=csv, after the header)
+    // ================================
+    private static int[] employeeIds(HttpClient httpClient, String employeeUrl) throws IOException, InterruptedException {
+        HttpResponse<Stream<String>> response = httpClient.send(HttpRequest.newBuilder(
+                URI.create(employeeUrl + "/employees/export?format=csv")).build(), HttpResponse.BodyHandlers.ofLines());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Reading employee ids failed: HTTP " + response.statusCode());
+        }
+        try (Stream<String> lines = response.body()) {
+            return lines.skip(1)
+                    .filter(line -> !line.isEmpty())
+                    .mapToInt(line -> Integer.parseInt(line.substring(0, line.indexOf(','))))
+                    .toArray();
+        }
+    }
+
+    // "20ms", "30s", "2m" (same format as Duration properties in application.properties).
+    private static Duration duration(String value) {
+        return DurationStyle.detectAndParse(value);
+    }
+}
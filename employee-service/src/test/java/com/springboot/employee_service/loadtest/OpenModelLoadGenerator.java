@@ -0,0 +1,215 @@
+package com.springboot.employee_service.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+// Open-model load: requests are started on a fixed schedule (constant arrival rate), never in reaction
+// to earlier responses.
+//
+//   request i is due at  start + i / rate   → sent then, whether or not earlier requests have finished
+//   latency           =  completion − due time (not − send time)
+//
+// Why not a closed loop (N clients, each waits for its response before sending the next)?
+// When the server stalls, a closed loop stops sending: the requests that real users would have sent
+// during the stall are never made, so their waiting time is never measured ("coordinated omission"),
+// and the percentiles look far better than what users see. Here a stall keeps the schedule going,
+// requests pile up in flight, and every one of them is measured from the moment it was due. Even if this
+// generator itself falls behind (GC, CPU), the delay is charged to the request (see maxLag).
+//
+// Outcomes are recorded in separate HdrHistograms (microseconds):
+// - ok       → 2xx
+// - shed     → 503 (load shedding: should be fast)
+// - failed   → any other status, connection errors, timeouts
+final class OpenModelLoadGenerator {
+
+    private static final long REPORT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final HttpClient httpClient;
+    private final String urlTemplate;   // "{id}" is replaced by a random one of "ids".
+    private final int[] ids;
+    private final Duration timeout;
+    private final PrintStream out;
+
+    private final Recorder ok = new Recorder(3);
+    private final Recorder shed = new Recorder(3);
+    private final Recorder failed = new Recorder(3);
+    private final LongAdder timeouts = new LongAdder();
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final AtomicLong maxLagNanos = new AtomicLong();
+
+    OpenModelLoadGenerator(HttpClient httpClient, String urlTemplate, int[] ids, Duration timeout, PrintStream out) {
+        this.httpClient = httpClient;
+        this.urlTemplate = urlTemplate;
+        this.ids = ids;
+        this.timeout = timeout;
+        this.out = out;
+    }
+
+    // Totals of one phase (warm-up or measurement).
+    record Result(double rate, Duration duration, long sent, Histogram ok, Histogram shed, Histogram failed,
+                  long timeouts, long maxLagNanos) {
+    }
+
+    // ================================
+    // One phase at a constant rate
+    // ================================
+    // Sends for "duration", then waits (at most the request timeout) for the requests still in flight,
+    // so the slowest ones are part of the result. A line per second shows the progress.
+    Result run(String phase, double rate, Duration duration) throws InterruptedException {
+        Histogram okTotal = new Histogram(3);
+        Histogram shedTotal = new Histogram(3);
+        Histogram failedTotal = new Histogram(3);
+        long timeoutsBefore = timeouts.sum();
+        maxLagNanos.set(0);
+        resetRecorders();
+
+        ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor();
+        long start = System.nanoTime();
+        reporter.scheduleAtFixedRate(() -> report(phase, start, okTotal, shedTotal, failedTotal),
+                REPORT_INTERVAL_NANOS, REPORT_INTERVAL_NANOS, TimeUnit.NANOSECONDS);
+
+        // Step 1: Send on schedule. Due times are computed from the start, so rounding never drifts.
+        long end = start + duration.toNanos();
+        long sent = 0;
+        for (long due = start; due < end; due = start + (long) (++sent * 1e9 / rate)) {
+            long now;
+            while ((now = System.nanoTime()) < due) {
+                LockSupport.parkNanos(due - now);
+            }
+            maxLagNanos.accumulateAndGet(now - due, Math::max);
+            send(due);
+        }
+
+        // Step 2: Let the stragglers finish (their latency counts as well).
+        long drainUntil = System.nanoTime() + timeout.toNanos() + TimeUnit.SECONDS.toNanos(1);
+        while (inflight.get() > 0 && System.nanoTime() < drainUntil) {
+            Thread.sleep(10);
+        }
+        reporter.shutdownNow();
+        reporter.awaitTermination(1, TimeUnit.SECONDS);
+        synchronized (this) {
+            collect(okTotal, shedTotal, failedTotal);
+        }
+        return new Result(rate, duration, sent, okTotal, shedTotal, failedTotal, timeouts.sum() - timeoutsBefore,
+                maxLagNanos.get());
+    }
+
+    // ================================
+    // Summary + .hgrm files
+    // ================================
+    // The .hgrm files are HdrHistogram's percentile distribution format (values in ms), which the
+    // HdrHistogram plotter (hdrhistogram.github.io/HdrHistogram/plotFiles.html) draws and compares.
+    void print(Result result, Path directory, String name) throws IOException {
+        out.printf("%n=== %s: %.0f req/s for %ds ===%n", name, result.rate(), result.duration().toSeconds());
+        out.printf("sent %,d | ok %,d | shed (503) %,d | failed %,d (timeouts %,d) | generator lag max %.1f ms%n",
+                result.sent(), result.ok().getTotalCount(), result.shed().getTotalCount(),
+                result.failed().getTotalCount(), result.timeouts(), result.maxLagNanos() / 1e6);
+        out.printf("%-8s %10s %10s %10s %10s %10s %10s   (ms, from due time)%n", "", "p50", "p90", "p99", "p99.9", "p99.99", "max");
+        printLine("ok", result.ok());
+        printLine("shed", result.shed());
+        printLine("failed", result.failed());
+
+        Files.createDirectories(directory);
+        writeHgrm(directory.resolve(name + "-ok.hgrm"), result.ok());
+        writeHgrm(directory.resolve(name + "-shed.hgrm"), result.shed());
+        writeHgrm(directory.resolve(name + "-failed.hgrm"), result.failed());
+        if (result.maxLagNanos() > TimeUnit.MILLISECONDS.toNanos(100)) {
+            out.println("Note: the generator fell behind its schedule (lag above) and caught up in bursts; the latencies"
+                    + " include that delay. Run the services in their own JVMs (see LoadTest) for cleaner numbers.");
+        }
+    }
+
+    private void writeHgrm(Path file, Histogram histogram) throws IOException {
+        if (histogram.getTotalCount() == 0) {
+            return;
+        }
+        try (PrintStream hgrm = new PrintStream(Files.newOutputStream(file))) {
+            histogram.outputPercentileDistribution(hgrm, 1000.0);
+        }
+        out.println("histogram: " + file);
+    }
+
+    private void printLine(String label, Histogram histogram) {
+        if (histogram.getTotalCount() == 0) {
+            out.printf("%-8s %10s%n", label, "-");
+            return;
+        }
+        out.printf("%-8s %10.1f %10.1f %10.1f %10.1f %10.1f %10.1f%n", label,
+                histogram.getValueAtPercentile(50) / 1000.0, histogram.getValueAtPercentile(90) / 1000.0,
+                histogram.getValueAtPercentile(99) / 1000.0, histogram.getValueAtPercentile(99.9) / 1000.0,
+                histogram.getValueAtPercentile(99.99) / 1000.0, histogram.getMaxValue() / 1000.0);
+    }
+
+    // ================================
+    // One request (asynchronous → the schedule never waits for it)
+    // ================================
+    private void send(long due) {
+        String url = urlTemplate.replace("{id}", Integer.toString(ids[ThreadLocalRandom.current().nextInt(ids.length)]));
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url)).timeout(timeout).build();
+        inflight.incrementAndGet();
+        httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, failure) -> {
+            long micros = Math.max(1, (System.nanoTime() - due) / 1000);
+            if (failure != null) {
+                if (failure.getCause() instanceof HttpTimeoutException || failure instanceof HttpTimeoutException) {
+                    timeouts.increment();
+                }
+                failed.recordValue(micros);
+            } else if (response.statusCode() / 100 == 2) {
+                ok.recordValue(micros);
+            } else if (response.statusCode() == 503) {
+                shed.recordValue(micros);
+            } else {
+                failed.recordValue(micros);
+            }
+            inflight.decrementAndGet();
+        });
+    }
+
+    // ================================
+    // Progress line (once per second)
+    // ================================
+    private synchronized void report(String phase, long start, Histogram okTotal, Histogram shedTotal, Histogram failedTotal) {
+        Histogram okInterval = ok.getIntervalHistogram();
+        Histogram shedInterval = shed.getIntervalHistogram();
+        Histogram failedInterval = failed.getIntervalHistogram();
+        okTotal.add(okInterval);
+        shedTotal.add(shedInterval);
+        failedTotal.add(failedInterval);
+        out.printf("%-7s %3ds | ok %,6d/s p50 %7.1f p99 %7.1f ms | shed %,6d/s | failed %,6d/s | in flight %,d%n",
+                phase, Math.round((System.nanoTime() - start) / 1e9),
+                okInterval.getTotalCount(), okInterval.getValueAtPercentile(50) / 1000.0,
+                okInterval.getValueAtPercentile(99) / 1000.0,
+                shedInterval.getTotalCount(), failedInterval.getTotalCount(), inflight.get());
+    }
+
+    private void collect(Histogram okTotal, Histogram shedTotal, Histogram failedTotal) {
+        okTotal.add(ok.getIntervalHistogram());
+        shedTotal.add(shed.getIntervalHistogram());
+        failedTotal.add(failed.getIntervalHistogram());
+    }
+
+    private synchronized void resetRecorders() {
+        ok.reset();
+        shed.reset();
+        failed.reset();
+    }
+}
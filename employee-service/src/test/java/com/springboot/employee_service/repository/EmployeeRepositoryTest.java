@@ -0,0 +1,58 @@
+package com.springboot.employee_service.repository;
+
+import com.springboot.employee_service.entity.Employee;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.data.domain.Limit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Keyset export query: rows after the cursor, in id order, at most "limit" of them.
+@DataJpaTest
+class EmployeeRepositoryTest {
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    private List<Integer> saveEmployees(int count) {
+        return IntStream.rangeClosed(1, count)
+                .mapToObj(n -> employeeRepository.save(new Employee(0, "Employee" + n, "employee" + n + "@example.com", "30")).getId())
+                .sorted()
+                .toList();
+    }
+
+    @Test
+    void pagesWalkTheTableInIdOrderWithoutGapsOrRepeats() {
+        List<Integer> ids = saveEmployees(5);
+
+        List<Integer> exported = new ArrayList<>();
+        int afterId = 0;
+        List<EmployeeRow> page;
+        do {
+            page = employeeRepository.findExportPage(afterId, Limit.of(2));
+            assertThat(page).hasSizeLessThanOrEqualTo(2);
+            page.forEach(row -> exported.add(row.id()));
+            if (!page.isEmpty()) {
+                afterId = page.getLast().id();
+            }
+        } while (page.size() == 2);
+
+        assertThat(exported).containsExactlyElementsOf(ids);
+    }
+
+    @Test
+    void pageStartsAfterTheCursorAndCarriesTheColumns() {
+        List<Integer> ids = saveEmployees(4);
+
+        List<EmployeeRow> page = employeeRepository.findExportPage(ids.get(1), Limit.of(10));
+
+        assertThat(page).extracting(EmployeeRow::id).containsExactly(ids.get(2), ids.get(3));
+        assertThat(page.getFirst().email()).endsWith("@example.com");
+        assertThat(employeeRepository.findExportPage(ids.getLast(), Limit.of(10))).isEmpty();
+    }
+}
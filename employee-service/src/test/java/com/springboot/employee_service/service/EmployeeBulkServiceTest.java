@@ -0,0 +1,125 @@
+package com.springboot.employee_service.service;
+
+import com.springboot.employee_service.entity.Employee;
+import com.springboot.employee_service.repository.EmployeeRepository;
+import com.springboot.employee_service.response.BulkImportResponse;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// NDJSON bulk import: one flush + commit per chunk of 2 lines, a bad line stops the import and keeps the committed chunks.
+@DataJpaTest(properties = "employee.bulk.chunk-size=2")
+@Import({EmployeeBulkService.class, EmployeeBulkServiceTest.Json.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // The service commits its own chunk transactions.
+class EmployeeBulkServiceTest {
+
+    @Autowired
+    private EmployeeBulkService employeeBulkService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @TestConfiguration
+    static class Json {
+
+        @Bean
+        JsonMapper jsonMapper() {
+            return JsonMapper.builder().build();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        employeeRepository.deleteAllInBatch();
+    }
+
+    private BulkImportResponse importLines(String... lines) {
+        String body = String.join("\n", lines) + "\n";
+        return employeeBulkService.importEmployees(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String newEmployee(int n) {
+        return "{\"name\":\"Employee" + n + "\",\"email\":\"employee" + n + "@example.com\",\"age\":\"3" + n + "\"}";
+    }
+
+    @Test
+    void linesWithoutIdAreCreatedOneChunkAtATime() {
+        BulkImportResponse result = importLines(newEmployee(1), newEmployee(2), newEmployee(3), newEmployee(4), newEmployee(5));
+
+        assertThat(result.getError()).isNull();
+        assertThat(result.getRows()).isEqualTo(5);
+        assertThat(result.getCreated()).isEqualTo(5);
+        assertThat(employeeRepository.count()).isEqualTo(5);
+        // 2 + 2 + 1 lines → 3 chunks, each flushed and committed on its own.
+        assertThat(statistics.getFlushCount()).isEqualTo(3);
+        assertThat(statistics.getSuccessfulTransactionCount()).isGreaterThanOrEqualTo(3);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(5);
+    }
+
+    @Test
+    void linesWithIdUpdateOnlyWhatChanged() {
+        Employee changed = employeeRepository.save(new Employee(0, "Asha", "asha@example.com", "30"));
+        Employee same = employeeRepository.save(new Employee(0, "Ravi", "ravi@example.com", "41"));
+        statistics.clear();
+
+        BulkImportResponse result = importLines(
+                "{\"id\":" + changed.getId() + ",\"name\":\"Asha Rani\",\"email\":\"asha@example.com\",\"age\":\"31\"}",
+                "{\"id\":" + same.getId() + ",\"name\":\"Ravi\",\"email\":\"ravi@example.com\",\"age\":\"41\"}",
+                "{\"id\":999999,\"name\":\"Nobody\",\"email\":\"nobody@example.com\",\"age\":\"50\"}");
+
+        assertThat(result.getError()).isNull();
+        assertThat(result.getUpdated()).isEqualTo(1);
+        assertThat(result.getUnchanged()).isEqualTo(1);
+        assertThat(result.getNotFound()).isEqualTo(1);
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+        assertThat(employeeRepository.findById(changed.getId())).get()
+                .extracting(Employee::getName, Employee::getAge).containsExactly("Asha Rani", "31");
+    }
+
+    @Test
+    void malformedLineStopsTheImportAndKeepsCommittedChunks() {
+        BulkImportResponse result = importLines(newEmployee(1), newEmployee(2), newEmployee(3), "{\"name\":");
+
+        // Chunk 1 (lines 1-2) is committed, line 3 shared its chunk with the bad line 4 → dropped.
+        assertThat(result.getError()).startsWith("Line 4: ").contains("2 rows before it were imported");
+        assertThat(result.getRows()).isEqualTo(2);
+        assertThat(employeeRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void nonPositiveIdIsRejected() {
+        BulkImportResponse result = importLines("{\"id\":0,\"name\":\"Zero\",\"email\":\"zero@example.com\",\"age\":\"20\"}");
+
+        assertThat(result.getError()).startsWith("Line 1: id must be positive");
+        assertThat(result.getRows()).isZero();
+        assertThat(employeeRepository.count()).isZero();
+    }
+}
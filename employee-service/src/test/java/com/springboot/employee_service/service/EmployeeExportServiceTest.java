@@ -0,0 +1,125 @@
+package com.springboot.employee_service.service;
+
+import com.springboot.employee_service.client.AddressCache;
+import com.springboot.employee_service.repository.EmployeeRepository;
+import com.springboot.employee_service.repository.EmployeeRow;
+import com.springboot.employee_service.response.AddressResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// Keyset export: pages follow the last id, one address batch call per page, a short page ends the export.
+class EmployeeExportServiceTest {
+
+    private static final Limit PAGE = Limit.of(2);
+
+    private final EmployeeRepository employeeRepository = mock(EmployeeRepository.class);
+    private final AddressCache addressCache = mock(AddressCache.class);
+    private final EmployeeExportService employeeExportService = new EmployeeExportService();
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(employeeExportService, "employeeRepository", employeeRepository);
+        ReflectionTestUtils.setField(employeeExportService, "addressCache", addressCache);
+        ReflectionTestUtils.setField(employeeExportService, "jsonMapper", JsonMapper.builder().build());
+        ReflectionTestUtils.setField(employeeExportService, "pageSize", 2);
+        when(addressCache.getAddressesUncached(anyCollection())).thenReturn(Map.of());
+    }
+
+    private static List<EmployeeRow> rows(int... ids) {
+        return IntStream.of(ids).mapToObj(id -> new EmployeeRow(id, "Employee" + id, "employee" + id + "@example.com", "3" + id)).toList();
+    }
+
+    private String body() {
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void pagesContinueAfterTheLastIdUntilAShortPage() throws Exception {
+        when(employeeRepository.findExportPage(0, PAGE)).thenReturn(rows(3, 7));
+        when(employeeRepository.findExportPage(7, PAGE)).thenReturn(rows(8, 12));
+        when(employeeRepository.findExportPage(12, PAGE)).thenReturn(rows(15));
+
+        assertThat(employeeExportService.exportEmployees(EmployeeExportService.Format.NDJSON, out)).isEqualTo(5);
+
+        var order = inOrder(employeeRepository, addressCache);
+        order.verify(employeeRepository).findExportPage(0, PAGE);
+        order.verify(addressCache).getAddressesUncached(List.of(3, 7));
+        order.verify(employeeRepository).findExportPage(7, PAGE);
+        order.verify(addressCache).getAddressesUncached(List.of(8, 12));
+        order.verify(employeeRepository).findExportPage(12, PAGE);
+        order.verify(addressCache).getAddressesUncached(List.of(15));
+        verify(employeeRepository, never()).findExportPage(eq(15), eq(PAGE));
+        assertThat(body().lines()).hasSize(5).allMatch(line -> line.startsWith("{\"id\":"));
+        assertThat(body()).endsWith("}\n");
+    }
+
+    @Test
+    void fullLastPageNeedsOneEmptyPageToEnd() throws Exception {
+        when(employeeRepository.findExportPage(0, PAGE)).thenReturn(rows(1, 2));
+        when(employeeRepository.findExportPage(2, PAGE)).thenReturn(List.of());
+
+        assertThat(employeeExportService.exportEmployees(EmployeeExportService.Format.NDJSON, out)).isEqualTo(2);
+        verify(addressCache).getAddressesUncached(anyCollection());
+    }
+
+    @Test
+    void emptyTableGivesEmptyNdjsonAndCsvHeaderOnly() throws Exception {
+        when(employeeRepository.findExportPage(anyInt(), eq(PAGE))).thenReturn(List.of());
+
+        assertThat(employeeExportService.exportEmployees(EmployeeExportService.Format.NDJSON, out)).isZero();
+        assertThat(body()).isEmpty();
+        employeeExportService.exportEmployees(EmployeeExportService.Format.CSV, out);
+        assertThat(body()).isEqualTo("id,name,email,age,address_id,city,state\r\n");
+        verify(addressCache, never()).getAddressesUncached(anyCollection());
+    }
+
+    @Test
+    void csvJoinsAddressesAndQuotesSpecialCharacters() throws Exception {
+        when(employeeRepository.findExportPage(0, PAGE)).thenReturn(List.of(
+                new EmployeeRow(1, "Singh, Asha", "asha@example.com", "31"),
+                new EmployeeRow(2, "Ravi \"R\"", "ravi@example.com", "41")));
+        when(employeeRepository.findExportPage(2, PAGE)).thenReturn(List.of());
+        when(addressCache.getAddressesUncached(List.of(1, 2))).thenReturn(Map.of(1, new AddressResponse(7, "Ludhiana", "Punjab")));
+
+        employeeExportService.exportEmployees(EmployeeExportService.Format.CSV, out);
+
+        assertThat(body()).isEqualTo("id,name,email,age,address_id,city,state\r\n"
+                + "1,\"Singh, Asha\",asha@example.com,31,7,Ludhiana,Punjab\r\n"
+                + "2,\"Ravi \"\"R\"\"\",ravi@example.com,41,,,\r\n");
+    }
+
+    @Test
+    void addressFailureStopsAfterTheWrittenPagesWithoutEndingTheBody() {
+        IllegalStateException down = new IllegalStateException("Address Service down");
+        when(employeeRepository.findExportPage(0, PAGE)).thenReturn(rows(1, 2));
+        when(employeeRepository.findExportPage(2, PAGE)).thenReturn(rows(3, 4));
+        when(addressCache.getAddressesUncached(List.of(3, 4))).thenThrow(down);
+
+        assertThatThrownBy(() -> employeeExportService.exportEmployees(EmployeeExportService.Format.NDJSON, out)).isSameAs(down);
+
+        // Page 1 went out; its last line has no terminating newline → the client sees a truncated body.
+        assertThat(body().lines()).hasSize(2);
+        assertThat(body()).doesNotEndWith("\n");
+    }
+}
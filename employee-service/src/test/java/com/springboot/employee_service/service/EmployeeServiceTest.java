@@ -0,0 +1,137 @@
+package com.springboot.employee_service.service;
+
+import com.springboot.employee_service.client.AddressCache;
+import com.springboot.employee_service.entity.Employee;
+import com.springboot.employee_service.mapper.EmployeeMapper;
+import com.springboot.employee_service.repository.EmployeeRepository;
+import com.springboot.employee_service.response.AddressResponse;
+import com.springboot.employee_service.response.EmployeeResponse;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+// getEmployeeById in parallel mode: address call on the executor, DB read on the caller's thread,
+// cancelled when the employee is missing, inline when the executor rejects it.
+class EmployeeServiceTest {
+
+    private final EmployeeRepository repository = mock(EmployeeRepository.class);
+    private final AddressCache addressCache = mock(AddressCache.class);
+    private final AsyncTaskExecutor taskExecutor = spy(new SimpleAsyncTaskExecutor("address-"));
+    private final EmployeeService service = new EmployeeService();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "employeeRepository", repository);
+        ReflectionTestUtils.setField(service, "employeeMapper", Mappers.getMapper(EmployeeMapper.class));
+        ReflectionTestUtils.setField(service, "addressCache", addressCache);
+        ReflectionTestUtils.setField(service, "taskExecutor", taskExecutor);
+        ReflectionTestUtils.setField(service, "observationRegistry", ObservationRegistry.NOOP);
+        ReflectionTestUtils.setField(service, "parallelLookup", true);
+        when(repository.findById(7)).thenReturn(Optional.of(new Employee(7, "Ada", "ada@example.com", "36")));
+    }
+
+    @Test
+    void dbReadAndAddressCallOverlap() throws Exception {
+        // The address call only finishes after the DB read has started → they must run at the same time.
+        CountDownLatch dbReadStarted = new CountDownLatch(1);
+        when(repository.findById(7)).thenAnswer(invocation -> {
+            dbReadStarted.countDown();
+            return Optional.of(new Employee(7, "Ada", "ada@example.com", "36"));
+        });
+        when(addressCache.getAddress(7)).thenAnswer(invocation -> {
+            assertThat(dbReadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            return address(70);
+        });
+
+        EmployeeResponse response = service.getEmployeeById(7);
+
+        assertThat(response.getName()).isEqualTo("Ada");
+        assertThat(response.getAddressResponse().getId()).isEqualTo(70);
+    }
+
+    @Test
+    void addressInMemoryIsReadWithoutTheExecutor() {
+        when(addressCache.isLocal(7)).thenReturn(true);
+        when(addressCache.getAddress(7)).thenReturn(address(70));
+
+        EmployeeResponse response = service.getEmployeeById(7);
+
+        assertThat(response.getAddressResponse().getId()).isEqualTo(70);
+        verifyNoInteractions(taskExecutor);
+    }
+
+    @Test
+    void addressFailureReachesTheCallerUnwrapped() {
+        when(addressCache.getAddress(7)).thenThrow(new IllegalStateException("Address Service call failed"));
+
+        assertThatThrownBy(() -> service.getEmployeeById(7))
+                .isExactlyInstanceOf(IllegalStateException.class)
+                .hasMessage("Address Service call failed");
+    }
+
+    @Test
+    void missingEmployeeCancelsTheInFlightAddressCall() throws Exception {
+        // The address call blocks until it is interrupted → the cancel in the finally block must reach it.
+        CountDownLatch addressCallStarted = new CountDownLatch(1);
+        CountDownLatch addressCallInterrupted = new CountDownLatch(1);
+        when(repository.findById(8)).thenAnswer(invocation -> {
+            assertThat(addressCallStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            return Optional.empty();
+        });
+        when(addressCache.getAddress(8)).thenAnswer(invocation -> {
+            addressCallStarted.countDown();
+            try {
+                Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+            } catch (InterruptedException e) {
+                addressCallInterrupted.countDown();
+            }
+            return null;
+        });
+
+        assertThatThrownBy(() -> service.getEmployeeById(8)).hasMessage("Employee not found");
+        assertThat(addressCallInterrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void rejectedAddressCallRunsOnTheCallersThread() {
+        doThrow(new TaskRejectedException("queue full")).when(taskExecutor).submit(any(Callable.class));
+        Thread caller = Thread.currentThread();
+        when(addressCache.getAddress(7)).thenAnswer(invocation -> {
+            assertThat(Thread.currentThread()).isSameAs(caller);
+            return address(70);
+        });
+
+        EmployeeResponse response = service.getEmployeeById(7);
+
+        assertThat(response.getAddressResponse().getId()).isEqualTo(70);
+        verify(addressCache).getAddress(7);
+    }
+
+    private static AddressResponse address(int id) {
+        AddressResponse address = new AddressResponse();
+        address.setId(id);
+        address.setCity("Springfield");
+        address.setState("IL");
+        return address;
+    }
+}